@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+#
+# Records a JMH baseline of the container at a commit.
+#
+# Usage: benchmarks/baseline.sh [commit] [JMH options...]
+#
+# The commit defaults to fdfc01f, the container before the performance work.
+# Its library is built in a temporary worktree and installed under the version
+# <version>-<sha>, so the current build in the local repository is left alone.
+# The benchmarks of the baseline profile, which only use the API the container
+# already had then, are built from this tree against it and run. The JMH report
+# is written to benchmarks/baseline/<sha>.json and the JVM and hardware it ran
+# on to benchmarks/baseline/<sha>.txt. Further arguments are passed to JMH, for
+# example -p size=100.
+
+set -euo pipefail
+
+root="$(git -C "$(dirname "$0")" rev-parse --show-toplevel)"
+output="$root/benchmarks/baseline"
+commit="${1:-fdfc01f}"
+shift || true
+sha="$(git -C "$root" rev-parse --short "$commit^{commit}")"
+
+worktree="$(mktemp -d)"
+trap 'git -C "$root" worktree remove --force "$worktree"' EXIT
+git -C "$root" worktree add --detach "$worktree" "$sha" >/dev/null
+
+version="$(mvn -B -q -f "$worktree/pom.xml" help:evaluate -Dexpression=project.version -DforceStdout)-$sha"
+mvn -B -q -f "$worktree/pom.xml" package -DskipTests -Dspotless.check.skip=true
+mvn -B -q install:install-file \
+    -Dfile="$(ls "$worktree"/target/reactifyx-ioc-*.jar | grep -v -e sources -e javadoc | head -1)" \
+    -DpomFile="$worktree/pom.xml" \
+    -Dversion="$version"
+
+# The benchmarks of this tree, built apart from its own target directory
+benchmarks="$worktree/baseline-benchmarks"
+mkdir -p "$benchmarks"
+cp -r "$root/benchmarks/pom.xml" "$root/benchmarks/src" "$benchmarks"
+mvn -B -q -f "$benchmarks/pom.xml" package -Pbaseline -Dreactifyx-ioc.version="$version"
+
+mkdir -p "$output"
+{
+    echo "commit: $(git -C "$root" rev-parse "$sha")"
+    echo "jmh options: $*"
+    echo "java: $(java -version 2>&1 | tr '\n' ' ')"
+    echo "os: $(uname -srm)"
+    echo "cpu: $(grep -m1 'model name' /proc/cpuinfo 2>/dev/null | cut -d: -f2- | sed 's/^ //' || sysctl -n machdep.cpu.brand_string)"
+    echo "cores: $(getconf _NPROCESSORS_ONLN)"
+    echo "memory: $(grep -m1 MemTotal /proc/meminfo 2>/dev/null | awk '{print $2 " kB"}' || sysctl -n hw.memsize)"
+} > "$output/$sha.txt"
+java -jar "$benchmarks/target/benchmarks.jar" -rf json -rff "$output/$sha.json" "$@"
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks;
+
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of {@code initBeans} over generated graphs of increasing size.
+ *
+ * <p>
+ * Every invocation starts a new container on a fresh class loader, so the
+ * classes of the graph are loaded and initialized each time. The default
+ * executor is compared with creating every bean on the calling thread.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    @Param({"default", "caller"})
+    String executor;
+
+    private SyntheticGraph graph;
+    private Class<?> mainClass;
+    private ClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        graph = SyntheticGraph.generate("com.reactifyx.benchmarks.generated.startup", size);
+    }
+
+    @Setup(Level.Invocation)
+    public void load() throws ClassNotFoundException {
+        classLoader = graph.newClassLoader(graph.getClassesDirectory());
+        mainClass = graph.mainClass(classLoader);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        graph.close();
+    }
+
+    @Benchmark
+    public ReactifyIoC initBeans() {
+        IoCOptions options = new IoCOptions();
+        if ("caller".equals(executor)) {
+            options.executor(Runnable::run);
+        }
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return ReactifyIoC.initBeans(options, mainClass);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
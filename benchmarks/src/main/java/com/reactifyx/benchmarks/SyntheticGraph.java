@@ -0,0 +1,221 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * A package of generated components, compiled into a temporary directory with
+ * the container's annotation processors when the container has them.
+ *
+ * <p>
+ * Component {@code i} takes component {@code i - 1} as a constructor parameter,
+ * except at the start of each chain of ten, and has component {@code i / 2}
+ * injected into a field. The graph therefore combines short constructor chains
+ * with the fan-in of a binary tree, and every component is reachable from the
+ * generated {@code Main} class annotated with {@code @ComponentScan}.
+ * </p>
+ */
+public final class SyntheticGraph implements AutoCloseable {
+
+    /** Length of the constructor chains. */
+    private static final int CHAIN = 10;
+
+    private final String packageName;
+    private final Path directory;
+
+    private SyntheticGraph(String packageName, Path directory) {
+        this.packageName = packageName;
+        this.directory = directory;
+    }
+
+    /**
+     * Generates and compiles a graph.
+     *
+     * @param packageName
+     *            the package of the generated classes
+     * @param size
+     *            the number of components
+     * @return the compiled graph
+     * @throws IOException
+     *             if the sources cannot be written or do not compile
+     */
+    public static SyntheticGraph generate(String packageName, int size) throws IOException {
+        Path directory = Files.createTempDirectory("reactifyx-graph");
+        Path sources = directory.resolve("src").resolve(packageName.replace('.', '/'));
+        Path classes = directory.resolve("classes");
+        Files.createDirectories(sources);
+        Files.createDirectories(classes);
+
+        List<String> files = new ArrayList<>(size + 1);
+        files.add(write(
+                sources,
+                "Main",
+                "@com.reactifyx.ComponentScan(\"" + packageName + "\")\n" + "public class Main {}\n",
+                packageName));
+        for (int i = 0; i < size; i++) {
+            files.add(write(sources, "C" + i, component(i), packageName));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Generating a graph requires a JDK");
+        }
+        List<String> arguments =
+                new ArrayList<>(Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", classes.toString()));
+        // Builds against the container before the performance work have no processors
+        if (SyntheticGraph.class.getClassLoader().getResource("com/reactifyx/processor/InjectorProcessor.class")
+                != null) {
+            arguments.add("-processor");
+            arguments.add("com.reactifyx.processor.ComponentIndexProcessor,com.reactifyx.processor.InjectorProcessor");
+        } else {
+            arguments.add("-proc:none");
+        }
+        arguments.addAll(files);
+        if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IOException("Generated graph of " + size + " components does not compile");
+        }
+        return new SyntheticGraph(packageName, directory);
+    }
+
+    private static String component(int i) {
+        StringBuilder source = new StringBuilder();
+        source.append("@com.reactifyx.Component\npublic class C").append(i).append(" {\n");
+        if (i > 0) {
+            source.append("    @com.reactifyx.Autowired\n    C").append(i / 2).append(" parent;\n");
+        }
+        if (i % CHAIN != 0) {
+            source.append("    final C").append(i - 1).append(" previous;\n\n");
+            source.append("    @com.reactifyx.Autowired\n    public C")
+                    .append(i)
+                    .append("(C")
+                    .append(i - 1)
+                    .append(" previous) {\n        this.previous = previous;\n    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static String write(Path directory, String name, String body, String packageName) throws IOException {
+        Path file = directory.resolve(name + ".java");
+        Files.write(file, ("package " + packageName + ";\n\n" + body).getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    /**
+     * Returns the package of the generated classes.
+     *
+     * @return the package name
+     */
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Returns the directory holding the compiled classes and the component
+     * index.
+     *
+     * @return the class output directory
+     */
+    public Path getClassesDirectory() {
+        return directory.resolve("classes");
+    }
+
+    /**
+     * Packs the compiled classes into a jar, once.
+     *
+     * @return the jar file
+     * @throws IOException
+     *             if the jar cannot be written
+     */
+    public Path toJar() throws IOException {
+        Path jar = directory.resolve("graph.jar");
+        if (Files.exists(jar)) {
+            return jar;
+        }
+        Path classes = getClassesDirectory();
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out);
+                Stream<Path> files = Files.walk(classes)) {
+            // Directory entries let class loaders resolve the package as a resource
+            for (Path file : files.filter(file -> !file.equals(classes)).collect(Collectors.toList())) {
+                String name = classes.relativize(file).toString().replace('\\', '/');
+                boolean directory = Files.isDirectory(file);
+                jarOut.putNextEntry(new JarEntry(directory ? name + "/" : name));
+                if (!directory) {
+                    Files.copy(file, jarOut);
+                }
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    /**
+     * Creates a fresh class loader for the compiled classes, so that no class of
+     * the graph has been loaded yet.
+     *
+     * @param root
+     *            the class directory or jar to load from
+     * @return the class loader, whose parent is the benchmark's class loader
+     */
+    public ClassLoader newClassLoader(Path root) {
+        try {
+            return new URLClassLoader(new URL[] {root.toUri().toURL()}, SyntheticGraph.class.getClassLoader());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads the generated {@code Main} class.
+     *
+     * @param classLoader
+     *            a class loader returned by {@link #newClassLoader(Path)}
+     * @return the class to pass to {@code ReactifyIoC.initBeans}
+     * @throws ClassNotFoundException
+     *             if the class loader does not see the graph
+     */
+    public Class<?> mainClass(ClassLoader classLoader) throws ClassNotFoundException {
+        return Class.forName(packageName + ".Main", false, classLoader);
+    }
+
+    /** Deletes the generated files. */
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+}
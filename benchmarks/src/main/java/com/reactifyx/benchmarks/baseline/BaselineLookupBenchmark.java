@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks.baseline;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.benchmarks.baseline.beans.Repository;
+import com.reactifyx.benchmarks.baseline.beans.Service;
+import com.reactifyx.core.ReactifyIoC;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@code getBean} after startup, by class and by interface with a
+ * single implementation, the lookups the container already had before the
+ * performance work.
+ */
+@ComponentScan("com.reactifyx.benchmarks.baseline.beans")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class BaselineLookupBenchmark {
+
+    private ReactifyIoC reactifyIoC;
+
+    @Setup
+    public void init() {
+        reactifyIoC = ReactifyIoC.initBeans(BaselineLookupBenchmark.class);
+    }
+
+    @Benchmark
+    public Service getBeanByClass() {
+        return reactifyIoC.getBean(Service.class);
+    }
+
+    @Benchmark
+    public Repository getBeanByInterface() {
+        return reactifyIoC.getBean(Repository.class);
+    }
+}
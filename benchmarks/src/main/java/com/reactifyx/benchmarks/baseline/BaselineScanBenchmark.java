@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks.baseline;
+
+import com.reactifyx.benchmarks.SyntheticGraph;
+import com.reactifyx.utils.ClassLoaderUtil;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link ClassLoaderUtil#getClasses(String)} over the same classes in a
+ * directory and in a jar, the scan the container used before the performance
+ * work. How the container discovers its components today is part of
+ * {@link BaselineStartupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaselineScanBenchmark {
+
+    @Param({"1000"})
+    int size;
+
+    @Param({"directory", "jar"})
+    String layout;
+
+    private SyntheticGraph graph;
+    private Path root;
+    private ClassLoader classLoader;
+    private Method getClasses;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        graph = SyntheticGraph.generate("com.reactifyx.benchmarks.generated.baseline.scan", size);
+        root = "jar".equals(layout) ? graph.toJar() : graph.getClassesDirectory();
+    }
+
+    @Setup(Level.Invocation)
+    public void load() throws ReflectiveOperationException {
+        classLoader = Isolation.newClassLoader(root);
+        getClasses = classLoader.loadClass(ClassLoaderUtil.class.getName()).getMethod("getClasses", String.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        graph.close();
+    }
+
+    @Benchmark
+    public Object scan() throws Exception {
+        return Isolation.call(classLoader, () -> getClasses.invoke(null, graph.getPackageName()));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks.baseline;
+
+import com.reactifyx.benchmarks.SyntheticGraph;
+import com.reactifyx.core.ReactifyIoC;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of {@code initBeans(Class)} over generated graphs of increasing size,
+ * the way it could already be called before the performance work.
+ *
+ * <p>
+ * Every invocation loads the container and the graph on a fresh class loader,
+ * see {@link Isolation}, and starts it with its default options.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaselineStartupBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    private SyntheticGraph graph;
+    private ClassLoader classLoader;
+    private Method initBeans;
+    private Class<?> mainClass;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        graph = SyntheticGraph.generate("com.reactifyx.benchmarks.generated.baseline.startup", size);
+    }
+
+    @Setup(Level.Invocation)
+    public void load() throws ReflectiveOperationException {
+        classLoader = Isolation.newClassLoader(graph.getClassesDirectory());
+        initBeans = classLoader.loadClass(ReactifyIoC.class.getName()).getMethod("initBeans", Class.class, Object[].class);
+        mainClass = graph.mainClass(classLoader);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        graph.close();
+    }
+
+    @Benchmark
+    public Object initBeans() throws Exception {
+        return Isolation.call(classLoader, () -> initBeans.invoke(null, mainClass, new Object[0]));
+    }
+}
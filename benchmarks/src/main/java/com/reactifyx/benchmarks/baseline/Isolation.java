@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks.baseline;
+
+import com.reactifyx.core.ReactifyIoC;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+/**
+ * Loads the container afresh together with a generated graph.
+ *
+ * <p>
+ * Before the performance work the container loaded the classes it scanned
+ * through its own class loader, so it only sees a graph that shares that class
+ * loader. Every measurement made this way therefore also loads the classes of
+ * the container.
+ * </p>
+ */
+final class Isolation {
+
+    private Isolation() {}
+
+    /**
+     * Creates a class loader for the container and the graph in a root, whose
+     * parent only sees the platform classes.
+     *
+     * @param root
+     *            the class directory or jar of the graph
+     * @return the class loader
+     */
+    static ClassLoader newClassLoader(Path root) {
+        try {
+            URL container = ReactifyIoC.class.getProtectionDomain().getCodeSource().getLocation();
+            return new URLClassLoader(
+                    new URL[] {container, root.toUri().toURL()}, ClassLoader.getPlatformClassLoader());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs a call with a class loader as the context class loader, which the
+     * container scans.
+     *
+     * @param classLoader
+     *            the class loader
+     * @param call
+     *            the call
+     * @return the result of the call
+     * @throws Exception
+     *             if the call fails
+     */
+    static <T> T call(ClassLoader classLoader, Callable<T> call) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return call.call();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks.injection;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of creating a bean with three dependencies through its constructor, its
+ * fields or its setters. The beans are prototypes, so every lookup creates and
+ * injects a new instance.
+ */
+@ComponentScan("com.reactifyx.benchmarks.injection")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectionBenchmark {
+
+    private ReactifyIoC reactifyIoC;
+
+    @Setup
+    public void init() {
+        reactifyIoC = ReactifyIoC.initBeans(InjectionBenchmark.class);
+    }
+
+    @Benchmark
+    public ConstructorInjected constructor() {
+        return reactifyIoC.getBean(ConstructorInjected.class);
+    }
+
+    @Benchmark
+    public FieldInjected field() {
+        return reactifyIoC.getBean(FieldInjected.class);
+    }
+
+    @Benchmark
+    public SetterInjected setter() {
+        return reactifyIoC.getBean(SetterInjected.class);
+    }
+
+    @Benchmark
+    public ReflectiveFieldInjected reflectiveField() {
+        return reactifyIoC.getBean(ReflectiveFieldInjected.class);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks.injection;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.Scope;
+
+@Component
+@Scope(Scope.PROTOTYPE)
+public class SetterInjected {
+    Clock clock;
+    Store store;
+    Metrics metrics;
+
+    @Autowired
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Autowired
+    public void setStore(Store store) {
+        this.store = store;
+    }
+
+    @Autowired
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.benchmarks.lookup;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.BeanHandle;
+import com.reactifyx.core.ReactifyIoC;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of bean lookups after startup: by class, by interface with a
+ * single implementation, by interface and qualifier, and through a handle
+ * resolved once.
+ */
+@ComponentScan("com.reactifyx.benchmarks.lookup")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LookupBenchmark {
+
+    private ReactifyIoC reactifyIoC;
+    private BeanHandle<Registry> handle;
+
+    @Setup
+    public void init() {
+        reactifyIoC = ReactifyIoC.initBeans(LookupBenchmark.class);
+        handle = reactifyIoC.handle(Registry.class);
+    }
+
+    @Benchmark
+    public Registry getBeanByClass() {
+        return reactifyIoC.getBean(Registry.class);
+    }
+
+    @Benchmark
+    public JsonCodec getBeanByImplementation() {
+        return reactifyIoC.getBean(JsonCodec.class);
+    }
+
+    @Benchmark
+    public Codec getBeanByInterfaceAndQualifier() {
+        return reactifyIoC.handle(Codec.class, "xmlCodec").get();
+    }
+
+    @Benchmark
+    public Registry handleGet() {
+        return handle.get();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.test;
+
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Contexts started for {@link ReactifyTest} classes, kept for the lifetime of
+ * the JVM so that later test classes reuse them.
+ * <p>
+ * The cache holds at most {@value #DEFAULT_SIZE} contexts, or the number set
+ * through the system property {@value #SIZE_PROPERTY}, and closes and drops
+ * the least recently used one when full.
+ */
+final class ContextCache {
+
+    /** System property that sets how many contexts are kept. */
+    static final String SIZE_PROPERTY = "reactifyx.test.contextCacheSize";
+
+    /** Number of contexts kept when {@value #SIZE_PROPERTY} is not set. */
+    static final int DEFAULT_SIZE = 32;
+
+    private final int maxSize;
+
+    private final Map<List<Class<?>>, ReactifyIoC> contexts;
+
+    ContextCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Context cache must hold at least one context: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.contexts = new LinkedHashMap<List<Class<?>>, ReactifyIoC>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Class<?>>, ReactifyIoC> eldest) {
+                if (size() <= ContextCache.this.maxSize) {
+                    return false;
+                }
+                try {
+                    eldest.getValue().close();
+                } catch (IoCException e) {
+                    // No test uses the evicted context anymore, so no test can fail for it
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached context for a key, starting it if needed.
+     *
+     * @param key
+     *            the main class followed by the predefined bean classes
+     * @param start
+     *            starts the context on a miss
+     * @return the context
+     */
+    synchronized ReactifyIoC get(List<Class<?>> key, Supplier<ReactifyIoC> start) {
+        ReactifyIoC context = contexts.get(key);
+        if (context == null) {
+            context = start.get();
+            contexts.put(key, context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns the number of cached contexts.
+     *
+     * @return the cache size
+     */
+    synchronized int size() {
+        return contexts.size();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.test;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Replaces the beans of a type with the value of the annotated field in the
+ * context of a {@link ReactifyTest} class.
+ * <p>
+ * The field must be initialized when the test instance is created. The
+ * context is resolved from the metadata shared with the other contexts of the
+ * same main class, so an override costs the creation of the beans but no scan.
+ * See {@link com.reactifyx.core.IoCOptions#override(Class, Object)}.
+ *
+ * <pre>{@code
+ * @OverrideBean
+ * Clock clock = () -> Instant.EPOCH;
+ * }</pre>
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OverrideBean {
+
+    /**
+     * The type whose beans are replaced. Defaults to the type of the field.
+     *
+     * @return the replaced type, or {@code void.class} for the field type
+     */
+    Class<?> value() default void.class;
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.test;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Qualifier;
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestInstancePostProcessor;
+
+/**
+ * JUnit 5 extension behind {@link ReactifyTest}.
+ * <p>
+ * Contexts are kept in a JVM-wide cache keyed by the main class and the
+ * predefined bean classes, so test classes that declare the same combination
+ * share one context and its beans. Test instances with {@link OverrideBean}
+ * fields get a context of their own, which replays the metadata of the cached
+ * one instead of scanning again and is closed when the test instance is
+ * discarded. Every context the extension starts enables
+ * {@link IoCOptions#sharedMetadata(boolean) shared metadata}.
+ */
+public class ReactifyExtension implements TestInstancePostProcessor, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(ReactifyExtension.class);
+
+    private static final ContextCache CACHE =
+            new ContextCache(Integer.getInteger(ContextCache.SIZE_PROPERTY, ContextCache.DEFAULT_SIZE));
+
+    @Override
+    public void postProcessTestInstance(Object testInstance, ExtensionContext context) throws Exception {
+        Class<?> testClass = testInstance.getClass();
+        IoCOptions options = overrides(testInstance);
+        ReactifyIoC reactifyIoC = options == null ? cached(testClass) : start(testClass, options);
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(testInstance, reactifyIoC);
+        if (options != null) {
+            // A context of its own is closed with the test instance
+            ExtensionContext.Store.CloseableResource resource = reactifyIoC::close;
+            store.put(reactifyIoC, resource);
+        }
+        inject(testInstance, reactifyIoC);
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == ReactifyIoC.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Object testInstance = extensionContext.getTestInstance().orElse(null);
+        ReactifyIoC reactifyIoC = testInstance == null
+                ? null
+                : extensionContext.getStore(NAMESPACE).get(testInstance, ReactifyIoC.class);
+        return reactifyIoC != null ? reactifyIoC : cached(extensionContext.getRequiredTestClass());
+    }
+
+    /** Returns the cached context of a test class, starting it on first use. */
+    static ReactifyIoC cached(Class<?> testClass) {
+        Class<?> annotatedClass = annotatedClass(testClass);
+        ReactifyTest test = annotatedClass.getAnnotation(ReactifyTest.class);
+        List<Class<?>> key = new ArrayList<>();
+        key.add(mainClass(annotatedClass, test));
+        for (Class<?> predefined : test.predefined()) {
+            key.add(predefined);
+        }
+        return CACHE.get(key, () -> start(testClass, new IoCOptions().sharedMetadata(true)));
+    }
+
+    private static ReactifyIoC start(Class<?> testClass, IoCOptions options) {
+        Class<?> annotatedClass = annotatedClass(testClass);
+        ReactifyTest test = annotatedClass.getAnnotation(ReactifyTest.class);
+        Object[] predefinedBeans = new Object[test.predefined().length];
+        for (int i = 0; i < predefinedBeans.length; i++) {
+            Class<?> predefined = test.predefined()[i];
+            try {
+                predefinedBeans[i] = predefined.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new ExtensionConfigurationException(
+                        "Cannot create predefined bean " + predefined.getName() + " through its no-arg constructor", e);
+            }
+        }
+        return ReactifyIoC.initBeans(options, mainClass(annotatedClass, test), predefinedBeans);
+    }
+
+    /**
+     * Collects the {@link OverrideBean} fields of a test instance.
+     *
+     * @return options that replace the beans, or {@code null} if there are no
+     *         overrides
+     */
+    @SuppressWarnings("unchecked")
+    private static IoCOptions overrides(Object testInstance) throws IllegalAccessException {
+        IoCOptions options = null;
+        for (Field field : fields(testInstance.getClass())) {
+            OverrideBean override = field.getAnnotation(OverrideBean.class);
+            if (override == null) {
+                continue;
+            }
+            Class<?> type = override.value() == void.class ? field.getType() : override.value();
+            field.setAccessible(true);
+            Object bean = field.get(Modifier.isStatic(field.getModifiers()) ? null : testInstance);
+            if (!type.isInstance(bean)) {
+                throw new ExtensionConfigurationException("@OverrideBean field " + field.getName() + " of "
+                        + field.getDeclaringClass().getName() + " must hold a " + type.getName() + ", but holds "
+                        + bean);
+            }
+            if (options == null) {
+                options = new IoCOptions().sharedMetadata(true);
+            }
+            options.override((Class<Object>) type, bean);
+        }
+        return options;
+    }
+
+    /** Injects the {@code @Autowired} fields of a test instance from its context. */
+    private static void inject(Object testInstance, ReactifyIoC reactifyIoC) throws IllegalAccessException {
+        for (Field field : fields(testInstance.getClass())) {
+            if (!field.isAnnotationPresent(Autowired.class) || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Qualifier qualifier = field.getAnnotation(Qualifier.class);
+            Object bean = qualifier == null
+                    ? reactifyIoC.getBean(field.getType())
+                    : reactifyIoC.handle(field.getType(), qualifier.value()).get();
+            field.setAccessible(true);
+            field.set(testInstance, bean);
+        }
+    }
+
+    /** Returns the fields declared by a class and its superclasses. */
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /** Finds the class that carries {@link ReactifyTest}, looking through enclosing classes of nested tests. */
+    private static Class<?> annotatedClass(Class<?> testClass) {
+        for (Class<?> current = testClass; current != null; current = current.getEnclosingClass()) {
+            if (current.isAnnotationPresent(ReactifyTest.class)) {
+                return current;
+            }
+        }
+        throw new ExtensionConfigurationException(testClass.getName() + " is not annotated with @ReactifyTest");
+    }
+
+    private static Class<?> mainClass(Class<?> annotatedClass, ReactifyTest test) {
+        return test.scan() == void.class ? annotatedClass : test.scan();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.test;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Runs a test class against a {@link com.reactifyx.core.ReactifyIoC} context,
+ * replacing the manual {@code initBeans} call in {@code @BeforeAll}.
+ * <p>
+ * The context is started once per combination of scanned class and predefined
+ * beans and then reused by every test class that asks for the same
+ * combination, see {@link ReactifyExtension}. {@code @Autowired} fields of the
+ * test instance are injected from it, and test methods and lifecycle methods
+ * may declare a {@code ReactifyIoC} parameter.
+ *
+ * <pre>{@code
+ * @ReactifyTest(scan = App.class)
+ * class OrderServiceTest {
+ *     @Autowired
+ *     OrderService orders;
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Fields annotated with {@link OverrideBean} replace beans for the tests of
+ * the class; such contexts are started for each test instance and not cached.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(ReactifyExtension.class)
+public @interface ReactifyTest {
+
+    /**
+     * The main class of the context, whose {@code @ComponentScan} packages, or
+     * whose own package, are scanned. Defaults to the test class.
+     *
+     * @return the main class, or {@code void.class} for the test class
+     */
+    Class<?> scan() default void.class;
+
+    /**
+     * Classes registered as predefined beans before the scan, each created
+     * through its no-arg constructor.
+     *
+     * @return the predefined bean classes
+     */
+    Class<?>[] predefined() default {};
+}
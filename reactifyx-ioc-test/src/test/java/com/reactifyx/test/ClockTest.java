@@ -0,0 +1,36 @@
+package com.reactifyx.test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.test.app.App;
+import com.reactifyx.test.app.AuditLog;
+import com.reactifyx.test.app.Clock;
+import org.junit.jupiter.api.Test;
+
+@ReactifyTest(scan = App.class)
+public class ClockTest {
+
+    @Test
+    void testPredefinedBeansGetTheirOwnContext(ReactifyIoC reactifyIoC) {
+        assertSame(reactifyIoC, context());
+        assertNotSame(reactifyIoC, new WithAuditLog().context());
+        assertSame(new WithAuditLog().context(), new WithAuditLog().context());
+    }
+
+    /** Looks up the context this class is run with, as another test class would. */
+    ReactifyIoC context() {
+        return ReactifyExtension.cached(ClockTest.class);
+    }
+
+    @ReactifyTest(scan = App.class, predefined = AuditLog.class)
+    static class WithAuditLog {
+        ReactifyIoC context() {
+            ReactifyIoC reactifyIoC = ReactifyExtension.cached(WithAuditLog.class);
+            reactifyIoC.getBean(AuditLog.class);
+            reactifyIoC.getBean(Clock.class);
+            return reactifyIoC;
+        }
+    }
+}
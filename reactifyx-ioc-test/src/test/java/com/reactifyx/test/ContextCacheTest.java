@@ -0,0 +1,37 @@
+package com.reactifyx.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.test.app.App;
+import com.reactifyx.test.app.AuditLog;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ContextCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedContextIsDropped() {
+        ContextCache cache = new ContextCache(2);
+        List<Class<?>> plain = Collections.singletonList(App.class);
+        List<Class<?>> audited = Arrays.asList(App.class, AuditLog.class);
+        List<Class<?>> other = Collections.singletonList(ContextCacheTest.class);
+
+        ReactifyIoC first = cache.get(plain, () -> ReactifyIoC.initBeans(App.class));
+        assertSame(first, cache.get(plain, () -> ReactifyIoC.initBeans(App.class)));
+        cache.get(audited, () -> ReactifyIoC.initBeans(App.class, new AuditLog()));
+        cache.get(plain, () -> ReactifyIoC.initBeans(App.class));
+        cache.get(other, () -> ReactifyIoC.initBeans(App.class));
+        assertEquals(2, cache.size());
+
+        // The audited context was used least recently and has been dropped
+        assertSame(first, cache.get(plain, () -> ReactifyIoC.initBeans(App.class)));
+        ReactifyIoC restarted = cache.get(audited, () -> ReactifyIoC.initBeans(App.class, new AuditLog()));
+        assertNotSame(first, restarted);
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,35 @@
+package com.reactifyx.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.test.app.App;
+import com.reactifyx.test.app.Clock;
+import com.reactifyx.test.app.Scheduler;
+import org.junit.jupiter.api.Test;
+
+@ReactifyTest(scan = App.class)
+public class OverrideBeanTest {
+
+    @OverrideBean
+    Clock clock = () -> 1000;
+
+    @Autowired
+    Scheduler scheduler;
+
+    @Test
+    void testOverrideIsInjected(ReactifyIoC reactifyIoC) {
+        assertEquals(1500, scheduler.next(500));
+        assertSame(clock, reactifyIoC.getBean(Clock.class));
+    }
+
+    @Test
+    void testOverrideDoesNotLeakIntoCachedContext(ReactifyIoC reactifyIoC) {
+        ReactifyIoC cached = ReactifyExtension.cached(OverrideBeanTest.class);
+        assertNotSame(cached, reactifyIoC);
+        assertNotSame(clock, cached.getBean(Clock.class));
+    }
+}
@@ -0,0 +1,39 @@
+package com.reactifyx.test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.test.app.App;
+import com.reactifyx.test.app.Clock;
+import com.reactifyx.test.app.Scheduler;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ReactifyTest(scan = App.class)
+public class SchedulerTest {
+    static ReactifyIoC started;
+
+    @Autowired
+    Scheduler scheduler;
+
+    @Autowired
+    Clock clock;
+
+    @BeforeAll
+    static void setUp(ReactifyIoC reactifyIoC) {
+        started = reactifyIoC;
+    }
+
+    @Test
+    void testFieldsAreInjected(ReactifyIoC reactifyIoC) {
+        assertSame(started, reactifyIoC);
+        assertSame(reactifyIoC.getBean(Scheduler.class), scheduler);
+        assertSame(reactifyIoC.getBean(Clock.class), clock);
+    }
+
+    @Test
+    void testContextIsSharedWithOtherTestClasses(ReactifyIoC reactifyIoC) {
+        assertSame(new ClockTest().context(), reactifyIoC);
+    }
+}
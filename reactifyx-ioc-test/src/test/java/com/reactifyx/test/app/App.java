@@ -0,0 +1,6 @@
+package com.reactifyx.test.app;
+
+import com.reactifyx.ComponentScan;
+
+@ComponentScan("com.reactifyx.test.app")
+public class App {}
@@ -0,0 +1,3 @@
+package com.reactifyx.test.app;
+
+public class AuditLog {}
@@ -0,0 +1,5 @@
+package com.reactifyx.test.app;
+
+public interface Clock {
+    long now();
+}
@@ -0,0 +1,14 @@
+package com.reactifyx.test.app;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class Scheduler {
+    @Autowired
+    Clock clock;
+
+    public long next(long delay) {
+        return clock.now() + delay;
+    }
+}
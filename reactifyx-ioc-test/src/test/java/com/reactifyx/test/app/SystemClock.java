@@ -0,0 +1,11 @@
+package com.reactifyx.test.app;
+
+import com.reactifyx.Component;
+
+@Component
+public class SystemClock implements Clock {
+    @Override
+    public long now() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defers the creation of a component until it is first used.
+ * <p>
+ * A lazy component is created on the first {@code getBean} call that asks for
+ * it, or when a bean that is being created needs it through a concrete class.
+ * Interface-typed injection points receive a proxy that creates the bean on its
+ * first interface method call, not on {@code equals}, {@code hashCode} or
+ * {@code toString}, and {@link com.reactifyx.core.Provider} injection points
+ * never force creation. The dependencies of lazy components are still
+ * validated when the container starts.
+ * <p>
+ * Every component can be made lazy at once with
+ * {@link com.reactifyx.core.IoCOptions#lazy(boolean)}.
+ *
+ * <p>
+ * <strong>Usage example:</strong>
+ *
+ * <pre>{@code
+ * @Lazy
+ * @Component
+ * public class ReportRenderer {
+ * 	// Expensive to create, rarely used
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Target:</strong> Types (classes). <br>
+ * <strong>Retention:</strong> Runtime.
+ *
+ * @see Component
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Lazy {}
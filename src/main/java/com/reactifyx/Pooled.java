@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps reusable instances of a component in a bounded pool.
+ * <p>
+ * A pooled component is meant for objects that are expensive to create and
+ * not thread-safe, such as parsers, codecs and buffers. Instances are borrowed
+ * from and returned to a {@link com.reactifyx.core.BeanPool}, which is injected
+ * by declaring the injection point as {@code BeanPool<T>} or obtained with
+ * {@code ReactifyIoC.getPool(Class)}. The instances themselves cannot be
+ * injected directly.
+ *
+ * <p>
+ * <strong>Usage example:</strong>
+ *
+ * <pre>{@code
+ * @Pooled(max = 64, initial = 8)
+ * @Component
+ * public class JsonCodec {
+ * 	// Heavy, not thread-safe
+ * }
+ *
+ * JsonCodec codec = pool.borrow();
+ * try {
+ * 	codec.encode(value);
+ * } finally {
+ * 	pool.release(codec);
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Target:</strong> Types (classes). <br>
+ * <strong>Retention:</strong> Runtime.
+ *
+ * @see Component
+ * @see Scope
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Pooled {
+
+    /**
+     * The maximum number of idle instances kept by the pool.
+     *
+     * @return the pool capacity
+     */
+    int max() default 64;
+
+    /**
+     * The number of instances created when the container starts.
+     *
+     * @return the initial pool size
+     */
+    int initial() default 0;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method that initializes a bean once all of its dependencies have
+ * been injected.
+ * <p>
+ * The method takes no parameters. It may return a
+ * {@link java.util.concurrent.CompletionStage}, such as a
+ * {@link java.util.concurrent.CompletableFuture}, to warm up asynchronously:
+ * the beans created at startup are initialized concurrently, each once the
+ * initialization of the beans it depends on has completed, and the container
+ * is returned when every initialization has completed. A failed
+ * initialization fails the startup.
+ * <p>
+ * Lazy beans are initialized when they are created, prototype, pooled,
+ * thread-scoped and striped beans every time an instance is created. Methods
+ * inherited from superclasses run first.
+ *
+ * <p>
+ * <strong>Usage example:</strong>
+ *
+ * <pre>{@code
+ * @Component
+ * public class PriceCache {
+ * 	@PostConstruct
+ * 	public CompletableFuture<Void> warmUp() {
+ * 		return CompletableFuture.runAsync(this::loadPrices);
+ * 	}
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Target:</strong> Methods. <br>
+ * <strong>Retention:</strong> Runtime.
+ *
+ * @see PreDestroy
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PostConstruct {}
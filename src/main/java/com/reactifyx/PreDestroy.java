@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method that releases the resources of a bean when its container is
+ * {@linkplain com.reactifyx.core.ReactifyIoC#close() closed}.
+ * <p>
+ * The method takes no parameters and may return a
+ * {@link java.util.concurrent.CompletionStage} to shut down asynchronously. A
+ * bean is shut down after every bean that depends on it, and beans that do not
+ * depend on each other are shut down concurrently. The container waits for
+ * each bean at most {@link #timeoutMillis()}, then reports the bean as failed
+ * and goes on with its dependencies.
+ * <p>
+ * Only singletons are shut down: the container does not keep track of
+ * prototype, pooled, thread-scoped or striped instances. Methods declared by
+ * the bean class run before the ones inherited from superclasses.
+ *
+ * <p>
+ * <strong>Usage example:</strong>
+ *
+ * <pre>{@code
+ * @Component
+ * public class ConnectionPool {
+ * 	@PreDestroy(timeoutMillis = 2000)
+ * 	public void drain() {
+ * 		// Close the idle connections, wait for the busy ones
+ * 	}
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Target:</strong> Methods. <br>
+ * <strong>Retention:</strong> Runtime.
+ *
+ * @see PostConstruct
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PreDestroy {
+
+    /**
+     * How long the container waits for the bean to shut down, in
+     * milliseconds. A negative value, the default, uses
+     * {@link com.reactifyx.core.IoCOptions#shutdownTimeout(java.time.Duration)}.
+     *
+     * @return the timeout in milliseconds
+     */
+    long timeoutMillis() default -1;
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets how many instances of a component the container creates.
+ * <p>
+ * By default a component is a {@value #SINGLETON}: one instance is created
+ * and shared by every dependent. A {@value #PROTOTYPE} component is created
+ * anew for every injection point and every {@code getBean} call, and is not
+ * retained by the container.
+ *
+ * <p>
+ * <strong>Usage example:</strong>
+ *
+ * <pre>{@code
+ * @Scope(Scope.PROTOTYPE)
+ * @Component
+ * public class RequestParser {
+ * 	// Mutable state, one instance per user
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Target:</strong> Types (classes). <br>
+ * <strong>Retention:</strong> Runtime.
+ *
+ * @see Component
+ * @see Pooled
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Scope {
+
+    /** One shared instance per container. */
+    String SINGLETON = "singleton";
+
+    /** A new instance per injection point and per lookup. */
+    String PROTOTYPE = "prototype";
+
+    /**
+     * The scope name.
+     *
+     * @return {@value #SINGLETON} or {@value #PROTOTYPE}
+     */
+    String value() default SINGLETON;
+}
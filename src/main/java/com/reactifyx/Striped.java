@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Spreads a component over a fixed number of instances, one per stripe.
+ * <p>
+ * Each thread is mapped to a stripe by hashing its id, so concurrent updates
+ * are spread over several instances and contend less than on a single one.
+ * Stripes are not confined to a thread or a core: several threads can share a
+ * stripe at the same time, so the striped class must be thread-safe, for
+ * example by keeping its state in an
+ * {@link java.util.concurrent.atomic.AtomicLong} or a
+ * {@link java.util.concurrent.atomic.LongAdder}.
+ * <p>
+ * An interface-typed injection point receives a proxy that forwards each call
+ * to the caller's stripe. A {@link com.reactifyx.core.StripedBean} injection
+ * point gives access to every stripe, for example to sum counters.
+ *
+ * <p>
+ * <strong>Usage example:</strong>
+ *
+ * <pre>{@code
+ * @Striped
+ * @Component
+ * public class RequestCounter implements Counter {
+ * 	private final AtomicLong count = new AtomicLong();
+ *
+ * 	public void increment() {
+ * 		count.incrementAndGet();
+ * 	}
+ *
+ * 	public long getCount() {
+ * 		return count.get();
+ * 	}
+ * }
+ *
+ * long total = counters.sum(RequestCounter::getCount);
+ * }</pre>
+ *
+ * <p>
+ * <strong>Target:</strong> Types (classes). <br>
+ * <strong>Retention:</strong> Runtime.
+ *
+ * @see ThreadScoped
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Striped {
+
+    /**
+     * The number of stripes, rounded up to a power of two. The default of 0
+     * uses the number of available processors.
+     *
+     * @return the stripe count
+     */
+    int stripes() default 0;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gives every thread its own instance of a component.
+ * <p>
+ * Thread-scoped beans hold mutable state, such as formatters or scratch
+ * buffers, without synchronization. An interface-typed injection point receives
+ * a proxy that forwards each call to the calling thread's instance; a
+ * {@link com.reactifyx.core.Provider} returns that instance from
+ * {@code get()}. Instances are created on first use in each thread and are
+ * released with the thread, so the scope suits pooled platform threads better
+ * than short-lived virtual threads.
+ *
+ * <p>
+ * <strong>Usage example:</strong>
+ *
+ * <pre>{@code
+ * @ThreadScoped
+ * @Component
+ * public class DateFormatterHolder implements DateFormatter {
+ * 	private final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Target:</strong> Types (classes). <br>
+ * <strong>Retention:</strong> Runtime.
+ *
+ * @see Striped
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ThreadScoped {}
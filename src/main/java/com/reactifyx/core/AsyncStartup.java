@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import com.reactifyx.exception.IoCException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * State of a container that is still creating its beans in the background,
+ * see {@link ReactifyIoC#initBeansAsync(IoCOptions, Class, Object...)}.
+ *
+ * <p>
+ * Every bean type, and every supertype of it, has a readiness future that
+ * completes once the bean and every bean it depends on, directly or through
+ * other beans, are injected and initialized. A lookup from outside
+ * the startup first selects the class of the bean it asks for, so that a
+ * qualified lookup by interface waits for the implementation it names and not
+ * for whichever implementation is ready first. It waits for the future of that
+ * class only, then runs under a read lock, while the startup holds the write
+ * lock whenever it registers the classes of a package. Lookups made by the
+ * startup itself, for example from a constructor, behave as in a synchronous
+ * start and never wait.
+ * </p>
+ */
+final class AsyncStartup {
+
+    private static final CompletableFuture<Void> READY = CompletableFuture.completedFuture(null);
+
+    /** The startup the current thread works for, if any. */
+    private static final ThreadLocal<AsyncStartup> CURRENT = new ThreadLocal<>();
+
+    /** Readiness of every type that is ready or waited for. */
+    private final Map<Class<?>, CompletableFuture<Void>> readiness = new ConcurrentHashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean finished;
+
+    /** Why the startup failed, or {@code null}. */
+    private volatile IoCException failure;
+
+    /**
+     * Runs a task as part of this startup.
+     *
+     * @param task
+     *            the task
+     */
+    void run(Runnable task) {
+        AsyncStartup previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Wraps an executor so that the tasks it runs are part of this startup.
+     *
+     * @param executor
+     *            the executor that creates the beans
+     * @return the wrapping executor
+     */
+    Executor track(Executor executor) {
+        return task -> executor.execute(() -> run(task));
+    }
+
+    /** Keeps lookups out while the startup registers classes. */
+    void beginRegistration() {
+        lock.writeLock().lock();
+    }
+
+    /** Lets lookups in again. */
+    void endRegistration() {
+        lock.writeLock().unlock();
+    }
+
+    /**
+     * Marks a bean as ready, together with every supertype it can be looked up
+     * by.
+     *
+     * @param type
+     *            the bean class
+     */
+    void ready(Class<?> type) {
+        for (Class<?> supertype : ImplementationContainer.supertypesOf(type)) {
+            CompletableFuture<Void> waiting = readiness.putIfAbsent(supertype, READY);
+            if (waiting != null) {
+                waiting.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Waits until the bean a lookup selects is ready, unless called by the
+     * startup itself, then looks it up. When the selection is not registered
+     * yet, waits for the requested type first and selects again.
+     *
+     * @param <T>
+     *            the result type
+     * @param type
+     *            the requested type
+     * @param select
+     *            returns the class of the selected bean, or {@code null} if it
+     *            cannot be selected yet; runs under the read lock
+     * @param lookup
+     *            the lookup to run once the bean is ready
+     * @return the result of the lookup
+     * @throws IoCException
+     *             if the startup failed
+     */
+    <T> T await(Class<?> type, Supplier<Class<?>> select, Supplier<T> lookup) {
+        if (CURRENT.get() == this) {
+            return lookup.get();
+        }
+        Class<?> selected = select(select);
+        if (selected == null) {
+            join(type);
+            selected = select(select);
+        }
+        while (selected != null) {
+            join(selected);
+            // A package registered meanwhile may add the implementation the lookup names
+            Class<?> current = select(select);
+            if (current == null || current == selected) {
+                break;
+            }
+            selected = current;
+        }
+        lock.readLock().lock();
+        try {
+            return lookup.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Class<?> select(Supplier<Class<?>> select) {
+        lock.readLock().lock();
+        try {
+            return select.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Waits until a type is ready. */
+    private void join(Class<?> type) {
+        CompletableFuture<Void> future = readiness.computeIfAbsent(type, k -> new CompletableFuture<>());
+        if (finished) {
+            complete(future);
+        }
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Ends the startup and releases every waiting lookup. Types that were never
+     * marked ready, such as unknown or lazy ones, are looked up as after a
+     * synchronous start.
+     *
+     * @param failure
+     *            why the startup failed, or {@code null} if it succeeded
+     */
+    void finish(IoCException failure) {
+        this.failure = failure;
+        finished = true;
+        for (CompletableFuture<Void> future : readiness.values()) {
+            complete(future);
+        }
+    }
+
+    private void complete(CompletableFuture<Void> future) {
+        IoCException cause = failure;
+        if (cause == null) {
+            future.complete(null);
+        } else {
+            future.completeExceptionally(cause);
+        }
+    }
+}
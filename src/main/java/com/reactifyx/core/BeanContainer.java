@@ -16,9 +16,12 @@
 package com.reactifyx.core;
 
 import com.reactifyx.exception.IoCException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * A container responsible for storing and retrieving bean instances.
@@ -31,8 +34,15 @@ import java.util.TreeMap;
  *
  * <p>
  * It supports dependency injection scenarios including default and named beans.
- * This class is not thread-safe and assumes single-threaded usage during the
- * bootstrap phase.
+ * Beans may be stored and read concurrently, since independent beans are
+ * created in parallel during the bootstrap phase.
+ * </p>
+ *
+ * <p>
+ * Once startup is complete the container is {@linkplain #freeze(Map) frozen}:
+ * the registry is compacted into immutable open-addressing tables and further
+ * registrations are rejected. Reads after that point take no locks and do not
+ * allocate.
  * </p>
  */
 public class BeanContainer {
@@ -41,7 +51,16 @@ public class BeanContainer {
      * Internal storage for beans. Maps each class to a map of named bean instances
      * (usually by class name or @Qualifier).
      */
-    public final Map<Class<?>, Map<String, Object>> beans = new HashMap<>(10);
+    private final Map<Class<?>, Map<String, Object>> beans = new ConcurrentHashMap<>(16);
+
+    /** Immutable copy of {@link #beans} keyed by class, or {@code null} until frozen. */
+    private volatile BeanTable registry;
+
+    /**
+     * Default bean of every class and of every type resolved to a single
+     * implementation, or {@code null} until frozen.
+     */
+    private volatile BeanTable primaries;
 
     /**
      * Stores a bean instance using the class name as the default key.
@@ -66,7 +85,10 @@ public class BeanContainer {
      *            the name/key for the bean (e.g., a qualifier)
      */
     public void putBean(Class<?> clazz, Object instance, String name) {
-        Map<String, Object> map = beans.computeIfAbsent(clazz, k -> new TreeMap<>());
+        if (registry != null) {
+            throw new IoCException("Cannot register bean " + name + " after the container has been initialized");
+        }
+        Map<String, Object> map = beans.computeIfAbsent(clazz, k -> new ConcurrentSkipListMap<>());
         map.putIfAbsent(name, instance);
     }
 
@@ -91,7 +113,7 @@ public class BeanContainer {
      * @return true if the bean exists, false otherwise
      */
     public boolean containsBean(Class<?> clazz, String name) {
-        return beans.get(clazz) != null;
+        return named(clazz) != null;
     }
 
     /**
@@ -122,7 +144,7 @@ public class BeanContainer {
      *             matching name is provided
      */
     public Object getBean(Class<?> clazz, String name) {
-        Map<String, Object> map = beans.get(clazz);
+        Map<String, Object> map = named(clazz);
 
         if (map == null || map.isEmpty()) {
             throw new IoCException("No bean found for class " + clazz);
@@ -141,4 +163,78 @@ public class BeanContainer {
 
         return bean;
     }
+
+    /**
+     * Returns every bean stored for a class.
+     *
+     * @param clazz
+     *            the class type of the beans
+     * @return the beans by name, ordered by name, possibly empty
+     */
+    public Map<String, Object> getBeans(Class<?> clazz) {
+        Map<String, Object> map = named(clazz);
+        return map == null ? Collections.emptyMap() : Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns the default bean of a type without resolving conflicts or throwing.
+     * Once the container is frozen this is a single table lookup, and the type
+     * may also be an interface or superclass with a single implementation.
+     *
+     * @param clazz
+     *            the requested type
+     * @return the bean, or {@code null} if the container is not frozen or the
+     *         type has no unambiguous default bean
+     */
+    public Object findBean(Class<?> clazz) {
+        BeanTable table = primaries;
+        return table == null ? null : table.get(clazz);
+    }
+
+    /**
+     * Checks whether the container has been frozen.
+     *
+     * @return true once {@link #freeze(Map)} has been called
+     */
+    public boolean isFrozen() {
+        return registry != null;
+    }
+
+    /**
+     * Compacts the registry into read-only tables and rejects further
+     * registrations.
+     *
+     * @param implementations
+     *            types that resolve to a single implementation class, mapped to
+     *            that class; their default bean becomes available through
+     *            {@link #findBean(Class)}
+     */
+    public void freeze(Map<Class<?>, Class<?>> implementations) {
+        Map<Class<?>, Map<String, Object>> frozen = new HashMap<>(beans.size() * 2);
+        Map<Class<?>, Object> defaults = new HashMap<>(beans.size() * 2);
+        for (Map.Entry<Class<?>, Map<String, Object>> entry : beans.entrySet()) {
+            Map<String, Object> map = entry.getValue();
+            frozen.put(entry.getKey(), Collections.unmodifiableMap(new LinkedHashMap<>(map)));
+            Object bean = map.size() == 1
+                    ? map.values().iterator().next()
+                    : map.get(entry.getKey().getName());
+            if (bean != null) {
+                defaults.put(entry.getKey(), bean);
+            }
+        }
+        for (Map.Entry<Class<?>, Class<?>> entry : implementations.entrySet()) {
+            Object bean = defaults.get(entry.getValue());
+            if (bean != null) {
+                defaults.putIfAbsent(entry.getKey(), bean);
+            }
+        }
+        primaries = new BeanTable(defaults);
+        registry = new BeanTable(frozen);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> named(Class<?> clazz) {
+        BeanTable table = registry;
+        return table == null ? beans.get(clazz) : (Map<String, Object>) table.get(clazz);
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import com.reactifyx.exception.IoCCircularDepException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Beans created on demand, each with its own in-flight future.
+ *
+ * <p>
+ * The first thread to ask for a bean installs a future for it with
+ * {@code computeIfAbsent} and creates the bean; other threads wait on that
+ * future, so exactly one instance of each bean is ever published and unrelated
+ * beans are created in parallel. Completed futures stay in the table and serve
+ * as the cache of created beans; a failed creation is removed so that the next
+ * caller retries.
+ * </p>
+ *
+ * <p>
+ * Cycles are detected per thread. A thread that re-enters a bean it is still
+ * constructing gets an {@link IoCCircularDepException}; one that re-enters a
+ * bean whose fields and setters it is injecting gets the constructed instance.
+ * Before waiting on another thread, the waits-for chain of the creating threads
+ * is followed: if it leads back to the waiting thread, the bean's constructed
+ * instance is returned instead of deadlocking, or the cycle is reported when
+ * the bean has not been constructed yet.
+ * </p>
+ */
+final class BeanCreations {
+
+    /** Creates and injects a bean. */
+    interface Factory {
+
+        /**
+         * Creates an instance through the bean's constructor.
+         *
+         * @param type
+         *            the bean class
+         * @return the new instance
+         * @throws Exception
+         *             if the bean cannot be created
+         */
+        Object construct(Class<?> type) throws Exception;
+
+        /**
+         * Injects the fields and setters of a constructed instance.
+         *
+         * @param type
+         *            the bean class
+         * @param instance
+         *            the instance to inject
+         * @throws Exception
+         *             if a dependency cannot be resolved
+         */
+        void inject(Class<?> type, Object instance) throws Exception;
+    }
+
+    /** A bean being created, or created, by one thread. */
+    private static final class Creation {
+
+        /** The thread creating the bean. */
+        final Thread owner = Thread.currentThread();
+
+        /** Completed with the fully injected bean, or with the creation failure. */
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        /** The constructed bean while its fields and setters are injected. */
+        volatile Object early;
+    }
+
+    /** Creations by bean class, in flight or completed. */
+    private final ConcurrentMap<Class<?>, Creation> creations = new ConcurrentHashMap<>();
+
+    /** The creation each blocked thread is waiting for. */
+    private final ConcurrentMap<Thread, Creation> waiting = new ConcurrentHashMap<>();
+
+    /** Classes whose constructor is running, per thread. */
+    private final CircularDependencyDetector detector = new CircularDependencyDetector();
+
+    /**
+     * Returns the bean of a class, creating it with the factory if no thread has
+     * done so yet.
+     *
+     * @param type
+     *            the bean class
+     * @param factory
+     *            creates the bean if needed
+     * @return the bean instance
+     * @throws Exception
+     *             if the bean cannot be created
+     */
+    Object get(Class<?> type, Factory factory) throws Exception {
+        Creation creation = creations.get(type);
+        if (creation == null) {
+            Creation created = new Creation();
+            creation = creations.computeIfAbsent(type, k -> created);
+            if (creation == created) {
+                return create(type, created, factory);
+            }
+        }
+        if (creation.result.isDone()) {
+            return join(creation);
+        }
+        if (creation.owner == Thread.currentThread()) {
+            Object early = creation.early;
+            if (early == null) {
+                detector.startInstantiation(type);
+            }
+            return early;
+        }
+        return await(type, creation);
+    }
+
+    /**
+     * Checks whether the bean of a class has been created.
+     *
+     * @param type
+     *            the bean class
+     * @return true once a creation of the bean has completed
+     */
+    boolean isCreated(Class<?> type) {
+        Creation creation = creations.get(type);
+        return creation != null && creation.result.isDone();
+    }
+
+    private Object create(Class<?> type, Creation creation, Factory factory) throws Exception {
+        try {
+            Object instance;
+            detector.startInstantiation(type);
+            try {
+                instance = factory.construct(type);
+            } finally {
+                detector.finishInstantiation(type);
+            }
+            creation.early = instance;
+            factory.inject(type, instance);
+            creation.result.complete(instance);
+            return instance;
+        } catch (Exception | Error e) {
+            creation.early = null;
+            creations.remove(type, creation);
+            creation.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(Class<?> type, Creation creation) throws Exception {
+        Thread current = Thread.currentThread();
+        waiting.put(current, creation);
+        try {
+            if (leadsTo(creation, current) && !creation.result.isDone()) {
+                Object early = creation.early;
+                if (early == null) {
+                    throw new IoCCircularDepException("Circular dependency detected while creating " + type.getName()
+                            + " on " + creation.owner.getName() + " and " + current.getName());
+                }
+                return early;
+            }
+            return join(creation);
+        } finally {
+            waiting.remove(current);
+        }
+    }
+
+    /** Follows the owners of the creations that threads wait for, looking for a thread. */
+    private boolean leadsTo(Creation creation, Thread thread) {
+        Creation next = creation;
+        for (int hops = waiting.size(); next != null && !next.result.isDone() && hops >= 0; hops--) {
+            if (next.owner == thread) {
+                return true;
+            }
+            next = waiting.get(next.owner);
+        }
+        return false;
+    }
+
+    private static Object join(Creation creation) throws Exception {
+        try {
+            return creation.result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+/**
+ * A bean resolved once by {@link ReactifyIoC#handle(Class, String)}.
+ *
+ * <p>
+ * Interface resolution, qualifier matching and the registry lookup all happen
+ * when the handle is created, so {@link #get()} only reads a final field.
+ * Handles are immutable and may be kept in static fields and shared between
+ * threads. A handle to a {@link com.reactifyx.Scope#PROTOTYPE prototype} bean
+ * creates a new instance on every call instead:
+ * </p>
+ *
+ * <pre>{@code
+ * static final BeanHandle<Engine> ENGINE = ioc.handle(Engine.class, "v8Engine");
+ *
+ * ENGINE.get().start();
+ * }</pre>
+ *
+ * @param <T>
+ *            the requested bean type
+ */
+public class BeanHandle<T> {
+
+    private final Class<T> type;
+    private final T bean;
+
+    BeanHandle(Class<T> type, T bean) {
+        this.type = type;
+        this.bean = bean;
+    }
+
+    /**
+     * Returns the bean.
+     *
+     * @return the resolved bean instance
+     */
+    public T get() {
+        return bean;
+    }
+
+    /**
+     * Returns the type the handle was requested for.
+     *
+     * @return the requested bean type
+     */
+    public Class<T> type() {
+        return type;
+    }
+}
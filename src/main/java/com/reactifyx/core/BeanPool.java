@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import com.reactifyx.exception.IoCException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free pool of the instances of a {@link com.reactifyx.Pooled} component.
+ *
+ * <p>
+ * Idle instances are kept in a non-blocking queue. {@link #borrow()} takes one,
+ * or creates a new instance through the container's injection machinery when
+ * the queue is empty. It never blocks: when all {@code max} instances are
+ * borrowed, an extra instance is created and the exhaustion is counted, and
+ * {@link #release(Object)} keeps at most {@code max} idle instances, dropping
+ * the rest.
+ * </p>
+ *
+ * <p>
+ * The pool records the number and latency of borrows, how often it was
+ * exhausted and how many instances it currently holds, so it can be sized from
+ * production data.
+ * </p>
+ *
+ * @param <T>
+ *            the pooled bean type
+ */
+public class BeanPool<T> {
+
+    private final Class<T> type;
+    private final int maxSize;
+    private final Callable<T> factory;
+
+    private final ConcurrentLinkedQueue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder borrowNanos = new LongAdder();
+    private final LongAdder exhaustedCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+
+    BeanPool(Class<T> type, int maxSize, Callable<T> factory) {
+        this.type = type;
+        this.maxSize = maxSize;
+        this.factory = factory;
+    }
+
+    /**
+     * Takes an instance from the pool, creating one if none is idle. The
+     * instance must be given back with {@link #release(Object)}.
+     *
+     * @return a fully injected instance
+     * @throws IoCException
+     *             if a new instance cannot be created
+     */
+    public T borrow() {
+        long start = System.nanoTime();
+        int active = activeCount.incrementAndGet();
+        T instance = idle.poll();
+        if (instance != null) {
+            idleCount.decrementAndGet();
+        } else {
+            if (active > maxSize) {
+                exhaustedCount.increment();
+            }
+            try {
+                instance = create();
+            } catch (RuntimeException e) {
+                activeCount.decrementAndGet();
+                throw e;
+            }
+        }
+        borrowNanos.add(System.nanoTime() - start);
+        borrowCount.increment();
+        return instance;
+    }
+
+    /**
+     * Returns a borrowed instance to the pool.
+     *
+     * @param instance
+     *            an instance obtained from {@link #borrow()}
+     */
+    public void release(T instance) {
+        activeCount.decrementAndGet();
+        if (idleCount.incrementAndGet() <= maxSize) {
+            idle.offer(instance);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the pooled bean type.
+     *
+     * @return the bean class
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the maximum number of idle instances.
+     *
+     * @return the pool capacity
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of instances currently held by the pool or borrowed
+     * from it.
+     *
+     * @return the idle plus borrowed instances
+     */
+    public int getSize() {
+        return idleCount.get() + activeCount.get();
+    }
+
+    /**
+     * Returns the number of idle instances.
+     *
+     * @return the instances ready to be borrowed
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Returns the number of borrowed instances not yet released.
+     *
+     * @return the instances in use
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * Returns the number of completed borrows.
+     *
+     * @return the borrow count
+     */
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    /**
+     * Returns the mean time a borrow took, including the creation of new
+     * instances.
+     *
+     * @return the average borrow latency in nanoseconds, or 0 before the first
+     *         borrow
+     */
+    public long getAverageBorrowNanos() {
+        long count = borrowCount.sum();
+        return count == 0 ? 0 : borrowNanos.sum() / count;
+    }
+
+    /**
+     * Returns how many borrows found every instance in use and had to create one
+     * beyond the capacity.
+     *
+     * @return the exhaustion count
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount.sum();
+    }
+
+    /**
+     * Returns the number of instances created by the pool.
+     *
+     * @return the created instance count
+     */
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    /** Creates idle instances until the pool holds {@code count} of them. */
+    void prefill(int count) {
+        for (int i = idleCount.get(); i < Math.min(count, maxSize); i++) {
+            idle.offer(create());
+            idleCount.incrementAndGet();
+        }
+    }
+
+    private T create() {
+        try {
+            T instance = factory.call();
+            createdCount.increment();
+            return instance;
+        } catch (IoCException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IoCException(e);
+        }
+    }
+}
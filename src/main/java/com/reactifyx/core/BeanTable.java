@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import java.util.Map;
+
+/**
+ * Immutable open-addressing table keyed by {@link Class} identity.
+ *
+ * <p>
+ * Keys and values live in two parallel arrays sized to a power of two at most
+ * half full, and collisions are resolved by linear probing. A lookup reads a
+ * few array slots and never allocates or locks, which makes the table suitable
+ * for the read-only registry of a container after startup.
+ * </p>
+ */
+final class BeanTable {
+
+    private final Class<?>[] keys;
+    private final Object[] values;
+    private final int mask;
+
+    /**
+     * Copies the entries of a map into a new table.
+     *
+     * @param entries
+     *            the entries, none of which may have a {@code null} value
+     */
+    BeanTable(Map<Class<?>, ?> entries) {
+        int capacity = Integer.highestOneBit(Math.max(2, entries.size()) * 2 - 1) << 1;
+        this.keys = new Class<?>[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        for (Map.Entry<Class<?>, ?> entry : entries.entrySet()) {
+            int i = slot(entry.getKey());
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+        }
+    }
+
+    /**
+     * Returns the value stored for a class.
+     *
+     * @param type
+     *            the key
+     * @return the value, or {@code null} if the class is not in the table
+     */
+    Object get(Class<?> type) {
+        int i = slot(type);
+        Class<?> key;
+        while ((key = keys[i]) != null) {
+            if (key == type) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    private int slot(Class<?> type) {
+        int hash = System.identityHashCode(type);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -16,7 +16,7 @@
 package com.reactifyx.core;
 
 import com.reactifyx.exception.IoCCircularDepException;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -33,14 +33,19 @@ import java.util.Set;
  * Usage of this class helps prevent infinite recursion or stack overflow errors
  * when two or more beans directly or indirectly depend on each other.
  * </p>
+ *
+ * <p>
+ * Instantiations are tracked per thread, so beans created concurrently on
+ * different threads never see each other's progress.
+ * </p>
  */
 public class CircularDependencyDetector {
 
     /**
-     * Set of classes currently being instantiated. Acts as a guard against circular
-     * references.
+     * Classes currently being instantiated by each thread, in the order they were
+     * started. Acts as a guard against circular references.
      */
-    private final Set<Class<?>> instantiationInProgress = new HashSet<>();
+    private final ThreadLocal<Set<Class<?>>> instantiationInProgress = ThreadLocal.withInitial(LinkedHashSet::new);
 
     /**
      * Marks the beginning of an instantiation process for a class.
@@ -52,10 +57,12 @@ public class CircularDependencyDetector {
      *             indicating a circular dependency
      */
     public void startInstantiation(Class<?> clazz) throws IoCCircularDepException {
-        if (instantiationInProgress.contains(clazz)) {
-            throw new IoCCircularDepException("Circular dependency detected while instantiating " + clazz.getName());
+        Set<Class<?>> inProgress = instantiationInProgress.get();
+        if (inProgress.contains(clazz)) {
+            throw new IoCCircularDepException("Circular dependency detected while instantiating " + clazz.getName()
+                    + ": " + path(inProgress, clazz));
         }
-        instantiationInProgress.add(clazz);
+        inProgress.add(clazz);
     }
 
     /**
@@ -66,6 +73,23 @@ public class CircularDependencyDetector {
      *            the class that has finished instantiation
      */
     public void finishInstantiation(Class<?> clazz) {
-        instantiationInProgress.remove(clazz);
+        Set<Class<?>> inProgress = instantiationInProgress.get();
+        inProgress.remove(clazz);
+        if (inProgress.isEmpty()) {
+            instantiationInProgress.remove();
+        }
+    }
+
+    /** Formats the classes instantiated from {@code clazz} onwards, back to {@code clazz}. */
+    private static String path(Set<Class<?>> inProgress, Class<?> clazz) {
+        StringBuilder path = new StringBuilder();
+        boolean inCycle = false;
+        for (Class<?> type : inProgress) {
+            inCycle |= type == clazz;
+            if (inCycle) {
+                path.append(type.getSimpleName()).append(" -> ");
+            }
+        }
+        return path.append(clazz.getSimpleName()).toString();
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events emitted by {@link ReactifyIoC}.
+ *
+ * <p>
+ * The events are listed under the <em>ReactifyX</em> category of a recording
+ * and carry the thread that did the work, so container activity can be related
+ * to the latency and allocation of the surrounding application. They cost an
+ * allocation and an enabled check when no recording is running.
+ * </p>
+ */
+final class ContainerEvents {
+
+    private ContainerEvents() {}
+
+    /** The discovery of the component classes of one package. */
+    @Name("com.reactifyx.Scan")
+    @Label("Package Scan")
+    @Category("ReactifyX")
+    @Description("Discovery of the component and configuration classes of a package")
+    @StackTrace(false)
+    static final class Scan extends Event {
+
+        @Label("Package")
+        String packageName;
+
+        @Label("Source")
+        @Description("Where the classes came from: index, classpath, cache, plan or shared, or index+classpath"
+                + " and index+cache when roots without an index were scanned as well")
+        String source;
+
+        @Label("Class Count")
+        int classCount;
+    }
+
+    /** The construction or injection of one bean. */
+    @Name("com.reactifyx.BeanCreation")
+    @Label("Bean Creation")
+    @Category("ReactifyX")
+    @Description("Construction or field and setter injection of a bean")
+    @StackTrace(false)
+    static final class BeanCreation extends Event {
+
+        @Label("Bean Class")
+        Class<?> beanClass;
+
+        @Label("Phase")
+        @Description("construct or inject")
+        String phase;
+    }
+
+    /** The invocation of one {@code @Bean} method. */
+    @Name("com.reactifyx.BeanMethod")
+    @Label("Bean Method")
+    @Category("ReactifyX")
+    @Description("Invocation of a @Bean method of a configuration")
+    @StackTrace(false)
+    static final class BeanMethod extends Event {
+
+        @Label("Configuration Class")
+        Class<?> configurationClass;
+
+        @Label("Method")
+        String method;
+
+        @Label("Bean Class")
+        Class<?> beanClass;
+    }
+
+    /** A sampled {@code getBean} call made after startup. */
+    @Name("com.reactifyx.Lookup")
+    @Label("Bean Lookup")
+    @Category("ReactifyX")
+    @Description("A sampled getBean call made after startup")
+    static final class Lookup extends Event {
+
+        @Label("Bean Class")
+        Class<?> beanClass;
+    }
+}
@@ -0,0 +1,732 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import com.reactifyx.exception.IoCCircularDepException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Dependency graph of the beans created in one initialization pass.
+ *
+ * <p>
+ * Every bean contributes two tasks: <em>construct</em>, which calls the
+ * constructor and registers the instance, and <em>inject</em>, which fills the
+ * {@code @Autowired} fields and setters and then initializes the bean. A
+ * construct task waits for the inject tasks of the constructor dependencies; an
+ * inject task waits for its own construct task and for the inject tasks of the
+ * field and setter dependencies, so every bean is handed fully initialized
+ * dependencies. Tasks without a path between them run concurrently, so the
+ * total time approaches the critical path of the graph rather than the sum of
+ * all constructors.
+ * </p>
+ *
+ * <p>
+ * A cycle that goes through fields or setters is legal, as it was with
+ * sequential creation: inside such a cycle a task only waits for the
+ * construction of its dependencies. A cycle made of constructor parameters alone
+ * cannot be satisfied and is reported as an {@link IoCCircularDepException}.
+ * </p>
+ *
+ * <p>
+ * The duration of every step is recorded, so that after
+ * {@link #execute(Executor, Step, AsyncStep, Consumer, Set)} the time of each
+ * bean and the chain of steps that bounded the startup can be read back.
+ * </p>
+ */
+final class DependencyGraph {
+
+    /** A step run for one bean of the graph. */
+    @FunctionalInterface
+    interface Step {
+
+        /**
+         * Runs the step.
+         *
+         * @param type
+         *            the bean class
+         * @throws Exception
+         *             if the step fails
+         */
+        void run(Class<?> type) throws Exception;
+    }
+
+    /** A step run for one bean of the graph that may complete asynchronously. */
+    @FunctionalInterface
+    interface AsyncStep {
+
+        /**
+         * Starts the step.
+         *
+         * @param type
+         *            the bean class
+         * @return a stage that completes when the step is done, or {@code null}
+         *         if it is done already
+         * @throws Exception
+         *             if the step fails
+         */
+        CompletionStage<?> run(Class<?> type) throws Exception;
+    }
+
+    private final List<Class<?>> types = new ArrayList<>();
+    private final Map<Class<?>, Integer> ids = new HashMap<>();
+    private final List<List<Class<?>>> constructorDependencies = new ArrayList<>();
+    private final List<List<Class<?>>> memberDependencies = new ArrayList<>();
+
+    /** Prerequisites of the tasks restored by {@link #restore(int[][], int[])}, or {@code null}. */
+    private int[][] plannedPrerequisites;
+
+    /** Task order restored by {@link #restore(int[][], int[])}, or {@code null}. */
+    private int[] plannedOrder;
+
+    /** Prerequisites of the tasks of the last execution, or {@code null}. */
+    private int[][] executedPrerequisites;
+
+    /** Task order of the last execution, or {@code null}. */
+    private int[] executedOrder;
+
+    /** Duration of every task of the last execution, zero for skipped tasks. */
+    private long[] durations;
+
+    /**
+     * Checks whether a bean has already been added.
+     *
+     * @param type
+     *            the bean class
+     * @return true if the graph contains the bean
+     */
+    boolean contains(Class<?> type) {
+        return ids.containsKey(type);
+    }
+
+    /**
+     * Adds a bean to the graph. Dependencies may refer to beans that are added
+     * later.
+     *
+     * @param type
+     *            the bean class
+     * @param constructorDependencies
+     *            the beans that must be fully initialized before construction
+     * @param memberDependencies
+     *            the beans that must be fully initialized before injection
+     */
+    void add(Class<?> type, List<Class<?>> constructorDependencies, List<Class<?>> memberDependencies) {
+        ids.put(type, types.size());
+        types.add(type);
+        this.constructorDependencies.add(constructorDependencies);
+        this.memberDependencies.add(memberDependencies);
+    }
+
+    /**
+     * Returns the number of beans in the graph.
+     *
+     * @return the bean count
+     */
+    int size() {
+        return types.size();
+    }
+
+    /**
+     * Returns the beans of the graph.
+     *
+     * @return the bean classes in insertion order
+     */
+    List<Class<?>> types() {
+        return Collections.unmodifiableList(types);
+    }
+
+    /**
+     * Returns the beans that must be fully initialized before a bean is
+     * constructed.
+     *
+     * @param type
+     *            a bean of the graph
+     * @return the constructor dependencies as added
+     */
+    List<Class<?>> constructorDependencies(Class<?> type) {
+        return constructorDependencies.get(ids.get(type));
+    }
+
+    /**
+     * Returns the beans that must be fully initialized before a bean is
+     * injected.
+     *
+     * @param type
+     *            a bean of the graph
+     * @return the field and setter dependencies as added
+     */
+    List<Class<?>> memberDependencies(Class<?> type) {
+        return memberDependencies.get(ids.get(type));
+    }
+
+    /**
+     * Returns the prerequisites of every task of the last execution. Task
+     * {@code 2 * i} constructs bean {@code i}, task {@code 2 * i + 1} injects it.
+     *
+     * @return the prerequisites, or {@code null} before the first execution
+     */
+    int[][] prerequisites() {
+        return executedPrerequisites;
+    }
+
+    /**
+     * Returns the order in which the tasks of the last execution were scheduled.
+     *
+     * @return the task order, or {@code null} before the first execution
+     */
+    int[] order() {
+        return executedOrder;
+    }
+
+    /**
+     * Restores the schedule of an earlier execution of the same graph, so that
+     * the next execution neither sorts the tasks nor looks for cycles.
+     *
+     * @param prerequisites
+     *            the prerequisites returned by {@link #prerequisites()}
+     * @param order
+     *            the order returned by {@link #order()}
+     */
+    void restore(int[][] prerequisites, int[] order) {
+        if (prerequisites.length != types.size() * 2 || order.length != prerequisites.length) {
+            throw new IllegalArgumentException(
+                    "Schedule of " + order.length + " tasks does not fit a graph of " + types.size() + " beans");
+        }
+        this.plannedPrerequisites = prerequisites;
+        this.plannedOrder = order;
+    }
+
+    /**
+     * Returns the lazy beans that can stay uncreated: those no eager bean
+     * depends on, directly or through other beans.
+     *
+     * @param lazy
+     *            tells whether a bean is lazy
+     * @return the beans whose creation can be deferred, in insertion order
+     */
+    Set<Class<?>> deferred(Predicate<Class<?>> lazy) {
+        boolean[] needed = new boolean[types.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = 0; i < types.size(); i++) {
+            if (!lazy.test(types.get(i))) {
+                needed[i] = true;
+                queue.add(i);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int i = queue.removeFirst();
+            for (List<Class<?>> dependencies :
+                    Arrays.asList(constructorDependencies.get(i), memberDependencies.get(i))) {
+                for (Class<?> dependency : dependencies) {
+                    int id = ids.get(dependency);
+                    if (!needed[id]) {
+                        needed[id] = true;
+                        queue.add(id);
+                    }
+                }
+            }
+        }
+        Set<Class<?>> deferred = new LinkedHashSet<>();
+        for (int i = 0; i < types.size(); i++) {
+            if (!needed[i]) {
+                deferred.add(types.get(i));
+            }
+        }
+        return deferred;
+    }
+
+    /**
+     * Validates the whole graph, unless its schedule was restored, then runs the
+     * construct and inject steps of every bean except the skipped ones, which
+     * must not be required by the others, on the executor in dependency order,
+     * and waits for all of them.
+     *
+     * @param executor
+     *            the executor that runs the steps
+     * @param construct
+     *            creates and registers a bean
+     * @param inject
+     *            injects the fields and setters of a registered bean and starts
+     *            its initialization
+     * @param ready
+     *            notified of every bean once it and the beans it depends on,
+     *            directly or through other beans, are injected and initialized;
+     *            {@code null} if not needed
+     * @param skipped
+     *            the beans to leave uncreated, see {@link #deferred(Predicate)}
+     * @throws IoCCircularDepException
+     *             if constructor parameters form a cycle
+     * @throws Exception
+     *             the first failure of a step
+     */
+    void execute(Executor executor, Step construct, AsyncStep inject, Consumer<Class<?>> ready, Set<Class<?>> skipped)
+            throws Exception {
+        int[][] prerequisites = plannedPrerequisites != null ? plannedPrerequisites : prerequisites(false);
+        int[] order = plannedOrder != null ? plannedOrder : order(prerequisites);
+        if (order == null) {
+            prerequisites = prerequisites(true);
+            order = order(prerequisites);
+            if (order == null) {
+                throw new IoCCircularDepException(
+                        "Circular dependency detected between constructors of " + describeCycle(prerequisites));
+            }
+        }
+
+        long[] durations = new long[order.length];
+        this.executedPrerequisites = prerequisites;
+        this.executedOrder = order;
+        this.durations = durations;
+        List<CompletableFuture<?>> scheduled = new ArrayList<>(order.length);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[order.length];
+        for (int task : order) {
+            Class<?> type = types.get(task / 2);
+            if (skipped.contains(type)) {
+                continue;
+            }
+            int[] required = prerequisites[task];
+            CompletableFuture<?>[] dependencies = new CompletableFuture<?>[required.length];
+            for (int i = 0; i < required.length; i++) {
+                dependencies[i] = futures[required[i]];
+            }
+            CompletableFuture<?> start = required.length == 0
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.allOf(dependencies);
+            if (task % 2 == 0) {
+                futures[task] = start.thenRunAsync(
+                        () -> {
+                            long begin = System.nanoTime();
+                            try {
+                                construct.run(type);
+                                durations[task] = System.nanoTime() - begin;
+                            } catch (Exception e) {
+                                throw new CompletionException(e);
+                            }
+                        },
+                        executor);
+            } else {
+                futures[task] = start.thenComposeAsync(
+                        ignored -> {
+                            long begin = System.nanoTime();
+                            try {
+                                CompletionStage<?> stage = inject.run(type);
+                                durations[task] = System.nanoTime() - begin;
+                                return stage != null ? stage : CompletableFuture.completedFuture(null);
+                            } catch (Exception e) {
+                                throw new CompletionException(e);
+                            }
+                        },
+                        executor);
+            }
+            scheduled.add(futures[task]);
+        }
+        if (ready != null) {
+            scheduled.addAll(notifyReady(futures, ready, skipped));
+        }
+
+        await(CompletableFuture.allOf(scheduled.toArray(new CompletableFuture<?>[0])));
+    }
+
+    /**
+     * Chains the readiness of every bean to the inject tasks of the beans it
+     * depends on, directly or through other beans. The beans of a cycle become
+     * ready together.
+     *
+     * @return the readiness of every group of beans
+     */
+    private List<CompletableFuture<?>> notifyReady(
+            CompletableFuture<?>[] futures, Consumer<Class<?>> ready, Set<Class<?>> skipped) {
+        int[][] dependencies = new int[types.size()][];
+        for (int i = 0; i < types.size(); i++) {
+            List<Class<?>> constructorDeps = constructorDependencies.get(i);
+            List<Class<?>> memberDeps = memberDependencies.get(i);
+            dependencies[i] = new int[constructorDeps.size() + memberDeps.size()];
+            int j = 0;
+            for (Class<?> dependency : constructorDeps) {
+                dependencies[i][j++] = ids.get(dependency);
+            }
+            for (Class<?> dependency : memberDeps) {
+                dependencies[i][j++] = ids.get(dependency);
+            }
+        }
+        // Components are numbered after the components they depend on
+        int[] component = components(dependencies);
+        int count = 0;
+        for (int c : component) {
+            count = Math.max(count, c + 1);
+        }
+        List<List<Integer>> members = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            members.add(new ArrayList<>());
+        }
+        for (int i = 0; i < types.size(); i++) {
+            if (!skipped.contains(types.get(i))) {
+                members.get(component[i]).add(i);
+            }
+        }
+
+        CompletableFuture<?>[] readiness = new CompletableFuture<?>[count];
+        List<CompletableFuture<?>> notified = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            List<Integer> beans = members.get(c);
+            if (beans.isEmpty()) {
+                continue;
+            }
+            Set<CompletableFuture<?>> required = new LinkedHashSet<>();
+            for (int i : beans) {
+                required.add(futures[2 * i + 1]);
+                for (int dependency : dependencies[i]) {
+                    if (component[dependency] != c) {
+                        required.add(readiness[component[dependency]]);
+                    }
+                }
+            }
+            readiness[c] = CompletableFuture.allOf(required.toArray(new CompletableFuture<?>[0]))
+                    .thenRun(() -> {
+                        for (int i : beans) {
+                            ready.accept(types.get(i));
+                        }
+                    });
+            notified.add(readiness[c]);
+        }
+        return notified;
+    }
+
+    /**
+     * Runs an asynchronous step for every bean of the last execution and waits
+     * for all of them. Going forward, the step of a bean starts once the steps
+     * of the beans it depends on have completed; in reverse, once the steps of
+     * the beans that depend on it have completed. Steps without a path between
+     * them run concurrently.
+     *
+     * <p>
+     * Inside a cycle of fields and setters the bean injected first in the last
+     * execution counts as the dependency, so the steps of a cycle are ordered
+     * too.
+     * </p>
+     *
+     * @param executor
+     *            the executor that starts the steps
+     * @param step
+     *            the step, which also receives the skipped beans
+     * @param reverse
+     *            whether dependents go first
+     * @throws Exception
+     *             the first failure of a step
+     */
+    void cascade(Executor executor, AsyncStep step, boolean reverse) throws Exception {
+        if (executedOrder == null) {
+            return;
+        }
+        int[] position = new int[types.size()];
+        int[] beans = new int[types.size()];
+        int count = 0;
+        for (int task : executedOrder) {
+            if (task % 2 == 1) {
+                position[task / 2] = count;
+                beans[count++] = task / 2;
+            }
+        }
+        List<List<Integer>> required = new ArrayList<>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            required.add(new ArrayList<>());
+        }
+        for (int i = 0; i < types.size(); i++) {
+            for (List<Class<?>> dependencies :
+                    Arrays.asList(constructorDependencies.get(i), memberDependencies.get(i))) {
+                for (Class<?> dependency : dependencies) {
+                    int id = ids.get(dependency);
+                    if (position[id] < position[i]) {
+                        required.get(reverse ? id : i).add(reverse ? i : id);
+                    }
+                }
+            }
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[types.size()];
+        for (int n = 0; n < count; n++) {
+            int i = beans[reverse ? count - 1 - n : n];
+            Class<?> type = types.get(i);
+            List<Integer> prerequisites = required.get(i);
+            CompletableFuture<?>[] dependencies = new CompletableFuture<?>[prerequisites.size()];
+            for (int j = 0; j < dependencies.length; j++) {
+                dependencies[j] = futures[prerequisites.get(j)];
+            }
+            futures[i] = CompletableFuture.allOf(dependencies)
+                    .thenComposeAsync(
+                            ignored -> {
+                                try {
+                                    CompletionStage<?> stage = step.run(type);
+                                    return stage != null ? stage : CompletableFuture.completedFuture(null);
+                                } catch (Exception e) {
+                                    throw new CompletionException(e);
+                                }
+                            },
+                            executor);
+        }
+        await(CompletableFuture.allOf(futures));
+    }
+
+    /**
+     * Waits for a future, rethrowing the exception it failed with.
+     *
+     * @param future
+     *            the future to wait for
+     * @throws Exception
+     *             the failure of the future
+     */
+    static void await(CompletableFuture<?> future) throws Exception {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns how long the construct step of a bean took in the last execution.
+     *
+     * @param type
+     *            the bean class
+     * @return the duration in nanoseconds, zero if the step did not run
+     */
+    long constructNanos(Class<?> type) {
+        return durations == null ? 0 : durations[2 * ids.get(type)];
+    }
+
+    /**
+     * Returns how long the inject step of a bean took in the last execution.
+     *
+     * @param type
+     *            the bean class
+     * @return the duration in nanoseconds, zero if the step did not run
+     */
+    long injectNanos(Class<?> type) {
+        return durations == null ? 0 : durations[2 * ids.get(type) + 1];
+    }
+
+    /**
+     * Returns the beans on the critical path of the last execution: the chain
+     * of dependent steps with the largest total duration, which bounds the
+     * startup time however many threads create beans.
+     *
+     * @return the beans of the chain, dependencies first, or an empty list if
+     *         the graph has not been executed
+     */
+    List<Class<?>> criticalPath() {
+        if (executedOrder == null) {
+            return Collections.emptyList();
+        }
+        long[] finish = new long[executedOrder.length];
+        int[] previous = new int[executedOrder.length];
+        int last = -1;
+        for (int task : executedOrder) {
+            previous[task] = -1;
+            for (int required : executedPrerequisites[task]) {
+                if (previous[task] == -1 || finish[required] > finish[previous[task]]) {
+                    previous[task] = required;
+                }
+            }
+            finish[task] = durations[task] + (previous[task] == -1 ? 0 : finish[previous[task]]);
+            if (last == -1 || finish[task] > finish[last]) {
+                last = task;
+            }
+        }
+        Deque<Class<?>> path = new ArrayDeque<>();
+        for (int task = last; task != -1; task = previous[task]) {
+            Class<?> type = types.get(task / 2);
+            if (path.isEmpty() || path.peekFirst() != type) {
+                path.addFirst(type);
+            }
+        }
+        return new ArrayList<>(path);
+    }
+
+    /**
+     * Builds the prerequisites of every task. The construct task of bean
+     * {@code i} is {@code 2 * i}, its inject task {@code 2 * i + 1}.
+     *
+     * @param relaxed
+     *            whether dependencies inside a cycle only need to be constructed
+     *            instead of fully initialized
+     */
+    private int[][] prerequisites(boolean relaxed) {
+        int[] component = relaxed ? components(prerequisites(false)) : null;
+        int[][] prerequisites = new int[types.size() * 2][];
+        for (int i = 0; i < types.size(); i++) {
+            List<Class<?>> constructorDeps = constructorDependencies.get(i);
+            int[] construct = new int[constructorDeps.size()];
+            for (int j = 0; j < construct.length; j++) {
+                int dependency = ids.get(constructorDeps.get(j));
+                boolean inCycle = relaxed && component[2 * i] == component[2 * dependency + 1];
+                construct[j] = inCycle ? 2 * dependency : 2 * dependency + 1;
+            }
+            prerequisites[2 * i] = construct;
+
+            List<Class<?>> memberDeps = memberDependencies.get(i);
+            int[] inject = new int[memberDeps.size() + 1];
+            inject[0] = 2 * i;
+            for (int j = 0; j < memberDeps.size(); j++) {
+                int dependency = ids.get(memberDeps.get(j));
+                boolean inCycle = relaxed && component[2 * i + 1] == component[2 * dependency + 1];
+                inject[j + 1] = inCycle ? 2 * dependency : 2 * dependency + 1;
+            }
+            prerequisites[2 * i + 1] = inject;
+        }
+        return prerequisites;
+    }
+
+    /**
+     * Sorts the tasks so that every task follows its prerequisites.
+     *
+     * @return the task order, or {@code null} if the tasks form a cycle
+     */
+    private static int[] order(int[][] prerequisites) {
+        int count = prerequisites.length;
+        int[] pending = new int[count];
+        List<List<Integer>> dependents = new ArrayList<>(count);
+        for (int task = 0; task < count; task++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int task = 0; task < count; task++) {
+            pending[task] = prerequisites[task].length;
+            for (int required : prerequisites[task]) {
+                dependents.get(required).add(task);
+            }
+        }
+        int[] order = new int[count];
+        int head = 0;
+        int tail = 0;
+        for (int task = 0; task < count; task++) {
+            if (pending[task] == 0) {
+                order[tail++] = task;
+            }
+        }
+        while (head < tail) {
+            for (int dependent : dependents.get(order[head++])) {
+                if (--pending[dependent] == 0) {
+                    order[tail++] = dependent;
+                }
+            }
+        }
+        return tail == count ? order : null;
+    }
+
+    /**
+     * Labels every task with its strongly connected component, using an
+     * iterative form of Tarjan's algorithm so deep graphs cannot overflow the
+     * stack.
+     */
+    private static int[] components(int[][] prerequisites) {
+        int count = prerequisites.length;
+        int[] index = new int[count];
+        int[] lowLink = new int[count];
+        int[] component = new int[count];
+        boolean[] onStack = new boolean[count];
+        Arrays.fill(index, -1);
+        int[] stack = new int[count];
+        int stackSize = 0;
+        int[] callStack = new int[count];
+        int[] edge = new int[count];
+        int nextIndex = 0;
+        int nextComponent = 0;
+
+        for (int root = 0; root < count; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int depth = 0;
+            callStack[0] = root;
+            edge[root] = 0;
+            index[root] = lowLink[root] = nextIndex++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            while (depth >= 0) {
+                int task = callStack[depth];
+                if (edge[task] < prerequisites[task].length) {
+                    int next = prerequisites[task][edge[task]++];
+                    if (index[next] == -1) {
+                        index[next] = lowLink[next] = nextIndex++;
+                        edge[next] = 0;
+                        stack[stackSize++] = next;
+                        onStack[next] = true;
+                        callStack[++depth] = next;
+                    } else if (onStack[next]) {
+                        lowLink[task] = Math.min(lowLink[task], index[next]);
+                    }
+                    continue;
+                }
+                if (lowLink[task] == index[task]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        component[member] = nextComponent;
+                    } while (member != task);
+                    nextComponent++;
+                }
+                depth--;
+                if (depth >= 0) {
+                    int caller = callStack[depth];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[task]);
+                }
+            }
+        }
+        return component;
+    }
+
+    /** Lists the beans whose construct tasks are part of a cycle. */
+    private String describeCycle(int[][] prerequisites) {
+        int[] component = components(prerequisites);
+        int[] size = new int[prerequisites.length];
+        for (int c : component) {
+            size[c]++;
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < types.size(); i++) {
+            int task = 2 * i;
+            boolean selfLoop = false;
+            for (int required : prerequisites[task]) {
+                selfLoop |= required == task;
+            }
+            if (size[component[task]] > 1 || selfLoop) {
+                joiner.add(types.get(i).getName());
+            }
+        }
+        return joiner.toString();
+    }
+}
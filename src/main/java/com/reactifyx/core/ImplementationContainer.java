@@ -16,11 +16,14 @@
 package com.reactifyx.core;
 
 import com.reactifyx.exception.IoCException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Container class that maps interface types to their implementation classes. It
@@ -32,18 +35,47 @@ import java.util.stream.Collectors;
  * need to resolve a specific one either by field name or using a
  * {@code @Qualifier}.
  * </p>
+ *
+ * <p>
+ * Registrations are kept as an inverted index from every supertype to its
+ * implementations, together with a per-type table of implementations by simple
+ * name, so a lookup costs two hash probes regardless of how many beans are
+ * registered. Lookups may run concurrently once registration is complete.
+ * </p>
+ *
+ * <p>
+ * The supertypes of every class are computed once and shared by the containers
+ * of all contexts in the JVM, so registering a class costs only the index
+ * updates.
+ * </p>
  */
 public class ImplementationContainer {
 
+    /** A type with all of its superclasses and interfaces, except {@code Object}. */
+    private static final ClassValue<Class<?>[]> SUPERTYPES = new ClassValue<Class<?>[]>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            return supertypes(type).toArray(new Class<?>[0]);
+        }
+    };
+
+    /**
+     * Inverted index from each registered type and its supertypes to the
+     * implementation classes assignable to it, in registration order.
+     */
+    private final Map<Class<?>, Set<Class<?>>> implementationsMap = new HashMap<>(16);
+
     /**
-     * A map holding the relationship between implementation classes and their
-     * associated interface types. The key is the implementation class, the value is
-     * the interface it implements.
+     * Implementations of each type keyed by their lower-cased simple name and
+     * type-level qualifier, the form in which field names and qualifiers select
+     * an implementation.
      */
-    private final Map<Class<?>, Class<?>> implementationsMap = new HashMap<>(10);
+    private final Map<Class<?>, Map<String, Class<?>>> implementationsByName = new HashMap<>(16);
 
     /**
-     * Registers an implementation class for a given interface.
+     * Registers an implementation class for a given interface. The
+     * implementation is also registered for every supertype of the interface, so
+     * it can be injected wherever one of them is declared.
      *
      * @param implementationClass
      *            the actual implementation class
@@ -51,7 +83,66 @@ public class ImplementationContainer {
      *            the interface that this implementation should be associated with
      */
     public void putImplementationClass(Class<?> implementationClass, Class<?> interfaceClass) {
-        implementationsMap.put(implementationClass, interfaceClass);
+        putImplementationClass(implementationClass, interfaceClass, null);
+    }
+
+    /**
+     * Registers an implementation class for a given interface, selectable by
+     * its type-level {@code @Qualifier} value as well as by its simple name.
+     *
+     * @param implementationClass
+     *            the actual implementation class
+     * @param interfaceClass
+     *            the interface that this implementation should be associated with
+     * @param qualifier
+     *            the {@code @Qualifier} value of the implementation class, or
+     *            {@code null}
+     */
+    public void putImplementationClass(Class<?> implementationClass, Class<?> interfaceClass, String qualifier) {
+        String name = implementationClass.getSimpleName().toLowerCase(Locale.ROOT);
+        String qualifierName = qualifier == null || qualifier.trim().isEmpty()
+                ? null
+                : qualifier.toLowerCase(Locale.ROOT);
+        for (Class<?> type : SUPERTYPES.get(interfaceClass)) {
+            if (implementationsMap
+                    .computeIfAbsent(type, k -> new LinkedHashSet<>(2))
+                    .add(implementationClass)) {
+                Map<String, Class<?>> byName = implementationsByName.computeIfAbsent(type, k -> new HashMap<>(2));
+                byName.putIfAbsent(name, implementationClass);
+                if (qualifierName != null) {
+                    byName.putIfAbsent(qualifierName, implementationClass);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns every implementation registered for a type.
+     *
+     * @param interfaceClass
+     *            the interface or class
+     * @return the implementation classes in registration order, possibly empty
+     */
+    public Set<Class<?>> getImplementationClasses(Class<?> interfaceClass) {
+        Set<Class<?>> implementationClasses = implementationsMap.get(interfaceClass);
+        return implementationClasses == null
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(implementationClasses);
+    }
+
+    /**
+     * Returns the types that resolve to exactly one implementation class.
+     *
+     * @return a new map from each such type to its implementation
+     */
+    public Map<Class<?>, Class<?>> getUniqueImplementations() {
+        Map<Class<?>, Class<?>> unique = new HashMap<>(implementationsMap.size() * 2);
+        for (Map.Entry<Class<?>, Set<Class<?>>> entry : implementationsMap.entrySet()) {
+            if (entry.getValue().size() == 1) {
+                unique.put(entry.getKey(), entry.getValue().iterator().next());
+            }
+        }
+        return unique;
     }
 
     /**
@@ -76,28 +167,54 @@ public class ImplementationContainer {
      *             to disambiguate
      */
     public Class<?> getImplementationClass(Class<?> interfaceClass, final String fieldName, final String qualifier) {
-        Set<Map.Entry<Class<?>, Class<?>>> implementationClasses = implementationsMap.entrySet().stream()
-                .filter(entry -> entry.getValue() == interfaceClass)
-                .collect(Collectors.toSet());
-        String errorMessage;
-        if (implementationClasses.isEmpty()) {
-            errorMessage = "No implementation found for interface " + interfaceClass.getName();
-        } else if (implementationClasses.size() == 1) {
-            Optional<Map.Entry<Class<?>, Class<?>>> optional =
-                    implementationClasses.stream().findFirst();
-            return optional.get().getKey();
-        } else {
-            final String findBy = (qualifier == null || qualifier.trim().isEmpty()) ? fieldName : qualifier;
-            Optional<Map.Entry<Class<?>, Class<?>>> optional = implementationClasses.stream()
-                    .filter(entry -> entry.getKey().getSimpleName().equalsIgnoreCase(findBy))
-                    .findAny();
-            if (optional.isPresent()) {
-                return optional.get().getKey();
-            } else {
-                errorMessage = "There are " + implementationClasses.size() + " of interface " + interfaceClass.getName()
-                        + " Expected single implementation or make use of" + " @Qualifier to resolve conflict";
+        Set<Class<?>> implementationClasses = implementationsMap.get(interfaceClass);
+        if (implementationClasses == null) {
+            throw new IoCException("No implementation found for interface " + interfaceClass.getName());
+        }
+        if (implementationClasses.size() == 1) {
+            return implementationClasses.iterator().next();
+        }
+        final String findBy = (qualifier == null || qualifier.trim().isEmpty()) ? fieldName : qualifier;
+        if (findBy != null) {
+            Class<?> implementationClass =
+                    implementationsByName.get(interfaceClass).get(findBy.toLowerCase(Locale.ROOT));
+            if (implementationClass != null) {
+                return implementationClass;
+            }
+        }
+        throw new IoCException("There are " + implementationClasses.size() + " of interface "
+                + interfaceClass.getName() + " Expected single implementation or make use of"
+                + " @Qualifier to resolve conflict");
+    }
+
+    /**
+     * Returns a type with all of its superclasses and interfaces, except
+     * {@code Object}.
+     *
+     * @param type
+     *            the type
+     * @return the shared array of supertypes, the type itself first; must not
+     *         be modified
+     */
+    static Class<?>[] supertypesOf(Class<?> type) {
+        return SUPERTYPES.get(type);
+    }
+
+    /** Collects a type with all of its superclasses and interfaces, except {@code Object}. */
+    private static Set<Class<?>> supertypes(Class<?> type) {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.removeFirst();
+            if (current == Object.class || !supertypes.add(current)) {
+                continue;
+            }
+            if (current.getSuperclass() != null) {
+                queue.add(current.getSuperclass());
             }
+            Collections.addAll(queue, current.getInterfaces());
         }
-        throw new IoCException(errorMessage);
+        return supertypes;
     }
 }
@@ -0,0 +1,458 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Bean;
+import com.reactifyx.PostConstruct;
+import com.reactifyx.PreDestroy;
+import com.reactifyx.Qualifier;
+import com.reactifyx.exception.IoCException;
+import com.reactifyx.utils.FinderUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Injection metadata of a single class, computed once and shared by every
+ * container in the JVM.
+ *
+ * <p>
+ * A plan holds the type, name and qualifier of every injection point, and
+ * either the generated {@link Injector} of the class or pre-resolved
+ * {@link MethodHandle}s for the constructors, the {@code @Autowired} fields and
+ * setters, the {@code @Bean} methods and the lifecycle callbacks. With an
+ * injector, the injection points, {@code @Bean} methods and callbacks are read
+ * from the injector and called through it, and the class hierarchy is not
+ * walked. Plans are cached in a {@link ClassValue}, so reflection, when it is
+ * needed, runs only the first time a class is seen.
+ * </p>
+ */
+final class InjectionPlan {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<InjectionPlan>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            try {
+                return new InjectionPlan(type);
+            } catch (IllegalAccessException e) {
+                throw new IoCException(e);
+            }
+        }
+    };
+
+    /** The class this plan builds. */
+    final Class<?> type;
+
+    /** The generated injector, or {@code null} when reflection is used. */
+    final Injector<Object> injector;
+
+    /** The {@code @Autowired} constructor, or {@code null} if there is none. */
+    final Member autowiredConstructor;
+
+    /** The non-private no-arg constructor, or {@code null} if there is none. */
+    final Member defaultConstructor;
+
+    /** The {@code @Autowired} fields, each with a single injection point. */
+    final Member[] fields;
+
+    /** The {@code @Autowired} setters. */
+    final Member[] setters;
+
+    /** The {@code @Bean} methods. */
+    final BeanMethod[] beanMethods;
+
+    /** The {@code @PostConstruct} methods, superclasses first. */
+    final Member[] postConstructs;
+
+    /** The {@code @PreDestroy} methods, superclasses last. */
+    final Member[] preDestroys;
+
+    /** The largest {@code @PreDestroy} timeout in milliseconds, or -1 for the default. */
+    final long preDestroyTimeoutMillis;
+
+    private InjectionPlan(Class<?> type) throws IllegalAccessException {
+        this.type = type;
+        this.injector = findInjector(type);
+        if (injector != null) {
+            // The injector describes the class, so it is not inspected through reflection
+            Injector.Point[] constructorPoints = injector.constructorPoints();
+            this.autowiredConstructor = constructorPoints == null ? null : new Member(points(constructorPoints));
+            this.defaultConstructor = null;
+            Injector.Point[] fieldPoints = injector.fieldPoints();
+            this.fields = new Member[fieldPoints.length];
+            for (int i = 0; i < fieldPoints.length; i++) {
+                fields[i] = new Member(new InjectionPoint[] {point(fieldPoints[i])});
+            }
+            Injector.Point[][] setterPoints = injector.setterPoints();
+            this.setters = new Member[setterPoints.length];
+            for (int i = 0; i < setterPoints.length; i++) {
+                setters[i] = new Member(points(setterPoints[i]));
+            }
+            Injector<Object> generated = injector;
+            Injector.BeanMethod[] described = injector.beanMethods();
+            this.beanMethods = new BeanMethod[described.length];
+            for (int i = 0; i < described.length; i++) {
+                int index = i;
+                beanMethods[i] = new BeanMethod(
+                        (target, arguments) -> generated.invokeBean(index, target, arguments),
+                        points(described[i].getPoints()),
+                        described[i].getBeanType(),
+                        described[i].getName(),
+                        described[i].getMethodName());
+            }
+            this.postConstructs = new Member[injector.postConstructCount()];
+            for (int i = 0; i < postConstructs.length; i++) {
+                int index = i;
+                postConstructs[i] = new Member((target, arguments) -> generated.postConstruct(index, target));
+            }
+            this.preDestroys = new Member[injector.preDestroyCount()];
+            for (int i = 0; i < preDestroys.length; i++) {
+                int index = i;
+                preDestroys[i] = new Member((target, arguments) -> generated.preDestroy(index, target));
+            }
+            this.preDestroyTimeoutMillis = injector.preDestroyTimeoutMillis();
+            return;
+        }
+
+        Constructor<?> annotatedConstructor = FinderUtil.findAnnotatedConstructor(type);
+        this.autowiredConstructor = annotatedConstructor == null ? null : constructor(annotatedConstructor);
+        Constructor<?> noArgConstructor;
+        try {
+            noArgConstructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            noArgConstructor = null;
+        }
+        if (noArgConstructor != null && Modifier.isPrivate(noArgConstructor.getModifiers())) {
+            noArgConstructor = null;
+        }
+        this.defaultConstructor = noArgConstructor == null ? null : constructor(noArgConstructor);
+
+        Set<Field> autowiredFields = FinderUtil.findFields(type, Autowired.class);
+        this.fields = new Member[autowiredFields.size()];
+        int i = 0;
+        for (Field field : autowiredFields) {
+            fields[i++] = new Member(
+                    normalize(LOOKUP.unreflectSetter(field), 1, Modifier.isStatic(field.getModifiers())),
+                    point(field, field.getType(), field.getGenericType(), field.getName()));
+        }
+
+        Set<Method> autowiredMethods = FinderUtil.findMethods(type, Autowired.class);
+        this.setters = new Member[autowiredMethods.size()];
+        i = 0;
+        for (Method method : autowiredMethods) {
+            setters[i++] = new Member(
+                    normalize(
+                            LOOKUP.unreflect(method),
+                            method.getParameterCount(),
+                            Modifier.isStatic(method.getModifiers())),
+                    parameters(method.getParameters()));
+        }
+
+        Set<Method> annotatedBeanMethods = FinderUtil.findMethods(type, Bean.class);
+        this.beanMethods = new BeanMethod[annotatedBeanMethods.size()];
+        i = 0;
+        for (Method method : annotatedBeanMethods) {
+            beanMethods[i++] = new BeanMethod(
+                    invoker(normalize(
+                            LOOKUP.unreflect(method),
+                            method.getParameterCount(),
+                            Modifier.isStatic(method.getModifiers()))),
+                    parameters(method.getParameters()),
+                    method.getReturnType(),
+                    method.getAnnotation(Bean.class).value(),
+                    method.getName());
+        }
+
+        Member[] initializers = callbacks(FinderUtil.findMethods(type, PostConstruct.class));
+        Collections.reverse(Arrays.asList(initializers));
+        this.postConstructs = initializers;
+        Set<Method> destroyMethods = FinderUtil.findMethods(type, PreDestroy.class);
+        this.preDestroys = callbacks(destroyMethods);
+        long timeout = -1;
+        for (Method method : destroyMethods) {
+            timeout = Math.max(timeout, method.getAnnotation(PreDestroy.class).timeoutMillis());
+        }
+        this.preDestroyTimeoutMillis = timeout;
+    }
+
+    /**
+     * Returns the cached plan of a class, computing it on first use.
+     *
+     * @param clazz
+     *            the bean class
+     * @return the injection plan
+     */
+    static InjectionPlan of(Class<?> clazz) {
+        return PLANS.get(clazz);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Injector<Object> findInjector(Class<?> type) {
+        Class<?> injectorClass;
+        try {
+            injectorClass = Class.forName(type.getName() + Injector.SUFFIX, true, type.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        try {
+            return (Injector<Object>) injectorClass.getConstructor().newInstance();
+        } catch (InstantiationException
+                | IllegalAccessException
+                | InvocationTargetException
+                | NoSuchMethodException e) {
+            throw new IoCException(e);
+        }
+    }
+
+    private static Member constructor(Constructor<?> constructor) throws IllegalAccessException {
+        constructor.setAccessible(true);
+        return new Member(
+                normalize(LOOKUP.unreflectConstructor(constructor), constructor.getParameterCount(), true),
+                parameters(constructor.getParameters()));
+    }
+
+    /**
+     * Creates the members of lifecycle callbacks in the order found. A method
+     * overridden by a subclass is only called through the subclass.
+     */
+    private static Member[] callbacks(Set<Method> methods) throws IllegalAccessException {
+        List<Member> callbacks = new ArrayList<>(methods.size());
+        Set<String> names = new HashSet<>();
+        for (Method method : methods) {
+            if (method.getParameterCount() != 0) {
+                throw new IoCException("Lifecycle method "
+                        + method.getDeclaringClass().getName() + "." + method.getName() + " must not take parameters");
+            }
+            if (names.add(method.getName())) {
+                callbacks.add(
+                        new Member(normalize(LOOKUP.unreflect(method), 0, Modifier.isStatic(method.getModifiers()))));
+            }
+        }
+        return callbacks.toArray(new Member[0]);
+    }
+
+    /**
+     * Adapts a handle to the shape {@code (Object, Object[])Object}, so every
+     * member is invoked the same way. Constructors and static members accept and
+     * ignore the receiver.
+     */
+    private static MethodHandle normalize(MethodHandle handle, int parameterCount, boolean withoutReceiver) {
+        MethodType generic = handle.type().generic();
+        MethodHandle spread = handle.asType(generic).asSpreader(Object[].class, parameterCount);
+        return withoutReceiver ? MethodHandles.dropArguments(spread, 0, Object.class) : spread;
+    }
+
+    /** Calls a handle of shape {@code (Object, Object[])Object}. */
+    private static Invoker invoker(MethodHandle handle) {
+        return (target, arguments) -> (Object) handle.invokeExact(target, arguments);
+    }
+
+    private static InjectionPoint[] points(Injector.Point[] points) {
+        InjectionPoint[] converted = new InjectionPoint[points.length];
+        for (int i = 0; i < points.length; i++) {
+            converted[i] = point(points[i]);
+        }
+        return converted;
+    }
+
+    private static InjectionPoint point(Injector.Point point) {
+        return new InjectionPoint(point.getType(), point.getName(), point.getQualifier(), point.getWrapper());
+    }
+
+    private static InjectionPoint[] parameters(Parameter[] parameters) {
+        InjectionPoint[] points = new InjectionPoint[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            points[i] = point(
+                    parameter,
+                    parameter.getType(),
+                    parameter.getParameterizedType(),
+                    parameter.getType().getName());
+        }
+        return points;
+    }
+
+    /**
+     * Creates an injection point, unwrapping {@code Provider<T>},
+     * {@code BeanPool<T>}, {@code StripedBean<T>}, {@code List<T>} and
+     * {@code Map<String, T>} to the bean type {@code T}. Arrays keep their
+     * array type. A raw wrapper is rejected, as it does not name the type of
+     * the beans.
+     */
+    private static InjectionPoint point(AnnotatedElement element, Class<?> type, Type genericType, String name) {
+        String qualifier = qualifier(element);
+        if (type != Provider.class
+                && type != BeanPool.class
+                && type != StripedBean.class
+                && type != List.class
+                && type != Map.class) {
+            return new InjectionPoint(type, name, qualifier, null);
+        }
+        if (!(genericType instanceof ParameterizedType)) {
+            throw new IoCException(
+                    "Injection point " + describe(element) + " must declare the bean type of its " + type.getName());
+        }
+        Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+        if (type == Map.class && arguments[0] != String.class) {
+            throw new IoCException("Map of beans " + name + " must be keyed by String, not " + arguments[0]);
+        }
+        Type provided = arguments[type == Map.class ? 1 : 0];
+        if (provided instanceof ParameterizedType) {
+            provided = ((ParameterizedType) provided).getRawType();
+        }
+        if (!(provided instanceof Class)) {
+            throw new IoCException("Cannot determine the type provided by " + genericType);
+        }
+        Class<?> providedType = (Class<?>) provided;
+        return new InjectionPoint(
+                providedType, name.equals(type.getName()) ? providedType.getName() : name, qualifier, type);
+    }
+
+    /** Names a field or parameter for error messages. */
+    private static String describe(AnnotatedElement element) {
+        if (element instanceof Field) {
+            Field field = (Field) element;
+            return field.getDeclaringClass().getName() + "." + field.getName();
+        }
+        Parameter parameter = (Parameter) element;
+        return parameter.getName() + " of " + parameter.getDeclaringExecutable();
+    }
+
+    private static String qualifier(AnnotatedElement element) {
+        Qualifier qualifier = element.getAnnotation(Qualifier.class);
+        return qualifier == null ? null : qualifier.value();
+    }
+
+    /** A single dependency: a constructor or method parameter, or a field. */
+    static final class InjectionPoint {
+
+        /** The declared type of the injection point, or the wrapped bean type. */
+        final Class<?> type;
+
+        /** The field name, or the type name for parameters. */
+        final String name;
+
+        /** The {@code @Qualifier} value, or {@code null}. */
+        final String qualifier;
+
+        /**
+         * {@link Provider}, {@link BeanPool} or {@link StripedBean} when one of
+         * them is injected instead of the bean, {@link List} or {@link Map} when
+         * every bean of the type is injected, otherwise {@code null}.
+         */
+        final Class<?> wrapper;
+
+        InjectionPoint(Class<?> type, String name, String qualifier, Class<?> wrapper) {
+            this.type = type;
+            this.name = name;
+            this.qualifier = qualifier;
+            this.wrapper = wrapper;
+        }
+    }
+
+    /** Calls a member, either through a method handle or through a generated injector. */
+    @FunctionalInterface
+    interface Invoker {
+
+        Object invoke(Object target, Object[] arguments) throws Throwable;
+    }
+
+    /** An injectable member with its pre-resolved invoker and injection points. */
+    static class Member {
+
+        /** Calls the member, or {@code null} when the generated injector does. */
+        private final Invoker invoker;
+
+        /** The dependencies of the member, in parameter order. */
+        final InjectionPoint[] points;
+
+        /**
+         * @param handle
+         *            handle of shape {@code (Object, Object[])Object}
+         */
+        Member(MethodHandle handle, InjectionPoint... points) {
+            this(invoker(handle), points);
+        }
+
+        Member(Invoker invoker, InjectionPoint... points) {
+            this.invoker = invoker;
+            this.points = points;
+        }
+
+        /** Describes a member that the generated injector calls. */
+        Member(InjectionPoint[] points) {
+            this((Invoker) null, points);
+        }
+
+        /**
+         * Invokes the member.
+         *
+         * @param target
+         *            the receiver, ignored by constructors
+         * @param arguments
+         *            one argument per injection point
+         * @return the constructed instance or the method result
+         * @throws InvocationTargetException
+         *             if the member throws
+         */
+        Object invoke(Object target, Object[] arguments) throws InvocationTargetException {
+            try {
+                return invoker.invoke(target, arguments);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
+    /** A {@code @Bean} method of a configuration class. */
+    static final class BeanMethod extends Member {
+
+        /** The return type of the method, used as the bean type. */
+        final Class<?> beanType;
+
+        /** The {@code @Bean} value. */
+        final String name;
+
+        /** The name of the method. */
+        final String methodName;
+
+        BeanMethod(Invoker invoker, InjectionPoint[] points, Class<?> beanType, String name, String methodName) {
+            super(invoker, points);
+            this.beanType = beanType;
+            this.name = name;
+            this.methodName = methodName;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+/**
+ * Reflection-free factory for a single {@code @Component} or
+ * {@code @Configuration} class.
+ *
+ * <p>
+ * Implementations are generated at compile time by
+ * {@link com.reactifyx.processor.InjectorProcessor} and named after the class
+ * they build, followed by {@link #SUFFIX}. The generated code calls the
+ * constructor, the {@code @Autowired} fields and setters, the {@code @Bean}
+ * methods and the lifecycle callbacks directly, so the container does not need
+ * reflection to create the bean. The container resolves the parameters of the
+ * {@code @Bean} methods and calls them one bean type at a time, in dependency
+ * order, through {@link #invokeBean(int, Object, Object[])}.
+ * </p>
+ *
+ * <p>
+ * The injector also describes the injection points of the class, which the
+ * container needs to order the beans before creating them, so a class with an
+ * injector is never inspected through reflection. When no injector was
+ * generated for a class, {@link ReactifyIoC} falls back to reflection.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the bean built by this injector
+ */
+public interface Injector<T> {
+
+    /** Suffix appended to the binary name of a class to name its injector. */
+    String SUFFIX = "$$Injector";
+
+    /**
+     * Creates a new instance through the {@code @Autowired} constructor, or the
+     * non-private no-arg constructor when there is none.
+     *
+     * @param resolver
+     *            resolves the constructor dependencies
+     * @return the new instance
+     * @throws Exception
+     *             if a dependency cannot be resolved or the constructor fails
+     */
+    T newInstance(Resolver resolver) throws Exception;
+
+    /**
+     * Injects the {@code @Autowired} fields and setters of an instance. For
+     * configuration classes only fields are injected.
+     *
+     * @param instance
+     *            the instance to inject
+     * @param resolver
+     *            resolves the injected dependencies
+     * @throws Exception
+     *             if a dependency cannot be resolved or a setter fails
+     */
+    void inject(T instance, Resolver resolver) throws Exception;
+
+    /**
+     * Describes the dependencies of the {@code @Autowired} constructor.
+     *
+     * @return the injection points in parameter order, or {@code null} when the
+     *         non-private no-arg constructor is used
+     */
+    Point[] constructorPoints();
+
+    /**
+     * Describes the {@code @Autowired} fields.
+     *
+     * @return the injection point of every field, in injection order
+     */
+    Point[] fieldPoints();
+
+    /**
+     * Describes the {@code @Autowired} setters, which configuration classes do
+     * not have.
+     *
+     * @return the injection points of every setter in parameter order, the
+     *         setters in injection order
+     */
+    Point[][] setterPoints();
+
+    /**
+     * Describes the {@code @Bean} methods, which only configuration classes
+     * have.
+     *
+     * @return the methods, each at the index that
+     *         {@link #invokeBean(int, Object, Object[])} calls it by
+     */
+    BeanMethod[] beanMethods();
+
+    /**
+     * Calls a {@code @Bean} method.
+     *
+     * @param index
+     *            the index of the method in {@link #beanMethods()}
+     * @param configuration
+     *            the configuration instance
+     * @param arguments
+     *            one resolved dependency per injection point of the method
+     * @return the produced bean
+     * @throws Exception
+     *             if the method fails
+     */
+    Object invokeBean(int index, T configuration, Object[] arguments) throws Exception;
+
+    /**
+     * Returns the number of {@code @PostConstruct} methods.
+     *
+     * @return the number of methods called by {@link #postConstruct(int, Object)}
+     */
+    int postConstructCount();
+
+    /**
+     * Calls a {@code @PostConstruct} method, superclasses first.
+     *
+     * @param index
+     *            the index of the method, below {@link #postConstructCount()}
+     * @param instance
+     *            the initialized instance
+     * @return the result of the method, {@code null} if it is {@code void}
+     * @throws Exception
+     *             if the method fails
+     */
+    Object postConstruct(int index, T instance) throws Exception;
+
+    /**
+     * Returns the number of {@code @PreDestroy} methods.
+     *
+     * @return the number of methods called by {@link #preDestroy(int, Object)}
+     */
+    int preDestroyCount();
+
+    /**
+     * Calls a {@code @PreDestroy} method, superclasses last.
+     *
+     * @param index
+     *            the index of the method, below {@link #preDestroyCount()}
+     * @param instance
+     *            the instance shut down
+     * @return the result of the method, {@code null} if it is {@code void}
+     * @throws Exception
+     *             if the method fails
+     */
+    Object preDestroy(int index, T instance) throws Exception;
+
+    /**
+     * Returns the largest {@code @PreDestroy} timeout of the class.
+     *
+     * @return the timeout in milliseconds, or -1 for the container default
+     */
+    long preDestroyTimeoutMillis();
+
+    /** Resolves the dependency of a single injection point. */
+    @FunctionalInterface
+    interface Resolver {
+
+        /**
+         * Resolves a dependency.
+         *
+         * @param type
+         *            the declared type of the injection point
+         * @param name
+         *            the field name, or the type name for parameters
+         * @param qualifier
+         *            the {@code @Qualifier} value, or {@code null}
+         * @param wrapper
+         *            the wrapper injected instead of the bean, as described by
+         *            {@link Point#getWrapper()}, or {@code null}
+         * @return the dependency instance
+         * @throws Exception
+         *             if the dependency cannot be resolved
+         */
+        Object resolve(Class<?> type, String name, String qualifier, Class<?> wrapper) throws Exception;
+    }
+
+    /** A {@code @Bean} method, as the compiler saw it. */
+    final class BeanMethod {
+
+        private final Class<?> beanType;
+        private final String name;
+        private final String methodName;
+        private final Point[] points;
+
+        /**
+         * Creates a {@code @Bean} method description.
+         *
+         * @param beanType
+         *            the return type of the method, used as the bean type
+         * @param name
+         *            the {@code @Bean} value
+         * @param methodName
+         *            the name of the method
+         * @param points
+         *            the injection points of the parameters, in order
+         */
+        public BeanMethod(Class<?> beanType, String name, String methodName, Point[] points) {
+            this.beanType = beanType;
+            this.name = name;
+            this.methodName = methodName;
+            this.points = points;
+        }
+
+        /**
+         * Returns the return type of the method, used as the bean type.
+         *
+         * @return the bean type
+         */
+        public Class<?> getBeanType() {
+            return beanType;
+        }
+
+        /**
+         * Returns the {@code @Bean} value.
+         *
+         * @return the bean name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the name of the method.
+         *
+         * @return the method name
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * Returns the injection points of the parameters.
+         *
+         * @return the points, in parameter order
+         */
+        public Point[] getPoints() {
+            return points;
+        }
+    }
+
+    /** A single dependency, as the compiler saw it: a constructor or method parameter, or a field. */
+    final class Point {
+
+        private final Class<?> type;
+        private final String name;
+        private final String qualifier;
+        private final Class<?> wrapper;
+
+        /**
+         * Creates an injection point.
+         *
+         * @param type
+         *            the declared type of the injection point, or the wrapped
+         *            bean type
+         * @param name
+         *            the field name, or the type name for parameters
+         * @param qualifier
+         *            the {@code @Qualifier} value, or {@code null}
+         * @param wrapper
+         *            the wrapper injected instead of the bean, or {@code null}
+         */
+        public Point(Class<?> type, String name, String qualifier, Class<?> wrapper) {
+            this.type = type;
+            this.name = name;
+            this.qualifier = qualifier;
+            this.wrapper = wrapper;
+        }
+
+        /**
+         * Returns the declared type of the injection point, or the bean type
+         * of a wrapper.
+         *
+         * @return the type
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Returns the field name, or the type name for parameters.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the {@code @Qualifier} value.
+         *
+         * @return the qualifier, or {@code null}
+         */
+        public String getQualifier() {
+            return qualifier;
+        }
+
+        /**
+         * Returns {@link Provider}, {@link BeanPool} or {@link StripedBean} when
+         * one of them is injected instead of the bean, {@link java.util.List}
+         * or {@link java.util.Map} when every bean of the type is injected.
+         *
+         * @return the wrapper, or {@code null}
+         */
+        public Class<?> getWrapper() {
+            return wrapper;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Options that control how {@link ReactifyIoC} builds a context.
+ *
+ * <p>
+ * Options are set through chained calls and passed to
+ * {@link ReactifyIoC#initBeans(IoCOptions, Class, Object...)}:
+ * </p>
+ *
+ * <pre>{@code
+ * ReactifyIoC ioc = ReactifyIoC.initBeans(new IoCOptions().executor(Runnable::run), App.class);
+ * }</pre>
+ */
+public class IoCOptions {
+
+    /** Executor that runs bean creation, or {@code null} for the default. */
+    private Executor executor;
+
+    /** Whether every component is created on first use. */
+    private boolean lazy;
+
+    /** One in how many lookups after startup emits a JFR event, or 0 for none. */
+    private int lookupEventInterval;
+
+    /** File that caches classpath scan results across restarts, or {@code null}. */
+    private Path scanCache;
+
+    /** File that stores the resolution of a start for the next one, or {@code null}. */
+    private Path resolutionPlan;
+
+    /** Whether the resolution is shared with the other contexts of the JVM. */
+    private boolean metadataShared;
+
+    /** Time each bean may take to shut down, in milliseconds. */
+    private long shutdownTimeoutMillis = 5000;
+
+    /** Instances that replace the beans of a type, in registration order. */
+    private final Map<Class<?>, Object> overrides = new LinkedHashMap<>();
+
+    /**
+     * Sets the executor on which independent beans are created concurrently.
+     *
+     * <p>
+     * By default a virtual thread is started per bean when the JVM supports
+     * virtual threads, and the common fork/join pool is used otherwise. Pass
+     * {@code Runnable::run} to create all beans on the calling thread.
+     * </p>
+     *
+     * @param executor
+     *            the executor for bean creation
+     * @return these options
+     */
+    public IoCOptions executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Makes every component lazy, as if it were annotated with
+     * {@link com.reactifyx.Lazy}. Beans produced by {@code @Bean} methods are
+     * still created at startup.
+     *
+     * @param lazy
+     *            whether components are created on first use
+     * @return these options
+     */
+    public IoCOptions lazy(boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
+    /**
+     * Samples {@code getBean} calls made after startup as
+     * {@code com.reactifyx.Lookup} Flight Recorder events. Scanning and bean
+     * creation events are always emitted while a recording is running; lookups
+     * are frequent, so only one in {@code interval} of them is recorded.
+     *
+     * @param interval
+     *            one in how many lookups is recorded, or 0 to record none
+     * @return these options
+     */
+    public IoCOptions lookupEvents(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("Lookup event interval must not be negative: " + interval);
+        }
+        this.lookupEventInterval = interval;
+        return this;
+    }
+
+    /**
+     * Caches the results of classpath scanning in a file, so that a restart on
+     * an unchanged classpath reads no class files and only changed jars and
+     * directories are scanned again. Roots that ship a compile-time component
+     * index are read from the index and never enter the cache; the cache only
+     * covers the roots scanned without one.
+     *
+     * @param file
+     *            the cache file, created on first use; each application should
+     *            have its own
+     * @return these options
+     * @see com.reactifyx.utils.ScanCache
+     */
+    public IoCOptions scanCache(Path file) {
+        this.scanCache = file;
+        return this;
+    }
+
+    /**
+     * Returns the file that caches classpath scan results.
+     *
+     * @return the cache file, or {@code null} if scan results are not cached
+     */
+    Path getScanCache() {
+        return scanCache;
+    }
+
+    /**
+     * Records how the context was resolved in a file after a successful start,
+     * and replays that resolution on later starts with the same classpath. A
+     * replayed start neither scans the classpath nor analyses the dependency
+     * graph, and creates the beans in the recorded order. The plan is recorded again
+     * when a class of a scanned package, the main class, the predefined beans or
+     * the lazy option change.
+     *
+     * @param file
+     *            the plan file, created on first use; each application should
+     *            have its own
+     * @return these options
+     */
+    public IoCOptions resolutionPlan(Path file) {
+        this.resolutionPlan = file;
+        return this;
+    }
+
+    /**
+     * Returns the file that stores the resolution of a start.
+     *
+     * @return the plan file, or {@code null} if the resolution is not recorded
+     */
+    Path getResolutionPlan() {
+        return resolutionPlan;
+    }
+
+    /**
+     * Controls whether contexts started from the same main class share their
+     * scan results and resolution within the JVM. When shared, the first
+     * context records how it was resolved and later ones replay that resolution
+     * like a {@linkplain #resolutionPlan(Path) plan file}, owning only their bean
+     * instances. Metadata is shared only when the main class was loaded by the
+     * context class loader.
+     *
+     * <p>
+     * Sharing is disabled by default, so every context scans and resolves its
+     * packages on its own. Enable it for test suites and other processes that
+     * start many contexts of one application, but not when classes are added to
+     * a scanned package while the JVM runs.
+     * </p>
+     *
+     * @param shared
+     *            whether to reuse the resolution of earlier contexts
+     * @return these options
+     */
+    public IoCOptions sharedMetadata(boolean shared) {
+        this.metadataShared = shared;
+        return this;
+    }
+
+    /**
+     * Returns whether the resolution is shared with the other contexts of the
+     * JVM.
+     *
+     * @return true if metadata is shared
+     */
+    boolean isMetadataShared() {
+        return metadataShared;
+    }
+
+    /**
+     * Replaces every bean of a type with the given instance, typically a test
+     * double. The beans are resolved as usual, so contexts with and without
+     * overrides share their {@linkplain #sharedMetadata(boolean) metadata}, but
+     * the replaced ones are neither constructed nor injected. The type may be a
+     * component class, a {@code @Bean} type or a supertype of them; lookups of
+     * a replaced class return the instance even if it is not of that class.
+     *
+     * @param <T>
+     *            the type of the bean
+     * @param type
+     *            the type whose beans are replaced
+     * @param bean
+     *            the instance that replaces them
+     * @return these options
+     */
+    public <T> IoCOptions override(Class<T> type, T bean) {
+        overrides.put(type, Objects.requireNonNull(bean, "bean"));
+        return this;
+    }
+
+    /**
+     * Returns the instances that replace beans.
+     *
+     * @return the overrides by type, possibly empty
+     */
+    Map<Class<?>, Object> getOverrides() {
+        return overrides;
+    }
+
+    /**
+     * Sets how long {@link ReactifyIoC#close()} waits for the
+     * {@link com.reactifyx.PreDestroy} callbacks of each bean that do not set
+     * their own timeout. The default is five seconds.
+     *
+     * <p>
+     * Beans that do not depend on each other shut down concurrently, so the
+     * whole shutdown takes at most the timeout times the length of the longest
+     * dependency chain. Keep it well inside the grace period a container
+     * platform gives a terminating process.
+     * </p>
+     *
+     * <p>
+     * Without an {@linkplain #executor(Executor) executor}, each bean shuts
+     * down on a thread of its own. A configured executor should have enough
+     * threads for callbacks that block until their timeout.
+     * </p>
+     *
+     * @param timeout
+     *            the time each bean may take to shut down
+     * @return these options
+     */
+    public IoCOptions shutdownTimeout(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("Shutdown timeout must not be negative: " + timeout);
+        }
+        this.shutdownTimeoutMillis = timeout.toMillis();
+        return this;
+    }
+
+    /**
+     * Returns how long each bean may take to shut down.
+     *
+     * @return the timeout in milliseconds
+     */
+    long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    /**
+     * Returns one in how many lookups after startup emits a Flight Recorder
+     * event.
+     *
+     * @return the sampling interval, or 0 if lookups are not recorded
+     */
+    int getLookupEventInterval() {
+        return lookupEventInterval;
+    }
+
+    /**
+     * Returns whether every component is created on first use.
+     *
+     * @return true in lazy mode
+     */
+    boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Returns the configured executor.
+     *
+     * @return the executor, or {@code null} if the default should be used
+     */
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Creates the default executor: one virtual thread per task when supported,
+     * otherwise {@code null} to signal that the common pool should be used.
+     *
+     * @return a new virtual-thread executor that must be shut down by the caller,
+     *         or {@code null}
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the executor to fall back to when virtual threads are unavailable.
+     *
+     * @return the common fork/join pool
+     */
+    static Executor commonPool() {
+        return ForkJoinPool.commonPool();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+/**
+ * Holder of a lazy bean, created on the first call to {@link #get()}.
+ *
+ * <p>
+ * Creation goes through the container's {@link BeanCreations}, so concurrent
+ * callers wait for a single instance without serializing the creation of other
+ * beans. While the bean's fields and setters are being injected, a re-entrant
+ * call from the creating thread receives the constructed instance, which keeps
+ * field and setter cycles between lazy beans legal. After creation
+ * {@link #get()} is a single volatile read.
+ * </p>
+ */
+final class LazyBean {
+
+    private final Class<?> type;
+    private final BeanCreations creations;
+    private final BeanCreations.Factory factory;
+
+    /** The fully injected bean, or {@code null} until created. */
+    private volatile Object instance;
+
+    LazyBean(Class<?> type, BeanCreations creations, BeanCreations.Factory factory) {
+        this.type = type;
+        this.creations = creations;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the bean, creating it on the first call.
+     *
+     * @return the bean instance
+     * @throws Exception
+     *             if the bean cannot be created
+     */
+    Object get() throws Exception {
+        Object bean = instance;
+        if (bean != null) {
+            return bean;
+        }
+        bean = creations.get(type, factory);
+        if (creations.isCreated(type)) {
+            instance = bean;
+        }
+        return bean;
+    }
+
+    /**
+     * Checks whether the bean has been created.
+     *
+     * @return true once {@link #get()} has completed
+     */
+    boolean isCreated() {
+        return instance != null || creations.isCreated(type);
+    }
+
+    /**
+     * Returns a proxy for the bean that creates it on its first method call.
+     *
+     * @param interfaceClass
+     *            the interface the proxy implements
+     * @return the proxy
+     */
+    Object proxy(Class<?> interfaceClass) {
+        return ScopedProxy.create(interfaceClass, this::get);
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import com.reactifyx.exception.IoCException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the {@code @PostConstruct} and {@code @PreDestroy} callbacks of the
+ * beans of one container.
+ *
+ * <p>
+ * The singletons created at startup are initialized by their graph, each bean
+ * right after its injection and before any bean that depends on it is created
+ * or injected. They are shut down in the reverse order: the graphs last
+ * started first, and inside a graph each bean once the beans that depend on it
+ * are shut down. Beans created on demand after startup are shut down before
+ * them, the newest first. A startup that fails still shuts down the beans that
+ * were initialized.
+ * </p>
+ *
+ * <p>
+ * Shutting down never stops early: a bean that fails or exceeds its timeout is
+ * reported once every other bean has been shut down.
+ * </p>
+ */
+final class Lifecycle {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    /** Time each bean may take to shut down unless its callbacks set one, in milliseconds. */
+    private final long timeoutMillis;
+
+    /** The graphs created at startup with their initialized beans that have callbacks, in start order. */
+    private final List<Started> started = new ArrayList<>();
+
+    /** Singletons with {@code @PreDestroy} callbacks created on demand, newest last. */
+    private final Deque<Object> created = new ConcurrentLinkedDeque<>();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Lifecycle(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Checks whether a bean has lifecycle callbacks.
+     *
+     * @param bean
+     *            the bean instance
+     * @return true if the bean must be initialized or shut down
+     */
+    static boolean hasCallbacks(Object bean) {
+        InjectionPlan plan = InjectionPlan.of(bean.getClass());
+        return plan.postConstructs.length > 0 || plan.preDestroys.length > 0;
+    }
+
+    /**
+     * Registers a graph before it is executed, so that its beans are shut down
+     * with the container even if the startup fails.
+     *
+     * @param graph
+     *            the graph to execute
+     * @param beans
+     *            filled with the instances with callbacks of each bean class of
+     *            the graph once they are initialized
+     */
+    void register(DependencyGraph graph, Map<Class<?>, List<Object>> beans) {
+        started.add(new Started(graph, beans));
+    }
+
+    /**
+     * Initializes a bean created after startup and waits for its
+     * initialization.
+     *
+     * @param bean
+     *            the bean instance
+     * @param singleton
+     *            whether the bean is shut down with the container
+     * @throws Exception
+     *             if the initialization fails
+     */
+    void started(Object bean, boolean singleton) throws Exception {
+        InjectionPlan plan = InjectionPlan.of(bean.getClass());
+        if (plan.postConstructs.length > 0) {
+            DependencyGraph.await(initialize(bean));
+        }
+        if (singleton && plan.preDestroys.length > 0) {
+            created.add(bean);
+        }
+    }
+
+    /**
+     * Shuts down every bean, unless this was already done.
+     *
+     * @param executor
+     *            the executor that runs the callbacks
+     * @throws IoCException
+     *             if beans failed or timed out, the first one as the cause and
+     *             the others suppressed
+     */
+    void close(Executor executor) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        for (Iterator<Object> beans = created.descendingIterator(); beans.hasNext(); ) {
+            destroy(beans.next(), executor, failures).join();
+        }
+        for (int i = started.size() - 1; i >= 0; i--) {
+            Map<Class<?>, List<Object>> beans = started.get(i).beans;
+            try {
+                // Only the callbacks need the executor, ordering them is cheap
+                started.get(i)
+                        .graph
+                        .cascade(Runnable::run, type -> destroyAll(beans.get(type), executor, failures), true);
+            } catch (Exception e) {
+                // Every step records its failure and completes normally
+                failures.add(e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            IoCException exception =
+                    new IoCException(failures.size() + " bean(s) failed to shut down", failures.get(0));
+            for (Throwable failure : failures.subList(1, failures.size())) {
+                exception.addSuppressed(failure);
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Runs a task on a new daemon thread, so a callback that never returns
+     * does not keep the JVM alive.
+     *
+     * @param task
+     *            the task to run
+     */
+    static void runOnDaemonThread(Runnable task) {
+        Thread thread = new Thread(task, "reactifyx-shutdown");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Starts the {@code @PostConstruct} callbacks of the beans of a graph node.
+     *
+     * @param beans
+     *            the instances of one bean class
+     * @return a future that completes once every bean is initialized
+     */
+    static CompletableFuture<Void> initialize(List<Object> beans) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[beans.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = initialize(beans.get(i));
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /** Starts the {@code @PostConstruct} callbacks of a bean. */
+    private static CompletableFuture<Void> initialize(Object bean) {
+        return invoke(InjectionPlan.of(bean.getClass()).postConstructs, bean).handle((ignored, failure) -> {
+            if (failure != null) {
+                throw new IoCException(
+                        "Initialization of bean " + bean.getClass().getName() + " failed", unwrap(failure));
+            }
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> destroyAll(List<Object> beans, Executor executor, List<Throwable> failures) {
+        if (beans == null) {
+            return null;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[beans.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = destroy(beans.get(i), executor, failures);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Runs the {@code @PreDestroy} callbacks of a bean on the executor, so a
+     * callback that blocks cannot outlast its timeout. The returned future never
+     * fails, failures are recorded instead.
+     */
+    private CompletableFuture<Void> destroy(Object bean, Executor executor, List<Throwable> failures) {
+        InjectionPlan plan = InjectionPlan.of(bean.getClass());
+        if (plan.preDestroys.length == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long timeout = plan.preDestroyTimeoutMillis >= 0 ? plan.preDestroyTimeoutMillis : timeoutMillis;
+        CompletableFuture<Void> destroyed = new CompletableFuture<>();
+        executor.execute(() -> invoke(plan.preDestroys, bean).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                destroyed.completeExceptionally(failure);
+            } else {
+                destroyed.complete(null);
+            }
+        }));
+        return destroyed.orTimeout(timeout, TimeUnit.MILLISECONDS).handle((ignored, failure) -> {
+            if (failure != null) {
+                Throwable cause = unwrap(failure);
+                String name = bean.getClass().getName();
+                failures.add(
+                        cause instanceof TimeoutException
+                                ? new IoCException("Bean " + name + " did not shut down within " + timeout + " ms")
+                                : new IoCException("Shutdown of bean " + name + " failed", cause));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Calls lifecycle callbacks in order and combines the stages they return.
+     */
+    private static CompletableFuture<Void> invoke(InjectionPlan.Member[] callbacks, Object bean) {
+        CompletableFuture<?>[] stages = new CompletableFuture<?>[callbacks.length];
+        for (int i = 0; i < callbacks.length; i++) {
+            Object result;
+            try {
+                result = callbacks[i].invoke(bean, NO_ARGUMENTS);
+            } catch (InvocationTargetException e) {
+                return CompletableFuture.failedFuture(e.getCause());
+            }
+            stages[i] = result instanceof CompletionStage
+                    ? ((CompletionStage<?>) result).toCompletableFuture()
+                    : CompletableFuture.completedFuture(result);
+        }
+        return CompletableFuture.allOf(stages);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        while (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        return failure;
+    }
+
+    /** A graph created at startup and its beans that have callbacks. */
+    private static final class Started {
+
+        final DependencyGraph graph;
+        final Map<Class<?>, List<Object>> beans;
+
+        Started(DependencyGraph graph, Map<Class<?>, List<Object>> beans) {
+            this.graph = graph;
+            this.beans = beans;
+        }
+    }
+}
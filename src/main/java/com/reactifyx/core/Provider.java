@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+/**
+ * Supplies a bean on demand.
+ *
+ * <p>
+ * Declaring an injection point as {@code Provider<T>} instead of {@code T}
+ * defers resolving, and for lazy beans creating, the dependency until
+ * {@link #get()} is called. The bean is resolved on the first call and the same
+ * instance is returned afterwards.
+ * </p>
+ *
+ * <pre>{@code
+ * @Autowired
+ * private Provider<ReportRenderer> renderer;
+ *
+ * renderer.get().render(report);
+ * }</pre>
+ *
+ * @param <T>
+ *            the provided bean type
+ */
+@FunctionalInterface
+public interface Provider<T> {
+
+    /**
+     * Returns the bean, resolving it on the first call.
+     *
+     * @return the bean instance
+     * @throws com.reactifyx.exception.IoCException
+     *             if the bean cannot be resolved or created
+     */
+    T get();
+}
@@ -20,25 +20,49 @@ import com.reactifyx.exception.IoCBeanNotFound;
 import com.reactifyx.exception.IoCCircularDepException;
 import com.reactifyx.exception.IoCException;
 import com.reactifyx.utils.ClassLoaderUtil;
-import com.reactifyx.utils.FinderUtil;
+import com.reactifyx.utils.ComponentIndex;
+import com.reactifyx.utils.ScanCache;
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import org.reflections.Reflections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The main IoC container class for managing and injecting beans. This class
  * scans the classpath for components, configurations, and beans, handles their
  * instantiation, and supports constructor, field, and setter injection.
+ *
+ * <p>
+ * Closing the container runs the {@link PreDestroy} callbacks of its
+ * singletons.
+ * </p>
  */
-public class ReactifyIoC {
+public class ReactifyIoC implements AutoCloseable {
+
+    /** Class-level annotations that mark a class for discovery. */
+    private static final List<Class<? extends Annotation>> STEREOTYPES =
+            Arrays.asList(Component.class, Configuration.class);
 
     /** Container that holds all initialized beans. */
     private final BeanContainer beanContainer = new BeanContainer();
@@ -46,11 +70,96 @@ public class ReactifyIoC {
     /** Container that maps interfaces to their concrete implementation classes. */
     private final ImplementationContainer implementationContainer = new ImplementationContainer();
 
-    /** Detector for preventing circular dependencies during bean instantiation. */
-    private final CircularDependencyDetector circularDependencyDetector = new CircularDependencyDetector();
+    /** Beans created on demand, each behind its own in-flight future. */
+    private final BeanCreations creations = new BeanCreations();
+
+    /** Class loader used to discover and load the scanned classes. */
+    private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+    /** Compile-time component index, or {@code null} when the classpath is scanned. */
+    private ComponentIndex componentIndex;
+
+    /** Resolves injection points for generated injectors, creating missing beans. */
+    private final Injector.Resolver creatingResolver =
+            (type, name, qualifier, wrapper) -> resolveDependency(type, name, qualifier, wrapper, true);
+
+    /** Resolves injection points for generated injectors against existing beans only. */
+    private final Injector.Resolver existingResolver =
+            (type, name, qualifier, wrapper) -> resolveDependency(type, name, qualifier, wrapper, false);
+
+    /** Beans that are not singletons, by class; every lookup goes through the callable. */
+    private final Map<Class<?>, Callable<Object>> scopedBeans = new HashMap<>();
+
+    /** Pools of the {@code @Pooled} beans, by class. */
+    private final Map<Class<?>, BeanPool<?>> pools = new HashMap<>();
+
+    /** Stripes of the {@code @Striped} beans, by class. */
+    private final Map<Class<?>, StripedBean<?>> stripedBeans = new HashMap<>();
+
+    /** Thread-scoped and striped classes, injected through dispatching proxies. */
+    private final Set<Class<?>> contextualBeans = new HashSet<>();
+
+    /** Configuration classes whose {@code @Bean} methods return each bean type. */
+    private final Map<Class<?>, List<Class<?>>> producers = new HashMap<>();
+
+    /** Instances of the configuration classes, by class. */
+    private final Map<Class<?>, Object> configurations = new ConcurrentHashMap<>();
+
+    /** Holders of the lazy beans that were not needed at startup, by class. */
+    private final Map<Class<?>, LazyBean> lazyBeans = new HashMap<>();
+
+    /** Creates lazy beans on first use, resolving their dependencies on demand. */
+    private final BeanCreations.Factory lazyFactory = new BeanCreations.Factory() {
+        @Override
+        public Object construct(Class<?> type) throws Exception {
+            return ReactifyIoC.this.construct(InjectionPlan.of(type), true);
+        }
+
+        @Override
+        public void inject(Class<?> type, Object instance) throws Exception {
+            ReactifyIoC.this.inject(InjectionPlan.of(type), instance, true);
+            lifecycle.started(instance, true);
+        }
+    };
+
+    /** Creates beans missing from the container and registers them once injected. */
+    private final BeanCreations.Factory singletonFactory = new BeanCreations.Factory() {
+        @Override
+        public Object construct(Class<?> type) throws Exception {
+            return lazyFactory.construct(type);
+        }
+
+        @Override
+        public void inject(Class<?> type, Object instance) throws Exception {
+            lazyFactory.inject(type, instance);
+            beanContainer.putBean(type, instance);
+        }
+    };
+
+    /** Initializes the beans and shuts them down when the container is closed. */
+    private final Lifecycle lifecycle;
+
+    /** Timings recorded during startup. */
+    private final StartupMetrics metrics = new StartupMetrics();
+
+    /** Completes once every bean has been created and initialized. */
+    private final CompletableFuture<ReactifyIoC> ready = new CompletableFuture<>();
+
+    /** The asynchronous startup still creating beans, or {@code null}. */
+    private volatile AsyncStartup startup;
+
+    /** Options this container was initialized with. */
+    private final IoCOptions options;
+
+    /** One in how many lookups after startup emits a JFR event, or 0 for none. */
+    private final int lookupEventInterval;
 
     /** Private constructor for singleton pattern-like instantiation. */
-    private ReactifyIoC() {}
+    private ReactifyIoC(IoCOptions options) {
+        this.options = options;
+        this.lookupEventInterval = options.getLookupEventInterval();
+        this.lifecycle = new Lifecycle(options.getShutdownTimeoutMillis());
+    }
 
     /**
      * Initializes the IoC container by scanning the provided class and optional
@@ -63,9 +172,26 @@ public class ReactifyIoC {
      * @return the initialized instance of ReactifyIoC
      */
     public static ReactifyIoC initBeans(Class<?> mainClass, Object... predefinedBeans) {
+        return initBeans(new IoCOptions(), mainClass, predefinedBeans);
+    }
+
+    /**
+     * Initializes the IoC container with the given options by scanning the
+     * provided class and optional predefined beans.
+     *
+     * @param options
+     *            the initialization options
+     * @param mainClass
+     *            the entry point class annotated with @ComponentScan
+     * @param predefinedBeans
+     *            manually instantiated beans to register
+     * @return the initialized instance of ReactifyIoC
+     */
+    public static ReactifyIoC initBeans(IoCOptions options, Class<?> mainClass, Object... predefinedBeans) {
+        ReactifyIoC instance = new ReactifyIoC(options);
         try {
-            ReactifyIoC instance = new ReactifyIoC();
-            instance.initWrapper(mainClass, predefinedBeans);
+            instance.create(instance.discover(mainClass, predefinedBeans));
+            instance.ready.complete(instance);
             return instance;
         } catch (IOException
                 | ClassNotFoundException
@@ -76,19 +202,131 @@ public class ReactifyIoC {
                 | IoCBeanNotFound
                 | IoCCircularDepException
                 | URISyntaxException e) {
+            throw instance.closeAfter(new IoCException(e));
+        } catch (RuntimeException e) {
+            throw instance.closeAfter(e);
+        }
+    }
+
+    /**
+     * Starts the IoC container in the background and returns it as soon as its
+     * classes have been discovered.
+     *
+     * @param mainClass
+     *            the entry point class annotated with @ComponentScan
+     * @param predefinedBeans
+     *            manually instantiated beans to register
+     * @return the starting instance of ReactifyIoC
+     * @see #initBeansAsync(IoCOptions, Class, Object...)
+     */
+    public static ReactifyIoC initBeansAsync(Class<?> mainClass, Object... predefinedBeans) {
+        return initBeansAsync(new IoCOptions(), mainClass, predefinedBeans);
+    }
+
+    /**
+     * Starts the IoC container in the background with the given options and
+     * returns it as soon as its classes have been discovered. Beans are created
+     * and initialized afterwards on a {@code reactifyx-startup} thread and the
+     * configured executor.
+     *
+     * <p>
+     * Lookups can be made right away: each one waits until the requested bean,
+     * and therefore everything it depends on, is ready, not for the whole
+     * context. A lookup by interface waits for the implementation it selects,
+     * by qualifier when one is given. If the startup fails, lookups and
+     * {@link #ready()} fail with the cause.
+     * </p>
+     *
+     * @param options
+     *            the initialization options
+     * @param mainClass
+     *            the entry point class annotated with @ComponentScan
+     * @param predefinedBeans
+     *            manually instantiated beans to register
+     * @return the starting instance of ReactifyIoC
+     * @throws IoCException
+     *             if the classes cannot be discovered
+     */
+    public static ReactifyIoC initBeansAsync(IoCOptions options, Class<?> mainClass, Object... predefinedBeans) {
+        ReactifyIoC instance = new ReactifyIoC(options);
+        Discovery discovery;
+        try {
+            discovery = instance.discover(mainClass, predefinedBeans);
+        } catch (IOException | ClassNotFoundException | URISyntaxException e) {
             throw new IoCException(e);
         }
+        AsyncStartup starting = new AsyncStartup();
+        starting.ready(ReactifyIoC.class);
+        if (predefinedBeans != null) {
+            for (Object bean : predefinedBeans) {
+                starting.ready(bean.getClass());
+            }
+        }
+        instance.startup = starting;
+        Thread thread =
+                new Thread(() -> starting.run(() -> instance.createInBackground(discovery)), "reactifyx-startup");
+        thread.start();
+        return instance;
     }
 
     /**
-     * Retrieves a bean instance by its class.
+     * Returns a future that completes with this container once every bean has
+     * been created and initialized, right away unless the container was
+     * started with {@link #initBeansAsync(IoCOptions, Class, Object...)}.
+     *
+     * @return the readiness of the whole context
+     */
+    public CompletableFuture<ReactifyIoC> ready() {
+        return ready;
+    }
+
+    /**
+     * Retrieves a bean instance by its class. While the container is starting
+     * asynchronously, waits until the bean is ready.
      *
      * @param clazz
      *            the class of the bean to retrieve
      * @return an instance of the requested bean
      */
     public <T> T getBean(Class<T> clazz) {
+        AsyncStartup starting = startup;
+        if (starting != null) {
+            return starting.await(clazz, () -> selectedClass(clazz, null), () -> lookup(clazz));
+        }
+        return lookup(clazz);
+    }
+
+    /**
+     * Returns the class of the bean a lookup by class or interface selects, or
+     * {@code null} while the interface has no implementation registered or
+     * cannot be resolved without the bean names.
+     */
+    private Class<?> selectedClass(Class<?> clazz, String qualifier) {
+        if (!clazz.isInterface()) {
+            return clazz;
+        }
+        try {
+            return implementationContainer.getImplementationClass(clazz, qualifier, qualifier);
+        } catch (IoCException e) {
+            return null;
+        }
+    }
+
+    private <T> T lookup(Class<T> clazz) {
         try {
+            if (lookupEventInterval > 0
+                    && beanContainer.isFrozen()
+                    && ThreadLocalRandom.current().nextInt(lookupEventInterval) == 0) {
+                ContainerEvents.Lookup event = new ContainerEvents.Lookup();
+                event.begin();
+                T bean = _getBean(clazz);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.beanClass = clazz;
+                    event.commit();
+                }
+                return bean;
+            }
             return _getBean(clazz);
         } catch (InstantiationException
                 | IllegalAccessException
@@ -101,229 +339,1255 @@ public class ReactifyIoC {
     }
 
     /**
-     * Internal initialization wrapper that handles scanning and loading of all
-     * beans.
+     * Resolves a bean once and returns a handle to it. Prefer this over repeated
+     * {@link #getBean(Class)} calls on hot paths.
+     *
+     * @param clazz
+     *            the class or interface of the bean
+     * @return a handle to the bean
+     * @throws IoCException
+     *             if the bean cannot be resolved
+     */
+    public <T> BeanHandle<T> handle(Class<T> clazz) {
+        return handle(clazz, null);
+    }
+
+    /**
+     * Resolves a bean once, selecting among several implementations or named
+     * beans by qualifier, and returns a handle to it.
+     *
+     * @param clazz
+     *            the class or interface of the bean
+     * @param qualifier
+     *            the implementation class simple name or bean name, or
+     *            {@code null}
+     * @return a handle to the bean
+     * @throws IoCException
+     *             if the bean cannot be resolved
+     */
+    public <T> BeanHandle<T> handle(Class<T> clazz, String qualifier) {
+        AsyncStartup starting = startup;
+        if (starting != null) {
+            return starting.await(clazz, () -> selectedClass(clazz, qualifier), () -> lookupHandle(clazz, qualifier));
+        }
+        return lookupHandle(clazz, qualifier);
+    }
+
+    private <T> BeanHandle<T> lookupHandle(Class<T> clazz, String qualifier) {
+        try {
+            Class<?> implementationClass = clazz.isInterface()
+                    ? implementationContainer.getImplementationClass(clazz, qualifier, qualifier)
+                    : clazz;
+            Callable<Object> scopedBean = scopedBeans.get(implementationClass);
+            if (scopedBean != null) {
+                return new BeanHandle<T>(clazz, null) {
+                    @Override
+                    public T get() {
+                        try {
+                            return clazz.cast(callInjector(scopedBean));
+                        } catch (InstantiationException
+                                | IllegalAccessException
+                                | InvocationTargetException
+                                | NoSuchMethodException
+                                | IoCBeanNotFound
+                                | IoCCircularDepException e) {
+                            throw new IoCException(e);
+                        }
+                    }
+                };
+            }
+            Object bean = qualifier == null ? _getBean(clazz) : _getBean(clazz, qualifier, qualifier, false);
+            return new BeanHandle<>(clazz, clazz.cast(bean));
+        } catch (InstantiationException
+                | IllegalAccessException
+                | InvocationTargetException
+                | NoSuchMethodException
+                | IoCBeanNotFound
+                | IoCCircularDepException e) {
+            throw new IoCException(e);
+        }
+    }
+
+    /**
+     * Returns the pool of a {@link Pooled} bean.
+     *
+     * @param clazz
+     *            the pooled class, or an interface it implements
+     * @return the pool
+     * @throws IoCException
+     *             if the bean is not pooled
+     */
+    public <T> BeanPool<T> getPool(Class<T> clazz) {
+        AsyncStartup starting = startup;
+        if (starting != null) {
+            return starting.await(clazz, () -> selectedClass(clazz, null), () -> lookupPool(clazz));
+        }
+        return lookupPool(clazz);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BeanPool<T> lookupPool(Class<T> clazz) {
+        Class<?> implementationClass =
+                clazz.isInterface() ? implementationContainer.getImplementationClass(clazz, null, null) : clazz;
+        BeanPool<T> pool = (BeanPool<T>) pools.get(implementationClass);
+        if (pool == null) {
+            throw new IoCException("Bean " + clazz.getName() + " is not pooled");
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the stripes of a {@link Striped} bean, for example to aggregate
+     * counters across stripes.
+     *
+     * @param clazz
+     *            the striped class, or an interface it implements
+     * @return the stripes
+     * @throws IoCException
+     *             if the bean is not striped
+     */
+    public <T> StripedBean<T> getStriped(Class<T> clazz) {
+        AsyncStartup starting = startup;
+        if (starting != null) {
+            return starting.await(clazz, () -> selectedClass(clazz, null), () -> lookupStriped(clazz));
+        }
+        return lookupStriped(clazz);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> StripedBean<T> lookupStriped(Class<T> clazz) {
+        Class<?> implementationClass =
+                clazz.isInterface() ? implementationContainer.getImplementationClass(clazz, null, null) : clazz;
+        StripedBean<T> striped = (StripedBean<T>) stripedBeans.get(implementationClass);
+        if (striped == null) {
+            throw new IoCException("Bean " + clazz.getName() + " is not striped");
+        }
+        return striped;
+    }
+
+    /**
+     * Returns the timings recorded while this container started: class
+     * discovery, the creation of every bean and the critical dependency chain.
+     *
+     * @return the startup metrics
+     */
+    public StartupMetrics getStartupMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Shuts down the singletons of this container by calling their
+     * {@link PreDestroy} methods, each bean after the beans that depend on it
+     * and independent beans concurrently. Beans that fail or exceed their
+     * timeout do not stop the others from shutting down. After a failed
+     * asynchronous start, the beans that were initialized are shut down.
+     * Closing again has no effect.
+     *
+     * @throws IoCException
+     *             if beans failed or timed out, the first one as the cause and
+     *             the others suppressed
+     * @see IoCOptions#shutdownTimeout(java.time.Duration)
+     */
+    @Override
+    public void close() {
+        // A context that is still starting is closed once its beans exist
+        ready.handle((context, failure) -> null).join();
+        Executor executor = options.getExecutor();
+        ExecutorService ownedExecutor = executor == null ? IoCOptions.newVirtualThreadExecutor() : null;
+        if (executor == null) {
+            // A blocked callback must not hold a pool thread that the other beans need
+            executor = ownedExecutor != null ? ownedExecutor : Lifecycle::runOnDaemonThread;
+        }
+        try {
+            lifecycle.close(executor);
+        } finally {
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Registers the predefined beans and discovers the classes of the scanned
+     * packages, from an earlier resolution when possible.
      */
-    private void initWrapper(Class<?> mainClass, Object[] predefinedBeans)
-            throws IOException, ClassNotFoundException, InstantiationException, IllegalAccessException,
-                    NoSuchMethodException, InvocationTargetException, IoCBeanNotFound, IoCCircularDepException,
-                    URISyntaxException {
+    private Discovery discover(Class<?> mainClass, Object[] predefinedBeans)
+            throws IOException, ClassNotFoundException, URISyntaxException {
+        long start = System.nanoTime();
         // Register manually provided beans
         if (predefinedBeans != null) {
             for (Object bean : predefinedBeans) {
-                Class<?>[] interfaces = bean.getClass().getInterfaces();
-                if (interfaces.length == 0) {
-                    implementationContainer.putImplementationClass(bean.getClass(), bean.getClass());
-                } else {
-                    for (Class<?> interfaceClass : interfaces) {
-                        implementationContainer.putImplementationClass(bean.getClass(), interfaceClass);
-                    }
-                }
+                implementationContainer.putImplementationClass(bean.getClass(), bean.getClass());
                 beanContainer.putBean(bean.getClass(), bean);
             }
         }
 
-        // Scan packages for components
+        // Prefer the compile-time index over classpath scanning
+        long scanStart = System.nanoTime();
+        componentIndex = ComponentIndex.load(classLoader);
         ComponentScan scan = mainClass.getAnnotation(ComponentScan.class);
-        if (scan != null) {
-            String[] packages = scan.value();
-            for (String packageName : packages) {
-                init(packageName);
+        List<String> packages = scan != null
+                ? Arrays.asList(scan.value())
+                : Collections.singletonList(mainClass.getPackage().getName());
+
+        // Replay the resolution of an earlier context of this JVM or an earlier start, or record this one
+        List<String> keyValues = planKey(mainClass, predefinedBeans);
+        String sharedKey = options.isMetadataShared() && classLoader == mainClass.getClassLoader()
+                ? ResolutionPlan.key(keyValues)
+                : null;
+        Path planFile = options.getResolutionPlan();
+        ResolutionPlan replayed = null;
+        ResolutionPlan recording = null;
+        String source = "classpath";
+        if (sharedKey != null) {
+            replayed = ResolutionPlan.shared(mainClass, sharedKey);
+            source = "shared";
+        }
+        String fileKey = null;
+        if (replayed == null && planFile != null) {
+            keyValues.add(ClassLoaderUtil.fingerprint(packages, classLoader));
+            fileKey = ResolutionPlan.key(keyValues);
+            replayed = ResolutionPlan.read(planFile, fileKey, classLoader);
+            source = "plan";
+        }
+        if (replayed == null && (sharedKey != null || planFile != null)) {
+            recording = new ResolutionPlan();
+        }
+
+        // Scan packages for components, all packages concurrently
+        ContainerEvents.Scan[] scanEvents = new ContainerEvents.Scan[packages.size()];
+        for (int i = 0; i < scanEvents.length; i++) {
+            scanEvents[i] = new ContainerEvents.Scan();
+            scanEvents[i].begin();
+        }
+        List<List<Class<?>>> scanned;
+        if (replayed != null) {
+            scanned = new ArrayList<>(packages.size());
+            for (ResolutionPlan.Package recorded : replayed.packages()) {
+                scanned.add(recorded.classes());
             }
         } else {
-            init(mainClass.getPackage().getName());
+            // The roots with an index are read in create, the others are scanned here
+            source = "classpath";
+            ScanCache scanCache = options.getScanCache() != null ? ScanCache.load(options.getScanCache()) : null;
+            scanned = componentIndex == null
+                    ? ClassLoaderUtil.findAnnotatedClasses(packages, classLoader, STEREOTYPES, scanCache)
+                    : ClassLoaderUtil.findAnnotatedClasses(
+                            packages, classLoader, STEREOTYPES, scanCache, componentIndex::indexes);
+            if (scanCache != null) {
+                if (scanCache.getMisses() == 0) {
+                    source = "cache";
+                }
+                try {
+                    scanCache.save();
+                } catch (IOException e) {
+                    // The cache only saves time, the next start scans the classpath again
+                }
+            }
+        }
+        metrics.recordScan(System.nanoTime() - scanStart);
+        if (replayed != null || componentIndex == null) {
+            // All packages are scanned in one parallel pass that bounds each of their events;
+            // with an index they are committed once the indexed classes have been read
+            for (int i = 0; i < scanEvents.length; i++) {
+                commitScan(scanEvents[i], packages.get(i), source, scanned.get(i));
+            }
+        }
+
+        Discovery discovery = new Discovery();
+        discovery.start = start;
+        discovery.mainClass = mainClass;
+        discovery.packages = packages;
+        discovery.scanned = scanned;
+        discovery.scanEvents = scanEvents;
+        discovery.source = source;
+        discovery.replayed = replayed;
+        discovery.recording = recording;
+        discovery.sharedKey = sharedKey;
+        discovery.fileKey = fileKey;
+        return discovery;
+    }
+
+    /**
+     * Creates the beans of every discovered package, then freezes the
+     * registry and stores the resolution for later starts.
+     */
+    private void create(Discovery discovery)
+            throws ClassNotFoundException, InstantiationException, IllegalAccessException, NoSuchMethodException,
+                    InvocationTargetException, IoCBeanNotFound, IoCCircularDepException {
+        List<String> packages = discovery.packages;
+        List<List<Class<?>>> scanned = discovery.scanned;
+        ContainerEvents.Scan[] scanEvents = discovery.scanEvents;
+        ResolutionPlan replayed = discovery.replayed;
+        ResolutionPlan recording = discovery.recording;
+        Executor executor = options.getExecutor();
+        ExecutorService ownedExecutor = executor == null ? IoCOptions.newVirtualThreadExecutor() : null;
+        if (executor == null) {
+            executor = ownedExecutor != null ? ownedExecutor : IoCOptions.commonPool();
+        }
+        AsyncStartup starting = startup;
+        if (starting != null) {
+            executor = starting.track(executor);
+        }
+        try {
+            for (int i = 0; i < packages.size(); i++) {
+                String packageName = packages.get(i);
+                List<Class<?>> classes;
+                if (replayed != null || componentIndex == null) {
+                    classes = scanned.get(i);
+                } else {
+                    long scanStart = System.nanoTime();
+                    classes = componentIndex.getClasses(packageName, classLoader);
+                    List<Class<?>> unindexed = scanned.get(i);
+                    classes.addAll(unindexed);
+                    String source = unindexed.isEmpty() ? "index" : "index+" + discovery.source;
+                    commitScan(scanEvents[i], packageName, source, classes);
+                    metrics.recordScan(System.nanoTime() - scanStart);
+                }
+                long packageStart = System.nanoTime();
+                if (replayed != null) {
+                    replay(replayed.packages().get(i), executor);
+                } else {
+                    init(classes, recording != null ? recording.add(packageName, classes) : null, executor);
+                }
+                metrics.recordPackage(packageName, System.nanoTime() - packageStart);
+            }
+        } finally {
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdown();
+            }
+        }
+
+        // Compact the registry for lookups at runtime
+        beanContainer.freeze(implementationContainer.getUniqueImplementations());
+        if (recording != null && discovery.fileKey != null) {
+            try {
+                recording.write(options.getResolutionPlan(), discovery.fileKey);
+            } catch (IOException e) {
+                // The plan only saves time, the next start resolves the context again
+            }
+        }
+        ResolutionPlan resolved = recording != null ? recording : replayed;
+        if (discovery.sharedKey != null && resolved != null) {
+            resolved.share(discovery.mainClass, discovery.sharedKey);
+        }
+        metrics.recordTotal(System.nanoTime() - discovery.start);
+    }
+
+    /** Creates the beans of an asynchronous start and releases the lookups waiting for them. */
+    private void createInBackground(Discovery discovery) {
+        AsyncStartup starting = startup;
+        try {
+            create(discovery);
+        } catch (Exception | Error e) {
+            IoCException failure = e instanceof IoCException ? (IoCException) e : new IoCException(e);
+            starting.finish(failure);
+            ready.completeExceptionally(failure);
+            return;
         }
+        starting.finish(null);
+        startup = null;
+        ready.complete(this);
     }
 
     /**
-     * Core initialization logic that scans and registers all components and
-     * configurations.
+     * Shuts down the beans initialized by a failed start, which the caller
+     * cannot close, and returns the failure.
      */
-    private void init(String packageName)
-            throws IOException, InstantiationException, IllegalAccessException, NoSuchMethodException,
-                    InvocationTargetException, IoCBeanNotFound, IoCCircularDepException, URISyntaxException,
-                    ClassNotFoundException {
-        beanContainer.putBean(ReactifyIoC.class, this);
-        implementationContainer.putImplementationClass(ReactifyIoC.class, ReactifyIoC.class);
-        List<Class<?>> classes = ClassLoaderUtil.getClasses(packageName);
-        scanImplementations(packageName);
-        scanConfigurationClass(classes);
-        scanComponentClasses(classes);
+    private <E extends RuntimeException> E closeAfter(E failure) {
+        ready.completeExceptionally(failure);
+        try {
+            close();
+        } catch (IoCException e) {
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    /** Marks a bean of an asynchronous start as ready for lookups. */
+    private void beanReady(Class<?> type) {
+        AsyncStartup starting = startup;
+        if (starting != null) {
+            starting.ready(type);
+        }
+    }
+
+    /** Keeps the lookups of an asynchronous start out while classes are registered. */
+    private void beginRegistration() {
+        AsyncStartup starting = startup;
+        if (starting != null) {
+            starting.beginRegistration();
+        }
+    }
+
+    private void endRegistration() {
+        AsyncStartup starting = startup;
+        if (starting != null) {
+            starting.endRegistration();
+        }
     }
 
     /**
-     * Scans for @Component and @Configuration classes and registers their
-     * implementation mappings.
+     * Lists what the resolution of this start depends on besides the content of
+     * the scanned packages: the main class and the options and predefined beans
+     * that change the resolution.
      */
-    private void scanImplementations(String packageName) {
-        Reflections reflections = new Reflections(packageName);
-        Set<Class<?>> componentClasses = reflections.getTypesAnnotatedWith(Component.class);
-        for (Class<?> implementationClass : componentClasses) {
-            Class<?>[] interfaces = implementationClass.getInterfaces();
-            if (interfaces.length == 0) {
-                implementationContainer.putImplementationClass(implementationClass, implementationClass);
-            } else {
-                for (Class<?> interfaceClass : interfaces) {
-                    implementationContainer.putImplementationClass(implementationClass, interfaceClass);
-                }
+    private List<String> planKey(Class<?> mainClass, Object[] predefinedBeans) {
+        List<String> values = new ArrayList<>();
+        values.add(mainClass.getName());
+        values.add("lazy=" + options.isLazy());
+        values.add("index=" + (componentIndex != null));
+        if (predefinedBeans != null) {
+            for (Object bean : predefinedBeans) {
+                values.add("predefined=" + bean.getClass().getName());
             }
         }
-        Set<Class<?>> configurationClasses = reflections.getTypesAnnotatedWith(Configuration.class);
-        for (Class<?> configurationClass : configurationClasses) {
-            Set<Method> methods = FinderUtil.findMethods(configurationClass, Bean.class);
-            for (Method method : methods) {
-                Class<?> returnType = method.getReturnType();
-                implementationContainer.putImplementationClass(returnType, returnType);
+        return values;
+    }
+
+    private static void commitScan(
+            ContainerEvents.Scan event, String packageName, String source, List<Class<?>> classes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.packageName = packageName;
+            event.source = source;
+            event.classCount = classes.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Core initialization logic that registers and creates the components and
+     * configurations discovered in one package.
+     *
+     * @param recording
+     *            the plan that records the resolution of the package, or
+     *            {@code null}
+     */
+    private void init(List<Class<?>> classes, ResolutionPlan.Package recording, Executor executor)
+            throws InstantiationException, IllegalAccessException, NoSuchMethodException, InvocationTargetException,
+                    IoCBeanNotFound, IoCCircularDepException, ClassNotFoundException {
+        DependencyGraph graph;
+        beginRegistration();
+        try {
+            beanContainer.putBean(ReactifyIoC.class, this);
+            implementationContainer.putImplementationClass(ReactifyIoC.class, ReactifyIoC.class);
+            registerImplementations(classes, recording);
+            graph = resolveGraph(classes);
+        } finally {
+            endRegistration();
+        }
+        createBeans(graph, executor);
+        if (recording != null) {
+            recording.graph(graph);
+        }
+    }
+
+    /**
+     * Registers and creates the beans of one package as an earlier start
+     * ordered them, without scanning or analysing the graph again. Injection
+     * points are resolved as usual when the beans are created.
+     */
+    private void replay(ResolutionPlan.Package recorded, Executor executor)
+            throws InstantiationException, IllegalAccessException, NoSuchMethodException, InvocationTargetException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        DependencyGraph graph = recorded.graph();
+        beginRegistration();
+        try {
+            beanContainer.putBean(ReactifyIoC.class, this);
+            implementationContainer.putImplementationClass(ReactifyIoC.class, ReactifyIoC.class);
+            for (int i = 0; i < recorded.producerCount(); i++) {
+                putProducer(recorded.producedType(i), recorded.producingConfiguration(i), null);
+            }
+            List<Class<?>> componentClasses = new ArrayList<>();
+            for (Class<?> clazz : recorded.classes()) {
+                if (clazz.isAnnotationPresent(Component.class)) {
+                    componentClasses.add(clazz);
+                }
             }
+            putImplementations(componentClasses);
+            for (Class<?> type : graph.types()) {
+                if (!producers.containsKey(type) && !type.isAnnotationPresent(Configuration.class)) {
+                    registerScope(type);
+                }
+            }
+        } finally {
+            endRegistration();
         }
+        createBeans(graph, executor);
     }
 
-    private void scanConfigurationClass(List<Class<?>> classes)
-            throws IoCCircularDepException, InvocationTargetException, IllegalAccessException, InstantiationException,
-                    NoSuchMethodException {
-        Deque<Class<?>> configurationClassesQ = new ArrayDeque<>(5);
+    /**
+     * Registers the implementation mappings of the discovered components and of
+     * the beans produced by the discovered configurations. Only configurations
+     * that the index does not list read their @Bean methods reflectively.
+     */
+    private void registerImplementations(List<Class<?>> classes, ResolutionPlan.Package recording)
+            throws ClassNotFoundException {
+        List<Class<?>> componentClasses = new ArrayList<>();
         for (Class<?> clazz : classes) {
+            if (clazz.isAnnotationPresent(Component.class)) {
+                componentClasses.add(clazz);
+            }
             if (clazz.isAnnotationPresent(Configuration.class)) {
-                configurationClassesQ.add(clazz);
+                if (componentIndex != null && componentIndex.isIndexed(clazz)) {
+                    for (Class<?> beanType : componentIndex.getBeanTypes(clazz, classLoader)) {
+                        putProducer(beanType, clazz, recording);
+                    }
+                } else {
+                    for (InjectionPlan.BeanMethod method : InjectionPlan.of(clazz).beanMethods) {
+                        putProducer(method.beanType, clazz, recording);
+                    }
+                }
             }
         }
-        while (!configurationClassesQ.isEmpty()) {
-            Class<?> configurationClass = configurationClassesQ.removeFirst();
-            try {
-                Object instance = configurationClass.getConstructor().newInstance();
-                scanConfigurationBeans(configurationClass, instance);
-            } catch (IoCBeanNotFound e) {
-                configurationClassesQ.addLast(configurationClass);
+        putImplementations(componentClasses);
+    }
+
+    /** Registers a bean type returned by a {@code @Bean} method of a configuration class. */
+    private void putProducer(Class<?> beanType, Class<?> configurationClass, ResolutionPlan.Package recording) {
+        if (recording != null) {
+            recording.producer(beanType, configurationClass);
+        }
+        implementationContainer.putImplementationClass(beanType, beanType);
+        List<Class<?>> configurationClasses = producers.computeIfAbsent(beanType, k -> new ArrayList<>(1));
+        if (!configurationClasses.contains(configurationClass)) {
+            configurationClasses.add(configurationClass);
+        }
+    }
+
+    /**
+     * Registers each component class against itself and, through the container,
+     * every superclass and interface it inherits, under its simple name and its
+     * type-level {@code @Qualifier}.
+     */
+    private void putImplementations(Collection<Class<?>> componentClasses) {
+        for (Class<?> implementationClass : componentClasses) {
+            implementationContainer.putImplementationClass(
+                    implementationClass, implementationClass, qualifierOf(implementationClass));
+        }
+    }
+
+    /**
+     * Returns the type-level {@code @Qualifier} value of a component, from the
+     * index when it lists the class and otherwise from the annotation.
+     */
+    private String qualifierOf(Class<?> clazz) {
+        if (componentIndex != null && componentIndex.isIndexed(clazz)) {
+            return componentIndex.getQualifier(clazz);
+        }
+        Qualifier qualifier = clazz.getAnnotation(Qualifier.class);
+        return qualifier == null ? null : qualifier.value();
+    }
+
+    /**
+     * Resolves the discovered components and configurations, the beans returned
+     * by the {@code @Bean} methods and everything they depend on into a
+     * dependency graph. Every bean type is a node of the graph, so each
+     * configuration is instantiated once, after the beans it needs.
+     */
+    private DependencyGraph resolveGraph(List<Class<?>> classes) throws NoSuchMethodException {
+        DependencyGraph graph = new DependencyGraph();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        for (Class<?> clazz : classes) {
+            if (clazz.isAnnotationPresent(Configuration.class) || clazz.isAnnotationPresent(Component.class)) {
+                pending.add(clazz);
+            }
+        }
+        while (!pending.isEmpty()) {
+            Class<?> clazz = pending.removeFirst();
+            if (graph.contains(clazz) || beanContainer.containsBean(clazz) || configurations.containsKey(clazz)) {
+                continue;
+            }
+            List<Class<?>> configurationClasses = producers.get(clazz);
+            if (configurationClasses != null) {
+                // A bean type needs its configurations and the parameters of its @Bean methods
+                List<Class<?>> dependencies = new ArrayList<>(configurationClasses);
+                for (Class<?> configurationClass : configurationClasses) {
+                    pending.add(configurationClass);
+                    for (InjectionPlan.BeanMethod method : InjectionPlan.of(configurationClass).beanMethods) {
+                        if (method.beanType == clazz) {
+                            dependencies.addAll(dependencies(clazz, method.points, pending));
+                        }
+                    }
+                }
+                graph.add(clazz, dependencies, Collections.emptyList());
+                continue;
+            }
+            InjectionPlan plan = InjectionPlan.of(clazz);
+            if (clazz.isAnnotationPresent(Configuration.class)) {
+                if (plan.injector == null && plan.defaultConstructor == null) {
+                    throw new NoSuchMethodException(clazz.getName() + ".<init>()");
+                }
+                List<Class<?>> fieldDependencies = new ArrayList<>();
+                for (InjectionPlan.Member field : plan.fields) {
+                    fieldDependencies.addAll(dependencies(clazz, field.points, pending));
+                }
+                graph.add(clazz, Collections.emptyList(), fieldDependencies);
+                for (InjectionPlan.BeanMethod method : plan.beanMethods) {
+                    pending.add(method.beanType);
+                }
+                continue;
+            }
+            List<Class<?>> constructorDependencies = plan.autowiredConstructor == null
+                    ? Collections.emptyList()
+                    : dependencies(clazz, plan.autowiredConstructor.points, pending);
+            List<Class<?>> memberDependencies = new ArrayList<>();
+            for (InjectionPlan.Member field : plan.fields) {
+                memberDependencies.addAll(dependencies(clazz, field.points, pending));
+            }
+            for (InjectionPlan.Member setter : plan.setters) {
+                memberDependencies.addAll(dependencies(clazz, setter.points, pending));
             }
+            graph.add(clazz, constructorDependencies, memberDependencies);
+            registerScope(clazz);
         }
+        return graph;
     }
 
-    private void scanComponentClasses(List<Class<?>> classes)
+    /**
+     * Creates the beans of a resolved graph, independent beans concurrently on
+     * the executor, and initializes each one before the beans that depend on
+     * it.
+     */
+    private void createBeans(DependencyGraph graph, Executor executor)
             throws IoCCircularDepException, InvocationTargetException, IllegalAccessException, InstantiationException,
                     NoSuchMethodException, IoCBeanNotFound {
-        for (Class<?> clazz : classes) {
-            if (clazz.isAnnotationPresent(Component.class)) {
-                newInstanceWrapper(clazz);
+        if (graph.size() == 0) {
+            return;
+        }
+        // Lazy beans that no eager bean needs directly are only validated here
+        Set<Class<?>> deferred =
+                graph.deferred(clazz -> isLazy(clazz) && !scopedBeans.containsKey(clazz) && override(clazz) == null);
+        beginRegistration();
+        try {
+            for (Class<?> clazz : deferred) {
+                lazyBeans.put(clazz, new LazyBean(clazz, creations, lazyFactory));
+            }
+        } finally {
+            endRegistration();
+        }
+        // Singletons with lifecycle callbacks by graph node, once created and once
+        // initialized; overrides are left alone
+        Map<Class<?>, List<Object>> created = new ConcurrentHashMap<>();
+        Map<Class<?>, List<Object>> started = new ConcurrentHashMap<>();
+        lifecycle.register(graph, started);
+        callInjector(() -> {
+            graph.execute(
+                    executor,
+                    type -> {
+                        Object override = override(type);
+                        // Scoped beans are created on lookup; the graph only orders their dependencies
+                        if (override != null) {
+                            beanContainer.putBean(type, override);
+                        } else if (producers.containsKey(type)) {
+                            track(created, type, produceBeans(type));
+                        } else if (type.isAnnotationPresent(Configuration.class)) {
+                            Object configuration = newConfiguration(InjectionPlan.of(type));
+                            configurations.put(type, configuration);
+                            track(created, type, Collections.singletonList(configuration));
+                        } else if (!scopedBeans.containsKey(type)) {
+                            Object bean = construct(InjectionPlan.of(type), false);
+                            beanContainer.putBean(type, bean);
+                            track(created, type, Collections.singletonList(bean));
+                        } else if (pools.containsKey(type)) {
+                            pools.get(type)
+                                    .prefill(type.getAnnotation(Pooled.class).initial());
+                        } else if (stripedBeans.containsKey(type)) {
+                            stripedBeans.get(type).fill(() -> create(type));
+                        }
+                    },
+                    type -> {
+                        if (producers.containsKey(type) || override(type) != null) {
+                            // Nothing to inject
+                        } else if (type.isAnnotationPresent(Configuration.class)) {
+                            injectConfiguration(InjectionPlan.of(type), configurations.get(type));
+                        } else if (!scopedBeans.containsKey(type)) {
+                            inject(InjectionPlan.of(type), beanContainer.getBean(type), false);
+                        }
+                        List<Object> beans = created.get(type);
+                        return beans == null
+                                ? null
+                                : Lifecycle.initialize(beans).thenRun(() -> started.put(type, beans));
+                    },
+                    // Lookups wait for a bean and everything it depends on
+                    startup != null ? this::beanReady : null,
+                    deferred);
+            for (Class<?> type : deferred) {
+                beanReady(type);
+            }
+            return null;
+        });
+        for (Class<?> type : graph.types()) {
+            if (!deferred.contains(type)) {
+                metrics.recordBean(type, kind(type), graph.constructNanos(type), graph.injectNanos(type));
+            }
+        }
+        metrics.recordCriticalPath(graph.criticalPath());
+    }
+
+    /** Remembers the beans of a graph node that have lifecycle callbacks. */
+    private static void track(Map<Class<?>, List<Object>> started, Class<?> type, List<Object> beans) {
+        List<Object> tracked = new ArrayList<>(1);
+        for (Object bean : beans) {
+            if (Lifecycle.hasCallbacks(bean)) {
+                tracked.add(bean);
             }
         }
+        if (!tracked.isEmpty()) {
+            started.put(type, tracked);
+        }
+    }
+
+    /**
+     * Returns the instance that replaces a bean, if the options override the
+     * bean class or one of its supertypes. Configurations are never replaced.
+     */
+    private Object override(Class<?> type) {
+        Map<Class<?>, Object> overrides = options.getOverrides();
+        if (overrides.isEmpty() || type.isAnnotationPresent(Configuration.class)) {
+            return null;
+        }
+        Object override = overrides.get(type);
+        if (override == null) {
+            for (Map.Entry<Class<?>, Object> entry : overrides.entrySet()) {
+                if (entry.getKey().isAssignableFrom(type)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return override;
+    }
+
+    /** Tells what a bean of the startup graph is, for the metrics. */
+    private StartupMetrics.Kind kind(Class<?> type) {
+        if (producers.containsKey(type)) {
+            return StartupMetrics.Kind.BEAN_METHOD;
+        }
+        return type.isAnnotationPresent(Configuration.class)
+                ? StartupMetrics.Kind.CONFIGURATION
+                : StartupMetrics.Kind.COMPONENT;
+    }
+
+    /** Registers how a prototype, pooled, thread-scoped or striped bean is obtained on lookup. */
+    private void registerScope(Class<?> clazz) {
+        Pooled pooled = clazz.getAnnotation(Pooled.class);
+        Striped striped = clazz.getAnnotation(Striped.class);
+        Scope scope = clazz.getAnnotation(Scope.class);
+        String scopeName = scope == null ? Scope.SINGLETON : scope.value();
+        if (clazz.isAnnotationPresent(ThreadScoped.class)) {
+            ThreadLocal<Object> instances = ThreadLocal.withInitial(() -> {
+                try {
+                    return create(clazz);
+                } catch (InvocationTargetException
+                        | IllegalAccessException
+                        | InstantiationException
+                        | NoSuchMethodException
+                        | IoCBeanNotFound
+                        | IoCCircularDepException e) {
+                    throw new IoCException(e);
+                }
+            });
+            scopedBeans.put(clazz, instances::get);
+            contextualBeans.add(clazz);
+        } else if (striped != null) {
+            int stripes = striped.stripes() > 0
+                    ? striped.stripes()
+                    : Runtime.getRuntime().availableProcessors();
+            StripedBean<?> stripedBean = new StripedBean<>(clazz, stripes);
+            stripedBeans.put(clazz, stripedBean);
+            scopedBeans.put(clazz, stripedBean::get);
+            contextualBeans.add(clazz);
+        } else if (pooled != null) {
+            if (pooled.max() < 1) {
+                throw new IoCException("Pool of " + clazz.getName() + " must hold at least one instance");
+            }
+            pools.put(clazz, newPool(clazz, pooled.max()));
+            scopedBeans.put(clazz, () -> {
+                throw new IoCException("Pooled bean " + clazz.getName() + " must be injected as BeanPool<"
+                        + clazz.getSimpleName() + ">");
+            });
+        } else if (Scope.PROTOTYPE.equals(scopeName)) {
+            scopedBeans.put(clazz, () -> create(clazz));
+        } else if (!Scope.SINGLETON.equals(scopeName)) {
+            throw new IoCException("Unknown scope " + scopeName + " on " + clazz.getName());
+        }
     }
 
-    private void scanConfigurationBeans(Class<?> clazz, Object classInstance)
+    private <T> BeanPool<T> newPool(Class<T> clazz, int maxSize) {
+        return new BeanPool<>(clazz, maxSize, () -> clazz.cast(create(clazz)));
+    }
+
+    /** Creates a fully injected and initialized instance that is not registered in the container. */
+    private Object create(Class<?> clazz)
             throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException,
                     IoCBeanNotFound, IoCCircularDepException {
-        Set<Method> methods = FinderUtil.findMethods(clazz, Bean.class);
-        Set<Field> fields = FinderUtil.findFields(clazz, Autowired.class);
+        InjectionPlan plan = InjectionPlan.of(clazz);
+        Object instance = construct(plan, true);
+        inject(plan, instance, true);
+        return callInjector(() -> {
+            lifecycle.started(instance, false);
+            return instance;
+        });
+    }
+
+    /** Checks whether a bean should be created on first use. */
+    private boolean isLazy(Class<?> clazz) {
+        if (producers.containsKey(clazz) || clazz.isAnnotationPresent(Configuration.class)) {
+            return false;
+        }
+        return options.isLazy() || clazz.isAnnotationPresent(Lazy.class);
+    }
+
+    /**
+     * Resolves the implementation classes behind the injection points that are
+     * not registered yet and queues them for creation. Returns the ones that must
+     * exist before the injection: providers and interface-typed points to lazy
+     * beans are satisfied without creating the bean. Pooled beans must be, and
+     * other beans must not be, injected as a {@link BeanPool}. Lists, arrays
+     * and maps of beans depend on every implementation registered so far. A
+     * point that cannot be resolved fails here, naming the dependent class.
+     */
+    private List<Class<?>> dependencies(
+            Class<?> dependent, InjectionPlan.InjectionPoint[] points, Deque<Class<?>> pending) {
+        List<Class<?>> dependencies = new ArrayList<>(points.length);
+        for (InjectionPlan.InjectionPoint point : points) {
+            if (isCollection(point.type, point.wrapper)) {
+                Class<?> elementType = point.type.isArray() ? point.type.getComponentType() : point.type;
+                for (Class<?> implementationClass : implementationContainer.getImplementationClasses(elementType)) {
+                    checkCollectable(elementType, implementationClass);
+                    if (!beanContainer.containsBean(implementationClass)) {
+                        pending.add(implementationClass);
+                        if (!(elementType.isInterface() && isLazy(implementationClass))) {
+                            dependencies.add(implementationClass);
+                        }
+                    }
+                }
+                continue;
+            }
+            Class<?> implementationClass;
+            try {
+                implementationClass = point.type.isInterface()
+                        ? implementationContainer.getImplementationClass(point.type, point.name, point.qualifier)
+                        : point.type;
+            } catch (IoCException e) {
+                throw new IoCException("Cannot resolve dependency " + point.name + " of " + dependent.getName() + ": "
+                        + e.getMessage());
+            }
+            checkInjectable(point, implementationClass);
+            if (!beanContainer.containsBean(implementationClass)) {
+                pending.add(implementationClass);
+                if (point.wrapper != Provider.class && !(point.type.isInterface() && isLazy(implementationClass))) {
+                    dependencies.add(implementationClass);
+                }
+            }
+        }
+        return dependencies;
+    }
 
-        for (Field field : fields) {
-            String qualifier = field.isAnnotationPresent(Qualifier.class)
-                    ? field.getAnnotation(Qualifier.class).value()
-                    : null;
-            Object fieldInstance = _getBean(field.getType(), field.getName(), qualifier, false);
-            field.set(classInstance, fieldInstance);
+    /**
+     * Checks that a bean with a special scope is injected in a form that fits
+     * the scope.
+     */
+    private static void checkInjectable(InjectionPlan.InjectionPoint point, Class<?> implementationClass) {
+        boolean pooled = implementationClass.isAnnotationPresent(Pooled.class);
+        if (pooled != (point.wrapper == BeanPool.class)) {
+            throw new IoCException(
+                    pooled
+                            ? "Pooled bean " + implementationClass.getName() + " must be injected as BeanPool<"
+                                    + implementationClass.getSimpleName() + ">"
+                            : "Bean " + implementationClass.getName() + " is not pooled and cannot be injected as a"
+                                    + " BeanPool");
+        }
+        boolean striped = implementationClass.isAnnotationPresent(Striped.class);
+        if (!striped && point.wrapper == StripedBean.class) {
+            throw new IoCException("Bean " + implementationClass.getName()
+                    + " is not striped and cannot be injected as a StripedBean");
         }
+        boolean contextual = striped || implementationClass.isAnnotationPresent(ThreadScoped.class);
+        if (contextual && point.wrapper == null && !point.type.isInterface()) {
+            throw new IoCException("Bean " + implementationClass.getName()
+                    + " has one instance per thread or stripe and must be injected through an interface,"
+                    + " a Provider or a StripedBean");
+        }
+    }
+
+    /** Tells whether an injection point receives every bean of a type. */
+    private static boolean isCollection(Class<?> type, Class<?> wrapper) {
+        return wrapper == List.class || wrapper == Map.class || type.isArray();
+    }
 
-        for (Method method : methods) {
-            Class<?> beanType = method.getReturnType();
-            Object beanInstance = method.invoke(classInstance);
-            String name = method.getAnnotation(Bean.class).value() != null
-                    ? method.getAnnotation(Bean.class).value()
-                    : beanType.getName();
-            beanContainer.putBean(beanType, beanInstance, name);
+    /**
+     * Checks that an implementation can be part of a list, array or map of
+     * beans: pooled beans cannot, thread-scoped and striped beans only through
+     * an interface.
+     */
+    private static void checkCollectable(Class<?> elementType, Class<?> implementationClass) {
+        if (implementationClass.isAnnotationPresent(Pooled.class)) {
+            throw new IoCException("Pooled bean " + implementationClass.getName()
+                    + " cannot be injected with all beans of " + elementType.getName());
+        }
+        boolean contextual = implementationClass.isAnnotationPresent(Striped.class)
+                || implementationClass.isAnnotationPresent(ThreadScoped.class);
+        if (contextual && !elementType.isInterface()) {
+            throw new IoCException("Bean " + implementationClass.getName()
+                    + " has one instance per thread or stripe and can only be injected with all beans of an"
+                    + " interface");
         }
     }
 
-    private Object newInstanceWrapper(Class<?> clazz)
+    /** Creates a bean through its constructor, without registering it. */
+    private Object construct(InjectionPlan plan, boolean createIfNotFound)
             throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException,
                     IoCBeanNotFound, IoCCircularDepException {
-        circularDependencyDetector.startInstantiation(clazz);
+        ContainerEvents.BeanCreation event = beginCreation();
+        try {
+            Injector<Object> injector = plan.injector;
+            if (injector != null) {
+                Injector.Resolver resolver = createIfNotFound ? creatingResolver : existingResolver;
+                return callInjector(() -> injector.newInstance(resolver));
+            }
+            return newInstance(plan, createIfNotFound);
+        } finally {
+            commitCreation(event, plan.type, "construct");
+        }
+    }
 
+    /** Injects the fields and setters of a constructed bean. */
+    private void inject(InjectionPlan plan, Object instance, boolean createIfNotFound)
+            throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        ContainerEvents.BeanCreation event = beginCreation();
         try {
-            if (beanContainer.containsBean(clazz)) {
-                return beanContainer.getBean(clazz);
+            Injector<Object> injector = plan.injector;
+            if (injector != null) {
+                Injector.Resolver resolver = createIfNotFound ? creatingResolver : existingResolver;
+                callInjector(() -> {
+                    injector.inject(instance, resolver);
+                    return instance;
+                });
+            } else {
+                fieldInject(plan, instance, createIfNotFound);
+                setterInject(plan, instance, createIfNotFound);
             }
+        } finally {
+            commitCreation(event, plan.type, "inject");
+        }
+    }
 
-            Object instance = newInstance(clazz);
-            beanContainer.putBean(clazz, instance);
-            fieldInject(clazz, instance);
-            setterInject(clazz, instance);
-            return instance;
+    private static ContainerEvents.BeanCreation beginCreation() {
+        ContainerEvents.BeanCreation event = new ContainerEvents.BeanCreation();
+        event.begin();
+        return event;
+    }
+
+    private static void commitCreation(ContainerEvents.BeanCreation event, Class<?> type, String phase) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.beanClass = type;
+            event.phase = phase;
+            event.commit();
+        }
+    }
+
+    /** Creates a configuration through its non-private no-arg constructor. */
+    private Object newConfiguration(InjectionPlan plan)
+            throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        ContainerEvents.BeanCreation event = beginCreation();
+        try {
+            Injector<Object> injector = plan.injector;
+            if (injector != null) {
+                return callInjector(() -> injector.newInstance(existingResolver));
+            }
+            return plan.defaultConstructor.invoke(null, new Object[0]);
         } finally {
-            circularDependencyDetector.finishInstantiation(clazz);
+            commitCreation(event, plan.type, "construct");
         }
     }
 
-    private Object newInstance(Class<?> clazz)
-            throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException,
+    /** Injects the {@code @Autowired} fields of a configuration. */
+    private void injectConfiguration(InjectionPlan plan, Object instance)
+            throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException,
                     IoCBeanNotFound, IoCCircularDepException {
-        Constructor<?> annotatedConstructor = FinderUtil.findAnnotatedConstructor(clazz);
-        Object instance;
-        if (annotatedConstructor == null) {
-            try {
-                Constructor<?> defaultConstructor = clazz.getConstructor();
-                defaultConstructor.setAccessible(true);
-                instance = clazz.newInstance();
-                return instance;
-            } catch (NoSuchMethodException e) {
-                throw new IoCException("There is no default constructor in class " + clazz.getName());
+        ContainerEvents.BeanCreation event = beginCreation();
+        try {
+            Injector<Object> injector = plan.injector;
+            if (injector != null) {
+                callInjector(() -> {
+                    injector.inject(instance, existingResolver);
+                    return instance;
+                });
+            } else {
+                fieldInject(plan, instance, false);
             }
-        } else {
-            Object[] parameters = new Object[annotatedConstructor.getParameterCount()];
-            for (int i = 0; i < parameters.length; i++) {
-                String qualifier = annotatedConstructor.getParameters()[i].isAnnotationPresent(Qualifier.class)
-                        ? annotatedConstructor
-                                .getParameters()[i]
-                                .getAnnotation(Qualifier.class)
-                                .value()
-                        : null;
-                Object depInstance = _getBean(
-                        annotatedConstructor.getParameterTypes()[i],
-                        annotatedConstructor.getParameterTypes()[i].getName(),
-                        qualifier,
-                        true);
-                parameters[i] = depInstance;
-            }
-            instance = annotatedConstructor.newInstance(parameters);
+        } finally {
+            commitCreation(event, plan.type, "inject");
         }
-        return instance;
     }
 
-    private void setterInject(Class<?> clazz, Object classInstance)
+    /**
+     * Invokes the {@code @Bean} methods that return a bean type and registers
+     * their beans.
+     *
+     * @return the produced beans
+     */
+    private List<Object> produceBeans(Class<?> beanType)
+            throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        List<Object> beans = new ArrayList<>(1);
+        for (Class<?> configurationClass : producers.get(beanType)) {
+            Object configuration = configurations.get(configurationClass);
+            for (InjectionPlan.BeanMethod method : InjectionPlan.of(configurationClass).beanMethods) {
+                if (method.beanType == beanType) {
+                    ContainerEvents.BeanMethod event = new ContainerEvents.BeanMethod();
+                    event.begin();
+                    Object bean = method.invoke(configuration, resolve(method.points, false));
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.configurationClass = configurationClass;
+                        event.method = method.methodName;
+                        event.beanClass = beanType;
+                        event.commit();
+                    }
+                    beanContainer.putBean(beanType, bean, method.name);
+                    beans.add(bean);
+                }
+            }
+        }
+        return beans;
+    }
+
+    /**
+     * Runs a generated injector or the bean graph, unwrapping the container
+     * exceptions it passes through and wrapping the ones thrown by the beans.
+     */
+    private static <T> T callInjector(Callable<T> call)
+            throws InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        try {
+            return call.call();
+        } catch (InvocationTargetException
+                | IllegalAccessException
+                | InstantiationException
+                | NoSuchMethodException
+                | IoCBeanNotFound
+                | IoCCircularDepException
+                | IoCException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private Object newInstance(InjectionPlan plan, boolean createIfNotFound)
+            throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        if (plan.autowiredConstructor != null) {
+            return plan.autowiredConstructor.invoke(null, resolve(plan.autowiredConstructor.points, createIfNotFound));
+        }
+        if (plan.defaultConstructor == null) {
+            throw new IoCException("There is no default constructor in class " + plan.type.getName());
+        }
+        return plan.defaultConstructor.invoke(null, new Object[0]);
+    }
+
+    private void setterInject(InjectionPlan plan, Object classInstance, boolean createIfNotFound)
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, InstantiationException,
                     IoCBeanNotFound, IoCCircularDepException {
-        Set<Method> methods = FinderUtil.findMethods(clazz, Autowired.class);
-        for (Method method : methods) {
-            Object[] parameters = new Object[method.getParameterCount()];
-            for (int i = 0; i < parameters.length; i++) {
-                String qualifier = method.getParameters()[i].isAnnotationPresent(Qualifier.class)
-                        ? method.getParameters()[i]
-                                .getAnnotation(Qualifier.class)
-                                .value()
-                        : null;
-                Object instance = _getBean(
-                        method.getParameterTypes()[i], method.getParameterTypes()[i].getName(), qualifier, true);
-                parameters[i] = instance;
+        for (InjectionPlan.Member setter : plan.setters) {
+            setter.invoke(classInstance, resolve(setter.points, createIfNotFound));
+        }
+    }
+
+    private void fieldInject(InjectionPlan plan, Object classInstance, boolean createIfNotFound)
+            throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        for (InjectionPlan.Member field : plan.fields) {
+            field.invoke(classInstance, resolve(field.points, createIfNotFound));
+        }
+    }
+
+    /** Resolves the dependency of every injection point, in order. */
+    private Object[] resolve(InjectionPlan.InjectionPoint[] points, boolean createIfNotFound)
+            throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        Object[] arguments = new Object[points.length];
+        for (int i = 0; i < points.length; i++) {
+            InjectionPlan.InjectionPoint point = points[i];
+            arguments[i] = resolveDependency(point.type, point.name, point.qualifier, point.wrapper, createIfNotFound);
+        }
+        return arguments;
+    }
+
+    /**
+     * Resolves a single dependency. Providers are returned unresolved, and
+     * interface-typed dependencies on lazy beans that do not exist yet receive a
+     * proxy, so neither forces the creation of a lazy bean. Pool injection points
+     * receive the pool of the bean.
+     */
+    private Object resolveDependency(
+            Class<?> type, String name, String qualifier, Class<?> wrapper, boolean createIfNotFound)
+            throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException,
+                    IoCBeanNotFound, IoCCircularDepException {
+        if (wrapper == Provider.class) {
+            return provider(type, name, qualifier);
+        }
+        if (isCollection(type, wrapper)) {
+            return collect(type, wrapper, createIfNotFound);
+        }
+        if (wrapper == StripedBean.class) {
+            return stripedBeans.get(
+                    type.isInterface() ? implementationContainer.getImplementationClass(type, name, qualifier) : type);
+        }
+        if (wrapper == null && type.isInterface() && !contextualBeans.isEmpty()) {
+            Class<?> implementationClass = implementationContainer.getImplementationClass(type, name, qualifier);
+            if (contextualBeans.contains(implementationClass)) {
+                return ScopedProxy.create(type, scopedBeans.get(implementationClass));
+            }
+        }
+        if (wrapper == BeanPool.class) {
+            return pools.get(
+                    type.isInterface() ? implementationContainer.getImplementationClass(type, name, qualifier) : type);
+        }
+        if (type.isInterface() && !lazyBeans.isEmpty()) {
+            LazyBean lazyBean = lazyBeans.get(implementationContainer.getImplementationClass(type, name, qualifier));
+            if (lazyBean != null && !lazyBean.isCreated()) {
+                return lazyBean.proxy(type);
             }
-            method.invoke(classInstance, parameters);
         }
+        return _getBean(type, name, qualifier, createIfNotFound);
     }
 
-    private void fieldInject(Class<?> clazz, Object classInstance)
+    /**
+     * Resolves every bean of a type into an array, an unmodifiable list backed
+     * by an array, or an unmodifiable map keyed by bean name. Beans are ordered
+     * by class name, then by bean name, whatever order the classes were
+     * discovered in. Components are named after their class with a lower-case
+     * first letter and {@code @Bean} beans by their {@code @Bean} value. The
+     * beans are resolved once, when the injection point is injected, so
+     * iterating the result never looks a bean up.
+     */
+    private Object collect(Class<?> type, Class<?> wrapper, boolean createIfNotFound)
             throws IllegalAccessException, InstantiationException, InvocationTargetException, NoSuchMethodException,
                     IoCBeanNotFound, IoCCircularDepException {
-        Set<Field> fields = FinderUtil.findFields(clazz, Autowired.class);
-        for (Field field : fields) {
-            String qualifier = field.isAnnotationPresent(Qualifier.class)
-                    ? field.getAnnotation(Qualifier.class).value()
-                    : null;
-            Object fieldInstance = _getBean(field.getType(), field.getName(), qualifier, true);
-            field.set(classInstance, fieldInstance);
+        Class<?> elementType = type.isArray() ? type.getComponentType() : type;
+        List<String> names = new ArrayList<>();
+        List<Object> beans = new ArrayList<>();
+        List<Class<?>> implementationClasses =
+                new ArrayList<>(implementationContainer.getImplementationClasses(elementType));
+        implementationClasses.sort(Comparator.comparing(Class::getName));
+        for (Class<?> implementationClass : implementationClasses) {
+            String defaultName = beanName(implementationClass);
+            Callable<Object> scopedBean = scopedBeans.get(implementationClass);
+            LazyBean lazyBean = lazyBeans.get(implementationClass);
+            if (contextualBeans.contains(implementationClass)) {
+                names.add(defaultName);
+                beans.add(ScopedProxy.create(elementType, scopedBean));
+            } else if (scopedBean != null) {
+                names.add(defaultName);
+                beans.add(callInjector(scopedBean));
+            } else if (lazyBean != null) {
+                names.add(defaultName);
+                beans.add(
+                        !lazyBean.isCreated() && elementType.isInterface()
+                                ? lazyBean.proxy(elementType)
+                                : callInjector(lazyBean::get));
+            } else if (beanContainer.containsBean(implementationClass)) {
+                for (Map.Entry<String, Object> bean :
+                        beanContainer.getBeans(implementationClass).entrySet()) {
+                    String name = bean.getKey();
+                    names.add(name.isEmpty() || name.equals(implementationClass.getName()) ? defaultName : name);
+                    beans.add(bean.getValue());
+                }
+            } else {
+                names.add(defaultName);
+                beans.add(_getBean(implementationClass, null, null, createIfNotFound));
+            }
         }
+
+        if (type.isArray()) {
+            Object array = Array.newInstance(elementType, beans.size());
+            for (int i = 0; i < beans.size(); i++) {
+                Array.set(array, i, beans.get(i));
+            }
+            return array;
+        }
+        if (wrapper == List.class) {
+            return Collections.unmodifiableList(Arrays.asList(beans.toArray()));
+        }
+        Map<String, Object> map = new LinkedHashMap<>(beans.size() * 2);
+        for (int i = 0; i < beans.size(); i++) {
+            if (map.putIfAbsent(names.get(i), beans.get(i)) != null) {
+                throw new IoCException(
+                        "There are several beans named " + names.get(i) + " of " + elementType.getName());
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /** Names a bean after its class, with a lower-case first letter. */
+    private static String beanName(Class<?> clazz) {
+        String simpleName = clazz.getSimpleName();
+        return simpleName.isEmpty()
+                ? clazz.getName()
+                : Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    }
+
+    /**
+     * Creates a provider that resolves the dependency on its first use. Beans
+     * with a special scope are looked up again on every call.
+     */
+    private Provider<Object> provider(Class<?> type, String name, String qualifier) {
+        Class<?> implementationClass =
+                type.isInterface() ? implementationContainer.getImplementationClass(type, name, qualifier) : type;
+        Callable<Object> scopedBean = scopedBeans.get(implementationClass);
+        if (scopedBean != null) {
+            return () -> {
+                try {
+                    return callInjector(scopedBean);
+                } catch (InstantiationException
+                        | IllegalAccessException
+                        | InvocationTargetException
+                        | NoSuchMethodException
+                        | IoCBeanNotFound
+                        | IoCCircularDepException e) {
+                    throw new IoCException(e);
+                }
+            };
+        }
+        return new Provider<Object>() {
+            private volatile Object bean;
+
+            @Override
+            public Object get() {
+                Object resolved = bean;
+                if (resolved == null) {
+                    try {
+                        resolved = _getBean(type, name, qualifier, false);
+                    } catch (InstantiationException
+                            | IllegalAccessException
+                            | InvocationTargetException
+                            | NoSuchMethodException
+                            | IoCBeanNotFound
+                            | IoCCircularDepException e) {
+                        throw new IoCException(e);
+                    }
+                    bean = resolved;
+                }
+                return resolved;
+            }
+        };
     }
 
     @SuppressWarnings("unchecked")
     private <T> T _getBean(Class<T> interfaceClass)
             throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException,
                     IoCBeanNotFound, IoCCircularDepException {
+        Object bean = beanContainer.findBean(interfaceClass);
+        if (bean != null) {
+            return (T) bean;
+        }
         return (T) _getBean(interfaceClass, null, null, false);
     }
 
@@ -339,12 +1603,57 @@ public class ReactifyIoC {
             }
             return beanContainer.getBean(implementationClass);
         }
+        Callable<Object> scopedBean = scopedBeans.get(implementationClass);
+        if (scopedBean != null) {
+            return callInjector(scopedBean);
+        }
+        LazyBean lazyBean = lazyBeans.get(implementationClass);
+        if (lazyBean != null) {
+            return callInjector(lazyBean::get);
+        }
         if (createIfNotFound) {
-            synchronized (beanContainer) {
-                return newInstanceWrapper(implementationClass);
-            }
+            return callInjector(() -> creations.get(implementationClass, singletonFactory));
         } else {
             throw new IoCBeanNotFound("Cannot found bean for " + interfaceClass.getName());
         }
     }
+
+    /** What a start discovered before creating any bean. */
+    private static final class Discovery {
+
+        /** When the start began, in {@link System#nanoTime()} units. */
+        long start;
+
+        Class<?> mainClass;
+
+        /** The scanned packages, in declaration order. */
+        List<String> packages;
+
+        /**
+         * The classes of every package, or with an index only those of the
+         * classpath roots that contain no index.
+         */
+        List<List<Class<?>>> scanned;
+
+        /** The scan events of the packages, committed as the packages are read. */
+        ContainerEvents.Scan[] scanEvents;
+
+        /**
+         * Where the classes that are not indexed came from: "classpath",
+         * "cache", "plan" or "shared".
+         */
+        String source;
+
+        /** The resolution being replayed, or {@code null}. */
+        ResolutionPlan replayed;
+
+        /** The resolution being recorded, or {@code null}. */
+        ResolutionPlan recording;
+
+        /** Key of the resolution shared within the JVM, or {@code null}. */
+        String sharedKey;
+
+        /** Key of the resolution stored in the plan file, or {@code null}. */
+        String fileKey;
+    }
 }
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot of how a context was resolved, replayed on the next start with the
+ * same classpath.
+ *
+ * <p>
+ * For every scanned package the plan records the discovered classes, the bean
+ * types produced by each configuration, the dependencies of every bean of the
+ * startup graph and the schedule in which its construct and inject steps ran.
+ * Replaying a plan skips scanning and the ordering and cycle analysis of the
+ * graph, and creates the beans in the recorded order. Injection points are
+ * still resolved against the registered implementations as each bean is
+ * created.
+ * </p>
+ *
+ * <p>
+ * A plan is stored under a key that covers the main class, the options that
+ * change resolution, the predefined beans and a fingerprint of the classpath
+ * roots of the scanned packages. A plan with another key, or one that cannot
+ * be read or whose classes cannot be loaded, is ignored.
+ * </p>
+ *
+ * <p>
+ * Plans are immutable once recorded, so they are also
+ * {@linkplain #share(Class, String) shared} between the contexts that one JVM
+ * starts from the same main class. Such plans are attached to the main class
+ * and released with it.
+ * </p>
+ */
+final class ResolutionPlan {
+
+    /** Marks a plan file, "RXRP". */
+    private static final int MAGIC = 0x52585250;
+
+    /** Raised when the recorded schedule changes meaning. */
+    private static final int VERSION = 2;
+
+    /** Plans shared within the JVM, by main class and key. */
+    private static final ClassValue<Map<String, ResolutionPlan>> SHARED =
+            new ClassValue<Map<String, ResolutionPlan>>() {
+                @Override
+                protected Map<String, ResolutionPlan> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>(2);
+                }
+            };
+
+    private final List<Package> packages = new ArrayList<>();
+
+    /**
+     * Returns the plan that another context of this JVM recorded.
+     *
+     * @param mainClass
+     *            the main class of the context
+     * @param key
+     *            the key of the start, without a classpath fingerprint
+     * @return the shared plan, or {@code null} if none was shared under the key
+     */
+    static ResolutionPlan shared(Class<?> mainClass, String key) {
+        return SHARED.get(mainClass).get(key);
+    }
+
+    /**
+     * Shares this plan with the contexts that this JVM starts later. The plan
+     * must not be changed anymore.
+     *
+     * @param mainClass
+     *            the main class of the context
+     * @param key
+     *            the key of the start, without a classpath fingerprint
+     */
+    void share(Class<?> mainClass, String key) {
+        SHARED.get(mainClass).putIfAbsent(key, this);
+    }
+
+    /**
+     * Builds the key that a plan must have to be replayed.
+     *
+     * @param values
+     *            everything the resolution depends on, in a stable order
+     * @return the key
+     */
+    static String key(List<String> values) {
+        return String.join("\n", values);
+    }
+
+    /**
+     * Starts recording a package.
+     *
+     * @param packageName
+     *            the scanned package
+     * @param classes
+     *            the classes discovered in it
+     * @return the recording of the package
+     */
+    Package add(String packageName, List<Class<?>> classes) {
+        Package recorded = new Package(packageName, classes);
+        packages.add(recorded);
+        return recorded;
+    }
+
+    /**
+     * Returns the recorded packages.
+     *
+     * @return the packages, in scan order
+     */
+    List<Package> packages() {
+        return Collections.unmodifiableList(packages);
+    }
+
+    /**
+     * Reads a plan, if it was recorded under the given key.
+     *
+     * @param file
+     *            the plan file, which need not exist
+     * @param key
+     *            the key of the current start
+     * @param classLoader
+     *            the class loader used to load the recorded classes
+     * @return the plan, or {@code null} if it is missing, stale or unreadable
+     */
+    static ResolutionPlan read(Path file, String key, ClassLoader classLoader) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC
+                    || in.readInt() != VERSION
+                    || !in.readUTF().equals(key)) {
+                return null;
+            }
+            Class<?>[] classes = new Class<?>[in.readInt()];
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] = Class.forName(in.readUTF(), false, classLoader);
+            }
+            ResolutionPlan plan = new ResolutionPlan();
+            int packageCount = in.readInt();
+            for (int i = 0; i < packageCount; i++) {
+                Package recorded = plan.add(in.readUTF(), readClasses(in, classes));
+                int producerCount = in.readInt();
+                for (int j = 0; j < producerCount; j++) {
+                    recorded.producer(classes[in.readInt()], classes[in.readInt()]);
+                }
+                int beanCount = in.readInt();
+                for (int j = 0; j < beanCount; j++) {
+                    recorded.types.add(classes[in.readInt()]);
+                    recorded.constructorDependencies.add(readClasses(in, classes));
+                    recorded.memberDependencies.add(readClasses(in, classes));
+                }
+                recorded.prerequisites = new int[in.readInt()][];
+                for (int task = 0; task < recorded.prerequisites.length; task++) {
+                    recorded.prerequisites[task] = readInts(in);
+                }
+                recorded.order = readInts(in);
+            }
+            return plan;
+        } catch (IOException | ClassNotFoundException | LinkageError | RuntimeException e) {
+            // Resolve the context again and overwrite the plan
+            return null;
+        }
+    }
+
+    /**
+     * Writes the plan, replacing the file atomically where the file system
+     * supports it.
+     *
+     * @param file
+     *            the plan file
+     * @param key
+     *            the key of the start, see {@link #key(List)}
+     * @throws IOException
+     *             if the file cannot be written
+     */
+    void write(Path file, String key) throws IOException {
+        Map<Class<?>, Integer> ids = new HashMap<>();
+        List<Class<?>> classes = new ArrayList<>();
+        for (Package recorded : packages) {
+            recorded.collect(ids, classes);
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(key);
+                out.writeInt(classes.size());
+                for (Class<?> clazz : classes) {
+                    out.writeUTF(clazz.getName());
+                }
+                out.writeInt(packages.size());
+                for (Package recorded : packages) {
+                    recorded.write(out, ids);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static List<Class<?>> readClasses(DataInputStream in, Class<?>[] classes) throws IOException {
+        int size = in.readInt();
+        List<Class<?>> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(classes[in.readInt()]);
+        }
+        return list;
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    /** The resolution of one scanned package. */
+    static final class Package {
+        private final String name;
+        private final List<Class<?>> classes;
+        private final List<Class<?>> producedTypes = new ArrayList<>();
+        private final List<Class<?>> producingConfigurations = new ArrayList<>();
+        private final List<Class<?>> types = new ArrayList<>();
+        private final List<List<Class<?>>> constructorDependencies = new ArrayList<>();
+        private final List<List<Class<?>>> memberDependencies = new ArrayList<>();
+        private int[][] prerequisites = new int[0][];
+        private int[] order = new int[0];
+
+        private Package(String name, List<Class<?>> classes) {
+            this.name = name;
+            this.classes = classes;
+        }
+
+        String name() {
+            return name;
+        }
+
+        List<Class<?>> classes() {
+            return classes;
+        }
+
+        /**
+         * Records that a configuration produces a bean type, in registration
+         * order.
+         */
+        void producer(Class<?> beanType, Class<?> configurationClass) {
+            producedTypes.add(beanType);
+            producingConfigurations.add(configurationClass);
+        }
+
+        /** Returns the number of recorded producer registrations. */
+        int producerCount() {
+            return producedTypes.size();
+        }
+
+        Class<?> producedType(int i) {
+            return producedTypes.get(i);
+        }
+
+        Class<?> producingConfiguration(int i) {
+            return producingConfigurations.get(i);
+        }
+
+        /** Records the beans of an executed graph and their schedule. */
+        void graph(DependencyGraph graph) {
+            for (Class<?> type : graph.types()) {
+                types.add(type);
+                constructorDependencies.add(graph.constructorDependencies(type));
+                memberDependencies.add(graph.memberDependencies(type));
+            }
+            if (graph.order() != null) {
+                prerequisites = graph.prerequisites();
+                order = graph.order();
+            }
+        }
+
+        /** Rebuilds the recorded graph with its schedule. */
+        DependencyGraph graph() {
+            DependencyGraph graph = new DependencyGraph();
+            for (int i = 0; i < types.size(); i++) {
+                graph.add(types.get(i), constructorDependencies.get(i), memberDependencies.get(i));
+            }
+            if (!types.isEmpty()) {
+                graph.restore(prerequisites, order);
+            }
+            return graph;
+        }
+
+        private void collect(Map<Class<?>, Integer> ids, List<Class<?>> all) {
+            List<List<Class<?>>> groups = new ArrayList<>();
+            groups.add(classes);
+            groups.add(producedTypes);
+            groups.add(producingConfigurations);
+            groups.add(types);
+            groups.addAll(constructorDependencies);
+            groups.addAll(memberDependencies);
+            for (List<Class<?>> group : groups) {
+                for (Class<?> clazz : group) {
+                    if (ids.putIfAbsent(clazz, all.size()) == null) {
+                        all.add(clazz);
+                    }
+                }
+            }
+        }
+
+        private void write(DataOutputStream out, Map<Class<?>, Integer> ids) throws IOException {
+            out.writeUTF(name);
+            writeClasses(out, classes, ids);
+            out.writeInt(producedTypes.size());
+            for (int i = 0; i < producedTypes.size(); i++) {
+                out.writeInt(ids.get(producedTypes.get(i)));
+                out.writeInt(ids.get(producingConfigurations.get(i)));
+            }
+            out.writeInt(types.size());
+            for (int i = 0; i < types.size(); i++) {
+                out.writeInt(ids.get(types.get(i)));
+                writeClasses(out, constructorDependencies.get(i), ids);
+                writeClasses(out, memberDependencies.get(i), ids);
+            }
+            out.writeInt(prerequisites.length);
+            for (int[] required : prerequisites) {
+                writeInts(out, required);
+            }
+            writeInts(out, order);
+        }
+
+        private static void writeClasses(DataOutputStream out, List<Class<?>> list, Map<Class<?>, Integer> ids)
+                throws IOException {
+            out.writeInt(list.size());
+            for (Class<?> clazz : list) {
+                out.writeInt(ids.get(clazz));
+            }
+        }
+
+        private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+            out.writeInt(values.length);
+            for (int value : values) {
+                out.writeInt(value);
+            }
+        }
+    }
+}
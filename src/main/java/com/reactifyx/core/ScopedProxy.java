@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Callable;
+
+/**
+ * Interface proxies that look up their target on every call.
+ *
+ * <p>
+ * Injected in place of beans whose instance depends on when or where it is
+ * used: lazy beans that may not exist yet, and thread-scoped or striped beans
+ * that have one instance per thread or stripe.
+ * </p>
+ */
+final class ScopedProxy {
+
+    private ScopedProxy() {}
+
+    /**
+     * Creates a proxy that forwards every interface method to the current
+     * target. {@code equals}, {@code hashCode} and {@code toString} are answered
+     * on the identity of the proxy, so putting it in a collection or logging it
+     * neither creates a lazy bean nor depends on the calling thread.
+     *
+     * @param interfaceClass
+     *            the interface the proxy implements
+     * @param target
+     *            returns the instance to call
+     * @return the proxy
+     */
+    static Object create(Class<?> interfaceClass, Callable<?> target) {
+        return Proxy.newProxyInstance(
+                interfaceClass.getClassLoader(), new Class<?>[] {interfaceClass}, (proxy, method, arguments) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        switch (method.getName()) {
+                            case "equals":
+                                return proxy == arguments[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                return interfaceClass.getName() + "$Proxy@"
+                                        + Integer.toHexString(System.identityHashCode(proxy));
+                        }
+                    }
+                    try {
+                        return method.invoke(target.call(), arguments);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
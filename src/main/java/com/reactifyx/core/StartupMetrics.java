@@ -0,0 +1,276 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timings recorded while {@link ReactifyIoC} starts: class discovery, the
+ * creation of each package and of each bean, and the critical dependency chain.
+ *
+ * <p>
+ * The metrics are filled in during {@code initBeans} and do not change
+ * afterwards. {@link #toString()} formats them as a report:
+ * </p>
+ *
+ * <pre>{@code
+ * ReactifyIoC ioc = ReactifyIoC.initBeans(App.class);
+ * System.out.println(ioc.getStartupMetrics());
+ * }</pre>
+ */
+public final class StartupMetrics {
+
+    /** Number of beans listed by {@link #toString()}. */
+    private static final int REPORTED_BEANS = 10;
+
+    /** What a bean of the startup graph is. */
+    public enum Kind {
+        /** A {@code @Component}, or a class created because a component needs it. */
+        COMPONENT,
+        /** A {@code @Configuration} class. */
+        CONFIGURATION,
+        /** The beans returned by the {@code @Bean} methods of one type. */
+        BEAN_METHOD
+    }
+
+    /** Timings of a single bean. */
+    public static final class BeanMetrics {
+        private final Class<?> type;
+        private final Kind kind;
+        private final long constructNanos;
+        private final long injectNanos;
+
+        BeanMetrics(Class<?> type, Kind kind, long constructNanos, long injectNanos) {
+            this.type = type;
+            this.kind = kind;
+            this.constructNanos = constructNanos;
+            this.injectNanos = injectNanos;
+        }
+
+        /**
+         * Returns the bean class.
+         *
+         * @return the bean class, or the return type of the {@code @Bean} methods
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Returns what the bean is.
+         *
+         * @return the kind of bean
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the time spent in the constructor, or in the {@code @Bean}
+         * methods for {@link Kind#BEAN_METHOD}, including the lookup of its
+         * arguments.
+         *
+         * @return the duration in nanoseconds
+         */
+        public long getConstructNanos() {
+            return constructNanos;
+        }
+
+        /**
+         * Returns the time spent injecting fields and setters.
+         *
+         * @return the duration in nanoseconds
+         */
+        public long getInjectNanos() {
+            return injectNanos;
+        }
+
+        /**
+         * Returns the construction and injection time together.
+         *
+         * @return the duration in nanoseconds
+         */
+        public long getTotalNanos() {
+            return constructNanos + injectNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    Locale.ROOT,
+                    "%s %s: construct %s, inject %s",
+                    kind,
+                    type.getName(),
+                    millis(constructNanos),
+                    millis(injectNanos));
+        }
+    }
+
+    private final Map<String, Long> packageNanos = new LinkedHashMap<>();
+    private final Map<Class<?>, BeanMetrics> beans = new LinkedHashMap<>();
+    private List<BeanMetrics> criticalPath = Collections.emptyList();
+    private long scanNanos;
+    private long totalNanos;
+
+    StartupMetrics() {}
+
+    /**
+     * Returns the time spent discovering the component classes, either reading
+     * the component index or scanning the classpath. The classpath scan covers
+     * all packages in one parallel pass, so it is not broken down by package.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getScanNanos() {
+        return scanNanos;
+    }
+
+    /**
+     * Returns the time spent registering and creating the beans of each scanned
+     * package.
+     *
+     * @return the durations in nanoseconds by package, in scan order
+     */
+    public Map<String, Long> getPackageNanos() {
+        return Collections.unmodifiableMap(packageNanos);
+    }
+
+    /**
+     * Returns the total startup time.
+     *
+     * @return the duration of {@code initBeans} in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the timings of every bean created at startup.
+     *
+     * @return the bean timings in creation graph order
+     */
+    public Collection<BeanMetrics> getBeans() {
+        return Collections.unmodifiableCollection(beans.values());
+    }
+
+    /**
+     * Returns the timings of one bean.
+     *
+     * @param type
+     *            the bean class
+     * @return the timings, or {@code null} if the bean was not created at startup
+     */
+    public BeanMetrics getBean(Class<?> type) {
+        return beans.get(type);
+    }
+
+    /**
+     * Returns the beans that took longest to create.
+     *
+     * @param count
+     *            the maximum number of beans to return
+     * @return the slowest beans, slowest first
+     */
+    public List<BeanMetrics> getSlowest(int count) {
+        List<BeanMetrics> slowest = new ArrayList<>(beans.values());
+        slowest.sort(Comparator.comparingLong(BeanMetrics::getTotalNanos).reversed());
+        return slowest.subList(0, Math.min(count, slowest.size()));
+    }
+
+    /**
+     * Returns the critical dependency chain: the beans whose creation steps,
+     * one waiting for the next, took longest. Startup cannot be faster than
+     * this chain, however many threads create beans.
+     *
+     * @return the beans of the chain, dependencies first
+     */
+    public List<BeanMetrics> getCriticalPath() {
+        return criticalPath;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(
+                Locale.ROOT, "Startup %s, scan %s, %d beans%n", millis(totalNanos), millis(scanNanos), beans.size()));
+        for (Map.Entry<String, Long> entry : packageNanos.entrySet()) {
+            report.append(String.format(Locale.ROOT, "  package %s: %s%n", entry.getKey(), millis(entry.getValue())));
+        }
+        report.append(String.format(Locale.ROOT, "Slowest beans:%n"));
+        for (BeanMetrics bean : getSlowest(REPORTED_BEANS)) {
+            report.append("  ").append(bean).append(String.format(Locale.ROOT, "%n"));
+        }
+        StringJoiner chain = new StringJoiner(" -> ");
+        long chainNanos = 0;
+        for (BeanMetrics bean : criticalPath) {
+            chain.add(bean.getType().getSimpleName());
+            chainNanos += bean.getTotalNanos();
+        }
+        report.append(String.format(Locale.ROOT, "Critical path %s: %s%n", millis(chainNanos), chain));
+        return report.toString();
+    }
+
+    void recordScan(long nanos) {
+        scanNanos += nanos;
+    }
+
+    void recordPackage(String packageName, long nanos) {
+        packageNanos.merge(packageName, nanos, Long::sum);
+    }
+
+    void recordBean(Class<?> type, Kind kind, long constructNanos, long injectNanos) {
+        beans.put(type, new BeanMetrics(type, kind, constructNanos, injectNanos));
+    }
+
+    /** Keeps the longest of the critical paths of the packages. */
+    void recordCriticalPath(List<Class<?>> path) {
+        List<BeanMetrics> metrics = new ArrayList<>(path.size());
+        for (Class<?> type : path) {
+            BeanMetrics bean = beans.get(type);
+            if (bean != null) {
+                metrics.add(bean);
+            }
+        }
+        if (total(metrics) > total(criticalPath)) {
+            criticalPath = Collections.unmodifiableList(metrics);
+        }
+    }
+
+    void recordTotal(long nanos) {
+        totalNanos = nanos;
+    }
+
+    private static long total(List<BeanMetrics> beans) {
+        long total = 0;
+        for (BeanMetrics bean : beans) {
+            total += bean.getTotalNanos();
+        }
+        return total;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * The instances of a {@link com.reactifyx.Striped} component.
+ *
+ * <p>
+ * A thread is mapped to a stripe by hashing its id, so {@link #get()} costs a
+ * multiplication and an array read. Many threads can map to the same stripe,
+ * so stripe instances are shared and must be thread-safe. Aggregation methods
+ * visit every stripe, in the way
+ * {@link java.util.concurrent.atomic.LongAdder#sum()} adds its cells; they are
+ * not atomic with respect to concurrent updates.
+ * </p>
+ *
+ * @param <T>
+ *            the striped bean type
+ */
+public class StripedBean<T> {
+
+    private final Class<T> type;
+    private final Object[] stripes;
+    private final int mask;
+
+    StripedBean(Class<T> type, int stripeCount) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.type = type;
+        this.stripes = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the instance of the calling thread's stripe.
+     *
+     * @return the stripe instance
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (T) stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    /**
+     * Returns the striped bean type.
+     *
+     * @return the bean class
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of stripes.
+     *
+     * @return the stripe count, a power of two
+     */
+    public int size() {
+        return stripes.length;
+    }
+
+    /**
+     * Returns every stripe instance.
+     *
+     * @return an unmodifiable list of the instances
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> stripes() {
+        List<T> list = new ArrayList<>(stripes.length);
+        for (Object stripe : stripes) {
+            list.add((T) stripe);
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Adds up a value read from every stripe.
+     *
+     * @param value
+     *            reads the value of one stripe, e.g. a counter
+     * @return the sum over all stripes
+     */
+    @SuppressWarnings("unchecked")
+    public long sum(ToLongFunction<? super T> value) {
+        long sum = 0;
+        for (Object stripe : stripes) {
+            sum += value.applyAsLong((T) stripe);
+        }
+        return sum;
+    }
+
+    /**
+     * Maps every stripe and combines the results.
+     *
+     * @param mapper
+     *            reads the value of one stripe
+     * @param combiner
+     *            combines two values
+     * @return the combined value
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R aggregate(Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner) {
+        R result = mapper.apply((T) stripes[0]);
+        for (int i = 1; i < stripes.length; i++) {
+            result = combiner.apply(result, mapper.apply((T) stripes[i]));
+        }
+        return result;
+    }
+
+    /** Creates the instance of every stripe. */
+    void fill(Callable<?> factory) throws Exception {
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = factory.call();
+        }
+    }
+}
@@ -45,4 +45,16 @@ public class IoCException extends RuntimeException {
     public IoCException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new IoCException with the specified message and cause.
+     *
+     * @param message
+     *            a detailed message describing the failure
+     * @param cause
+     *            the underlying exception that caused this failure
+     */
+    public IoCException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.processor;
+
+import com.reactifyx.utils.ComponentIndex;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that builds the component index at compile time.
+ *
+ * <p>
+ * The processor collects every type annotated with {@code @Component} or
+ * {@code @Configuration}, the {@code @Bean} methods declared by configuration
+ * classes and the type-level {@code @Qualifier} values, and writes them to
+ * {@value ComponentIndex#INDEX_LOCATION}. {@link com.reactifyx.core.ReactifyIoC}
+ * reads the index instead of scanning the classpath root that contains it.
+ * </p>
+ *
+ * <p>
+ * An incremental build compiles only some of the sources of a module, so the
+ * index written by an earlier compilation to the same output is merged: its
+ * entries are kept unless their type was compiled again or no longer exists.
+ * </p>
+ *
+ * <p>
+ * The processor is registered through
+ * {@code META-INF/services/javax.annotation.processing.Processor}, so it runs
+ * automatically for any module compiled with this library on the classpath.
+ * </p>
+ */
+@SupportedAnnotationTypes({
+    "com.reactifyx.Component",
+    "com.reactifyx.Configuration",
+    "com.reactifyx.Bean",
+    "com.reactifyx.Qualifier"
+})
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    /** Index entries collected across all processing rounds, kept sorted. */
+    private final Set<String> entries = new TreeSet<>();
+
+    /** Elements that contributed to the index, reported to the filer. */
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    /** Binary names of the types compiled in this run, whose earlier entries are replaced. */
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            recordCompiled(element);
+        }
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                collect(annotationName, element);
+            }
+        }
+        return false;
+    }
+
+    private void recordCompiled(Element element) {
+        if (element instanceof TypeElement) {
+            compiledTypes.add(binaryName(element));
+            for (Element enclosed : element.getEnclosedElements()) {
+                recordCompiled(enclosed);
+            }
+        }
+    }
+
+    private void collect(String annotationName, Element element) {
+        switch (annotationName) {
+            case "com.reactifyx.Component":
+                if (isClass(element)) {
+                    add(element, ComponentIndex.COMPONENT, binaryName(element));
+                }
+                break;
+            case "com.reactifyx.Configuration":
+                if (isClass(element)) {
+                    add(element, ComponentIndex.CONFIGURATION, binaryName(element));
+                }
+                break;
+            case "com.reactifyx.Bean":
+                if (element.getKind() == ElementKind.METHOD) {
+                    collectBean((ExecutableElement) element);
+                }
+                break;
+            case "com.reactifyx.Qualifier":
+                if (isClass(element)) {
+                    String value = qualifierValue(element);
+                    if (!value.isEmpty()) {
+                        add(element, ComponentIndex.QUALIFIER, binaryName(element), value);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void collectBean(ExecutableElement method) {
+        TypeMirror returnType = processingEnv.getTypeUtils().erasure(method.getReturnType());
+        if (returnType.getKind() != TypeKind.DECLARED) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.WARNING,
+                            "@Bean method does not return a class type and is left out of the component index",
+                            method);
+            return;
+        }
+        Element owner = method.getEnclosingElement();
+        Element returnElement = ((DeclaredType) returnType).asElement();
+        add(
+                method,
+                ComponentIndex.BEAN,
+                binaryName(owner),
+                method.getSimpleName().toString(),
+                binaryName(returnElement));
+    }
+
+    private void add(Element element, String kind, String... values) {
+        entries.add(kind + ComponentIndex.SEPARATOR + String.join(ComponentIndex.SEPARATOR, values));
+        originatingElements.add(element);
+    }
+
+    private void writeIndex() {
+        boolean previous = mergePreviousIndex();
+        if (entries.isEmpty() && !previous) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv
+                    .getFiler()
+                    .createResource(
+                            StandardLocation.CLASS_OUTPUT,
+                            "",
+                            ComponentIndex.INDEX_LOCATION,
+                            originatingElements.toArray(new Element[0]));
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + getClass().getName() + "\n");
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "Unable to write " + ComponentIndex.INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the entries of the index written to the same output by an earlier
+     * compilation, except those of types compiled again or no longer present.
+     *
+     * @return whether an earlier index exists
+     */
+    private boolean mergePreviousIndex() {
+        List<String> lines = new ArrayList<>();
+        try {
+            FileObject resource = processingEnv
+                    .getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.INDEX_LOCATION);
+            try (BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Nothing was indexed before, or the index is unreadable and written anew
+            return false;
+        }
+        for (String line : lines) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split(ComponentIndex.SEPARATOR);
+            if (columns.length > 1
+                    && !compiledTypes.contains(columns[1])
+                    && processingEnv.getElementUtils().getTypeElement(columns[1].replace('$', '.')) != null) {
+                entries.add(line);
+            }
+        }
+        return true;
+    }
+
+    private boolean isClass(Element element) {
+        return element.getKind() == ElementKind.CLASS;
+    }
+
+    private String binaryName(Element element) {
+        return processingEnv
+                .getElementUtils()
+                .getBinaryName((TypeElement) element)
+                .toString();
+    }
+
+    /** Reads the type-level {@code @Qualifier} value, declared or inherited, as reflection would. */
+    private String qualifierValue(Element element) {
+        return processingEnv.getElementUtils().getAllAnnotationMirrors(element).stream()
+                .filter(mirror -> ((TypeElement) mirror.getAnnotationType().asElement())
+                        .getQualifiedName()
+                        .contentEquals("com.reactifyx.Qualifier"))
+                .flatMap(mirror -> mirror.getElementValues().entrySet().stream())
+                .filter(entry -> entry.getKey().getSimpleName().contentEquals("value"))
+                .map(entry -> String.valueOf(entry.getValue().getValue()))
+                .findFirst()
+                .orElse("");
+    }
+}
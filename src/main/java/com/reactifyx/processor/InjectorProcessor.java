@@ -0,0 +1,623 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.processor;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Bean;
+import com.reactifyx.Component;
+import com.reactifyx.Configuration;
+import com.reactifyx.PostConstruct;
+import com.reactifyx.PreDestroy;
+import com.reactifyx.Qualifier;
+import com.reactifyx.core.BeanPool;
+import com.reactifyx.core.Injector;
+import com.reactifyx.core.Provider;
+import com.reactifyx.core.StripedBean;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor that generates an {@link Injector} for every
+ * {@code @Component} and {@code @Configuration} class.
+ *
+ * <p>
+ * The generated injector lives in the package of the class it builds, so it
+ * can reach public and package-private members without reflection. It also
+ * describes the injection points and calls the {@code @Bean} methods and
+ * lifecycle callbacks of the class. Wrapped injection points such as
+ * {@code Provider<T>} or {@code List<T>} are described by their bean type and
+ * wrapper, and assigned through an unchecked cast. A class is skipped, and left
+ * to the reflective path of {@link com.reactifyx.core.ReactifyIoC}, when one of
+ * its injection points, {@code @Bean} methods or callbacks is private, final,
+ * static, a raw wrapper, or declared in a superclass of another package, when a
+ * {@code @Bean} method returns a primitive, or when it has no non-private
+ * constructor to call.
+ * </p>
+ */
+@SupportedAnnotationTypes({"com.reactifyx.Component", "com.reactifyx.Configuration"})
+public class InjectorProcessor extends AbstractProcessor {
+
+    /** Types unwrapped to the bean type they inject, as the reflective path does. */
+    private static final Set<String> WRAPPERS = new HashSet<>(Arrays.asList(
+            Provider.class.getName(),
+            BeanPool.class.getName(),
+            StripedBean.class.getName(),
+            List.class.getName(),
+            Map.class.getName()));
+
+    /** Classes already handled, so a class annotated twice is generated once. */
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<Element> elements = new LinkedHashSet<>();
+        elements.addAll(roundEnv.getElementsAnnotatedWith(Configuration.class));
+        elements.addAll(roundEnv.getElementsAnnotatedWith(Component.class));
+        for (TypeElement type : ElementFilter.typesIn(elements)) {
+            String binaryName =
+                    processingEnv.getElementUtils().getBinaryName(type).toString();
+            if (generated.add(binaryName)) {
+                generate(type, binaryName);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type, String binaryName) {
+        String source;
+        try {
+            source = new Source(type, binaryName).build();
+        } catch (Unsupported e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.NOTE,
+                            "No injector generated for " + binaryName + ": " + e.getMessage()
+                                    + ", reflection will be used",
+                            type);
+            return;
+        }
+        String injectorName = binaryName + Injector.SUFFIX;
+        try (Writer writer =
+                processingEnv.getFiler().createSourceFile(injectorName, type).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR, "Unable to write " + injectorName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /** Thrown when a class cannot be built without reflection. */
+    private static final class Unsupported extends Exception {
+        Unsupported(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /** Source generator for the injector of a single class. */
+    private final class Source {
+        private final TypeElement type;
+        private final String binaryName;
+        private final PackageElement pkg;
+        private final boolean configuration;
+        private final StringBuilder out = new StringBuilder();
+
+        Source(TypeElement type, String binaryName) {
+            this.type = type;
+            this.binaryName = binaryName;
+            this.pkg = processingEnv.getElementUtils().getPackageOf(type);
+            this.configuration = type.getAnnotation(Configuration.class) != null;
+        }
+
+        String build() throws Unsupported {
+            checkType();
+            String typeName = type.getQualifiedName().toString();
+            String simpleName = binaryName.substring(binaryName.lastIndexOf('.') + 1) + Injector.SUFFIX;
+            String injector = Injector.class.getCanonicalName();
+
+            if (!pkg.isUnnamed()) {
+                out.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+            }
+            out.append("/** Generated by ")
+                    .append(InjectorProcessor.class.getName())
+                    .append(", do not edit. */\n");
+            out.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            out.append("public final class ")
+                    .append(simpleName)
+                    .append(" implements ")
+                    .append(injector)
+                    .append('<')
+                    .append(typeName)
+                    .append("> {\n\n");
+
+            ExecutableElement constructor = constructor();
+            out.append("    @Override\n    public ")
+                    .append(typeName)
+                    .append(" newInstance(")
+                    .append(injector)
+                    .append(".Resolver resolver) throws Exception {\n");
+            out.append("        return new ").append(typeName).append('(');
+            appendArguments(constructor.getParameters());
+            out.append(");\n    }\n\n");
+
+            out.append("    @Override\n    public void inject(")
+                    .append(typeName)
+                    .append(" instance, ")
+                    .append(injector)
+                    .append(".Resolver resolver) throws Exception {\n");
+            List<VariableElement> fields = annotatedFields();
+            List<ExecutableElement> setters =
+                    configuration ? Collections.emptyList() : annotatedMethods(Autowired.class);
+            for (VariableElement field : fields) {
+                out.append("        instance.")
+                        .append(field.getSimpleName())
+                        .append(" = ")
+                        .append(resolve(field))
+                        .append(";\n");
+            }
+            for (ExecutableElement method : setters) {
+                out.append("        instance.").append(method.getSimpleName()).append('(');
+                appendArguments(method.getParameters());
+                out.append(");\n");
+            }
+            out.append("    }\n");
+
+            String point = injector + ".Point";
+            out.append("\n    @Override\n    public ").append(point).append("[] constructorPoints() {\n");
+            if (constructor.getAnnotation(Autowired.class) != null) {
+                out.append("        return ");
+                appendPoints(point, constructor.getParameters());
+                out.append(";\n    }\n");
+            } else {
+                out.append("        return null;\n    }\n");
+            }
+
+            out.append("\n    @Override\n    public ").append(point).append("[] fieldPoints() {\n");
+            out.append("        return ");
+            appendPoints(point, fields);
+            out.append(";\n    }\n");
+
+            out.append("\n    @Override\n    public ").append(point).append("[][] setterPoints() {\n");
+            out.append("        return new ").append(point).append("[][] {");
+            for (int i = 0; i < setters.size(); i++) {
+                out.append(i == 0 ? "\n            " : ",\n            ");
+                appendPoints(point, setters.get(i).getParameters());
+            }
+            out.append("};\n    }\n");
+
+            List<ExecutableElement> beanMethods =
+                    configuration ? annotatedMethods(Bean.class) : Collections.emptyList();
+            appendBeanMethods(typeName, beanMethods);
+
+            List<ExecutableElement> preDestroys = callbacks(PreDestroy.class);
+            List<ExecutableElement> postConstructs = callbacks(PostConstruct.class);
+            Collections.reverse(postConstructs);
+            appendCallbacks("postConstruct", typeName, postConstructs);
+            appendCallbacks("preDestroy", typeName, preDestroys);
+            long timeout = -1;
+            for (TypeElement current : hierarchy()) {
+                for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                    PreDestroy preDestroy = method.getAnnotation(PreDestroy.class);
+                    if (preDestroy != null) {
+                        timeout = Math.max(timeout, preDestroy.timeoutMillis());
+                    }
+                }
+            }
+            out.append("\n    @Override\n    public long preDestroyTimeoutMillis() {\n        return ")
+                    .append(timeout)
+                    .append("L;\n    }\n");
+
+            out.append("}\n");
+            return out.toString();
+        }
+
+        private void checkType() throws Unsupported {
+            if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+                throw new Unsupported("the class is abstract");
+            }
+            if (type.getNestingKind() != NestingKind.TOP_LEVEL
+                    && !type.getModifiers().contains(Modifier.STATIC)) {
+                throw new Unsupported("the class is an inner class");
+            }
+            for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+                if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                    throw new Unsupported("the class is not accessible");
+                }
+            }
+        }
+
+        /** Selects the constructor the reflective path would use. */
+        private ExecutableElement constructor() throws Unsupported {
+            List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+            if (!configuration) {
+                for (ExecutableElement constructor : constructors) {
+                    if (constructor.getAnnotation(Autowired.class) != null) {
+                        checkAccessible(constructor);
+                        return constructor;
+                    }
+                }
+            }
+            for (ExecutableElement constructor : constructors) {
+                if (constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                    return constructor;
+                }
+            }
+            throw new Unsupported("there is no non-private no-arg constructor");
+        }
+
+        private List<VariableElement> annotatedFields() throws Unsupported {
+            List<VariableElement> fields = new ArrayList<>();
+            for (TypeElement current : hierarchy()) {
+                for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                    if (field.getAnnotation(Autowired.class) != null) {
+                        if (field.getModifiers().contains(Modifier.FINAL)) {
+                            throw new Unsupported("field " + field.getSimpleName() + " is final");
+                        }
+                        checkAccessible(field);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        }
+
+        private List<ExecutableElement> annotatedMethods(Class<? extends java.lang.annotation.Annotation> annotation)
+                throws Unsupported {
+            List<ExecutableElement> methods = new ArrayList<>();
+            Set<String> signatures = new HashSet<>();
+            for (TypeElement current : hierarchy()) {
+                for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                    if (method.getAnnotation(annotation) != null) {
+                        checkAccessible(method);
+                        String signature = method.getSimpleName()
+                                + processingEnv
+                                        .getTypeUtils()
+                                        .erasure(method.asType())
+                                        .toString();
+                        if (signatures.add(signature)) {
+                            methods.add(method);
+                        }
+                    }
+                }
+            }
+            return methods;
+        }
+
+        /**
+         * Returns the lifecycle callbacks of the class in the order the
+         * reflective path finds them: subclasses first, a method overridden by a
+         * subclass only once.
+         */
+        private List<ExecutableElement> callbacks(Class<? extends java.lang.annotation.Annotation> annotation)
+                throws Unsupported {
+            List<ExecutableElement> callbacks = new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            List<TypeElement> hierarchy = hierarchy();
+            Collections.reverse(hierarchy);
+            for (TypeElement current : hierarchy) {
+                for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                    if (method.getAnnotation(annotation) != null) {
+                        if (!method.getParameters().isEmpty()) {
+                            throw new Unsupported("lifecycle method " + method.getSimpleName() + " has parameters");
+                        }
+                        checkAccessible(method);
+                        checkThrown(method);
+                        if (names.add(method.getSimpleName().toString())) {
+                            callbacks.add(method);
+                        }
+                    }
+                }
+            }
+            return callbacks;
+        }
+
+        /** Returns the class hierarchy, superclasses first. */
+        private List<TypeElement> hierarchy() {
+            Deque<TypeElement> hierarchy = new ArrayDeque<>();
+            TypeElement current = type;
+            while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+                hierarchy.addFirst(current);
+                TypeMirror superclass = current.getSuperclass();
+                current = superclass.getKind() == TypeKind.DECLARED
+                        ? (TypeElement) ((DeclaredType) superclass).asElement()
+                        : null;
+            }
+            return new ArrayList<>(hierarchy);
+        }
+
+        private void checkAccessible(Element member) throws Unsupported {
+            Set<Modifier> modifiers = member.getModifiers();
+            String name = member.getSimpleName().toString();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                throw new Unsupported(name + " is private");
+            }
+            if (modifiers.contains(Modifier.STATIC)) {
+                throw new Unsupported(name + " is static");
+            }
+            Element owner = member.getEnclosingElement();
+            boolean samePackage =
+                    processingEnv.getElementUtils().getPackageOf(owner).equals(pkg);
+            if (!samePackage
+                    && !(modifiers.contains(Modifier.PUBLIC)
+                            && owner.getModifiers().contains(Modifier.PUBLIC))) {
+                throw new Unsupported(name + " is not accessible from package " + pkg.getQualifiedName());
+            }
+        }
+
+        /** Checks that the generated {@code throws Exception} covers what a method throws. */
+        private void checkThrown(ExecutableElement method) throws Unsupported {
+            TypeMirror exception = typeOf("java.lang.Exception");
+            TypeMirror error = typeOf("java.lang.Error");
+            for (TypeMirror thrown : method.getThrownTypes()) {
+                if (!processingEnv.getTypeUtils().isAssignable(thrown, exception)
+                        && !processingEnv.getTypeUtils().isAssignable(thrown, error)) {
+                    throw new Unsupported(method.getSimpleName() + " throws " + thrown);
+                }
+            }
+        }
+
+        private TypeMirror typeOf(String className) {
+            return processingEnv.getElementUtils().getTypeElement(className).asType();
+        }
+
+        /** Appends a method that calls the callbacks of one kind by index. */
+        private void appendCallbacks(String kind, String typeName, List<ExecutableElement> callbacks) {
+            out.append("\n    @Override\n    public int ")
+                    .append(kind)
+                    .append("Count() {\n        return ")
+                    .append(callbacks.size())
+                    .append(";\n    }\n");
+            out.append("\n    @Override\n    public Object ")
+                    .append(kind)
+                    .append("(int index, ")
+                    .append(typeName)
+                    .append(" instance) throws Exception {\n");
+            out.append("        switch (index) {\n");
+            for (int i = 0; i < callbacks.size(); i++) {
+                ExecutableElement callback = callbacks.get(i);
+                out.append("            case ").append(i).append(":\n");
+                if (callback.getReturnType().getKind() == TypeKind.VOID) {
+                    out.append("                instance.")
+                            .append(callback.getSimpleName())
+                            .append("();\n                return null;\n");
+                } else {
+                    out.append("                return instance.")
+                            .append(callback.getSimpleName())
+                            .append("();\n");
+                }
+            }
+            out.append("            default:\n                throw new IndexOutOfBoundsException(")
+                    .append(literal(kind + " "))
+                    .append(" + index);\n        }\n    }\n");
+        }
+
+        /** Appends the description of the {@code @Bean} methods and the method that calls them by index. */
+        private void appendBeanMethods(String typeName, List<ExecutableElement> beanMethods) throws Unsupported {
+            String beanMethod = Injector.class.getCanonicalName() + ".BeanMethod";
+            String point = Injector.class.getCanonicalName() + ".Point";
+            out.append("\n    @Override\n    public ").append(beanMethod).append("[] beanMethods() {\n");
+            out.append("        return new ").append(beanMethod).append("[] {");
+            for (int i = 0; i < beanMethods.size(); i++) {
+                ExecutableElement method = beanMethods.get(i);
+                TypeMirror returnType = method.getReturnType();
+                if (returnType.getKind() != TypeKind.DECLARED && returnType.getKind() != TypeKind.ARRAY) {
+                    throw new Unsupported("@Bean method " + method.getSimpleName() + " returns " + returnType);
+                }
+                checkThrown(method);
+                out.append(i == 0 ? "\n            " : ",\n            ")
+                        .append("new ")
+                        .append(beanMethod)
+                        .append('(')
+                        .append(classLiteral(returnType))
+                        .append(", ")
+                        .append(literal(method.getAnnotation(Bean.class).value()))
+                        .append(", ")
+                        .append(literal(method.getSimpleName().toString()))
+                        .append(", ");
+                appendPoints(point, method.getParameters());
+                out.append(')');
+            }
+            out.append("};\n    }\n");
+
+            out.append("\n    @Override\n    public Object invokeBean(int index, ")
+                    .append(typeName)
+                    .append(" configuration, Object[] arguments) throws Exception {\n");
+            out.append("        switch (index) {\n");
+            for (int i = 0; i < beanMethods.size(); i++) {
+                ExecutableElement method = beanMethods.get(i);
+                out.append("            case ").append(i).append(":\n");
+                out.append("                return configuration.").append(method.getSimpleName()).append('(');
+                List<? extends VariableElement> parameters = method.getParameters();
+                for (int j = 0; j < parameters.size(); j++) {
+                    out.append(j == 0 ? "\n                        " : ",\n                        ")
+                            .append('(')
+                            .append(sourceName(parameters.get(j).asType()))
+                            .append(") arguments[")
+                            .append(j)
+                            .append(']');
+                }
+                out.append(");\n");
+            }
+            out.append("            default:\n                throw new IndexOutOfBoundsException(")
+                    .append(literal("bean "))
+                    .append(" + index);\n        }\n    }\n");
+        }
+
+        /** Appends an array of the injection points of fields or parameters, as the reflective path names them. */
+        private void appendPoints(String point, List<? extends VariableElement> elements) throws Unsupported {
+            out.append("new ").append(point).append("[] {");
+            for (int i = 0; i < elements.size(); i++) {
+                VariableElement element = elements.get(i);
+                out.append(i == 0 ? "\n                " : ",\n                ")
+                        .append("new ")
+                        .append(point)
+                        .append('(')
+                        .append(pointArguments(element))
+                        .append(')');
+            }
+            out.append('}');
+        }
+
+        private void appendArguments(List<? extends VariableElement> parameters) throws Unsupported {
+            for (int i = 0; i < parameters.size(); i++) {
+                out.append(i == 0 ? "\n                " : ",\n                ").append(resolve(parameters.get(i)));
+            }
+        }
+
+        /** Returns an expression resolving a field or parameter, cast to its erased type. */
+        private String resolve(VariableElement element) throws Unsupported {
+            return "(" + sourceName(element.asType()) + ") resolver.resolve(" + pointArguments(element) + ")";
+        }
+
+        /**
+         * Returns the type, name, qualifier and wrapper of a field or parameter,
+         * as the reflective path describes them: {@code Provider<T>},
+         * {@code BeanPool<T>}, {@code StripedBean<T>}, {@code List<T>} and
+         * {@code Map<String, T>} are unwrapped to the bean type {@code T}, and
+         * parameters are named after that type.
+         */
+        private String pointArguments(VariableElement element) throws Unsupported {
+            TypeMirror type = element.asType();
+            String wrapper = null;
+            TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+            if (erased.getKind() == TypeKind.DECLARED) {
+                String name = sourceName(erased);
+                if (WRAPPERS.contains(name)) {
+                    List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+                    if (arguments.isEmpty()) {
+                        // Rejected by the reflective path, which names the injection point
+                        throw new Unsupported("injection of raw type " + type + " is not supported");
+                    }
+                    boolean map = name.equals(Map.class.getName());
+                    if (map && !processingEnv.getTypeUtils().isSameType(arguments.get(0), typeOf("java.lang.String"))) {
+                        throw new Unsupported("injection of " + type + " is not supported");
+                    }
+                    type = arguments.get(map ? 1 : 0);
+                    if (type.getKind() != TypeKind.DECLARED && type.getKind() != TypeKind.ARRAY) {
+                        throw new Unsupported("injection of " + element.asType() + " is not supported");
+                    }
+                    wrapper = name + ".class";
+                }
+            }
+            String name = element.getKind() == ElementKind.FIELD
+                    ? element.getSimpleName().toString()
+                    : binaryName(type);
+            Qualifier qualifier = element.getAnnotation(Qualifier.class);
+            return classLiteral(type) + ", " + literal(name) + ", "
+                    + (qualifier == null ? "null" : literal(qualifier.value())) + ", "
+                    + (wrapper == null ? "null" : wrapper);
+        }
+
+        private String classLiteral(TypeMirror type) throws Unsupported {
+            return sourceName(type) + ".class";
+        }
+
+        private String sourceName(TypeMirror type) throws Unsupported {
+            TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+            switch (erased.getKind()) {
+                case DECLARED:
+                    return ((TypeElement) ((DeclaredType) erased).asElement())
+                            .getQualifiedName()
+                            .toString();
+                case ARRAY:
+                    return sourceName(((ArrayType) erased).getComponentType()) + "[]";
+                default:
+                    throw new Unsupported("injection of " + erased + " is not supported");
+            }
+        }
+
+        /** Returns the name {@link Class#getName()} would report for a type. */
+        private String binaryName(TypeMirror type) throws Unsupported {
+            TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+            if (erased.getKind() == TypeKind.DECLARED) {
+                return processingEnv
+                        .getElementUtils()
+                        .getBinaryName((TypeElement) ((DeclaredType) erased).asElement())
+                        .toString();
+            }
+            if (erased.getKind() == TypeKind.ARRAY) {
+                return "[" + descriptor(((ArrayType) erased).getComponentType());
+            }
+            throw new Unsupported("injection of " + erased + " is not supported");
+        }
+
+        /** Returns the descriptor of an array component type, as it appears in {@link Class#getName()}. */
+        private String descriptor(TypeMirror type) throws Unsupported {
+            switch (type.getKind()) {
+                case BOOLEAN:
+                    return "Z";
+                case BYTE:
+                    return "B";
+                case CHAR:
+                    return "C";
+                case SHORT:
+                    return "S";
+                case INT:
+                    return "I";
+                case LONG:
+                    return "J";
+                case FLOAT:
+                    return "F";
+                case DOUBLE:
+                    return "D";
+                case ARRAY:
+                    return "[" + descriptor(((ArrayType) type).getComponentType());
+                default:
+                    return "L" + binaryName(type) + ";";
+            }
+        }
+
+        private String literal(String value) {
+            StringBuilder literal = new StringBuilder("\"");
+            for (char c : value.toCharArray()) {
+                switch (c) {
+                    case '"':
+                        literal.append("\\\"");
+                        break;
+                    case '\\':
+                        literal.append("\\\\");
+                        break;
+                    case '\n':
+                        literal.append("\\n");
+                        break;
+                    default:
+                        literal.append(c);
+                }
+            }
+            return literal.append('"').toString();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Minimal class-file parser that reads the class-level annotations of a class
+ * without loading it.
+ * <p>
+ * Only the constant pool and the {@code RuntimeVisibleAnnotations} attribute of
+ * the class are interpreted; fields and methods are skipped. When none of the
+ * requested annotation descriptors occurs in the constant pool, parsing stops
+ * right after the pool, which is the common case for unannotated classes.
+ */
+public final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int UTF8 = 1;
+    private static final int INTEGER = 3;
+    private static final int FLOAT = 4;
+    private static final int LONG = 5;
+    private static final int DOUBLE = 6;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELD_REF = 9;
+    private static final int METHOD_REF = 10;
+    private static final int INTERFACE_METHOD_REF = 11;
+    private static final int NAME_AND_TYPE = 12;
+    private static final int METHOD_HANDLE = 15;
+    private static final int METHOD_TYPE = 16;
+    private static final int DYNAMIC = 17;
+    private static final int INVOKE_DYNAMIC = 18;
+    private static final int MODULE = 19;
+    private static final int PACKAGE = 20;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private ClassFileReader() {}
+
+    /**
+     * Converts an annotation type to the descriptor used in class files, e.g.
+     * {@code Lcom/reactifyx/Component;}.
+     *
+     * @param annotationClass
+     *            the annotation type
+     * @return the field descriptor of the annotation type
+     */
+    public static String descriptor(Class<?> annotationClass) {
+        return "L" + annotationClass.getName().replace('.', '/') + ";";
+    }
+
+    /**
+     * Returns the binary name of the class in the given class-file bytes if the
+     * class is directly annotated with one of the given annotations.
+     *
+     * @param classFile
+     *            the content of a {@code .class} file
+     * @param annotationDescriptors
+     *            the annotation descriptors to look for, see
+     *            {@link #descriptor(Class)}
+     * @return the binary class name (e.g., {@code com.example.Outer$Inner}), or
+     *         {@code null} if the class carries none of the annotations
+     * @throws IOException
+     *             if the bytes are not a well-formed class file
+     */
+    public static String annotatedClassName(byte[] classFile, Set<String> annotationDescriptors) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        int[] classNameIndex = new int[constantPoolCount];
+        boolean candidate = false;
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case UTF8:
+                    utf8[i] = in.readUTF();
+                    candidate |= annotationDescriptors.contains(utf8[i]);
+                    break;
+                case CLASS:
+                    classNameIndex[i] = in.readUnsignedShort();
+                    break;
+                case STRING:
+                case METHOD_TYPE:
+                case MODULE:
+                case PACKAGE:
+                    in.skipBytes(2);
+                    break;
+                case METHOD_HANDLE:
+                    in.skipBytes(3);
+                    break;
+                case INTEGER:
+                case FLOAT:
+                case FIELD_REF:
+                case METHOD_REF:
+                case INTERFACE_METHOD_REF:
+                case NAME_AND_TYPE:
+                case DYNAMIC:
+                case INVOKE_DYNAMIC:
+                    in.skipBytes(4);
+                    break;
+                case LONG:
+                case DOUBLE:
+                    in.skipBytes(8);
+                    i++; // eight-byte constants take two slots
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        if (!candidate) {
+            return null;
+        }
+
+        in.readUnsignedShort(); // access flags
+        String className = utf8[classNameIndex[in.readUnsignedShort()]];
+        in.readUnsignedShort(); // super class
+        in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+        skipMembers(in); // fields
+        skipMembers(in); // methods
+
+        int attributesCount = in.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                in.skipBytes(length);
+                continue;
+            }
+            int annotationsCount = in.readUnsignedShort();
+            for (int j = 0; j < annotationsCount; j++) {
+                if (annotationDescriptors.contains(utf8[in.readUnsignedShort()])) {
+                    return className.replace('/', '.');
+                }
+                skipElementValuePairs(in);
+            }
+        }
+        return null;
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.skipBytes(6); // access flags, name, descriptor
+            int attributesCount = in.readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                in.skipBytes(2);
+                in.skipBytes(in.readInt());
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream in) throws IOException {
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            in.skipBytes(2); // element name
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                in.skipBytes(4); // type name, constant name
+                break;
+            case '@':
+                in.skipBytes(2); // annotation type
+                skipElementValuePairs(in);
+                break;
+            case '[':
+                int values = in.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(in);
+                }
+                break;
+            default:
+                in.skipBytes(2); // constant value or class info
+                break;
+        }
+    }
+}
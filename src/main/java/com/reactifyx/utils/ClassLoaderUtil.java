@@ -17,15 +17,28 @@ package com.reactifyx.utils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipFile;
 
 /**
  * Utility class for dynamically loading classes from a given package.
@@ -40,7 +53,9 @@ public class ClassLoaderUtil {
      * Scans the classpath and retrieves all classes under the specified package.
      * <p>
      * Handles both regular file system directories and classes packaged inside JAR
-     * files.
+     * files. Every class found is loaded and initialized; use
+     * {@link #findAnnotatedClasses(String, ClassLoader, Collection)} to load only
+     * annotated classes.
      *
      * @param packageName
      *            the base package to scan (e.g., "com.example.myapp")
@@ -92,6 +107,398 @@ public class ClassLoaderUtil {
         return classes;
     }
 
+    /**
+     * Scans the classpath for classes under the specified package that are
+     * directly annotated with one of the given annotations.
+     * <p>
+     * Equivalent to {@link #findAnnotatedClasses(List, ClassLoader, Collection)}
+     * with a single package.
+     *
+     * @param packageName
+     *            the base package to scan (e.g., "com.example.myapp")
+     * @param classLoader
+     *            the class loader used to locate and load the classes
+     * @param annotations
+     *            the annotations to look for
+     * @return the annotated classes found in the specified package, in class name
+     *         order
+     * @throws IOException
+     *             if an I/O error occurs while reading from the classpath
+     * @throws URISyntaxException
+     *             if the resource URI syntax is invalid
+     * @throws ClassNotFoundException
+     *             if an annotated class cannot be loaded
+     */
+    public static List<Class<?>> findAnnotatedClasses(
+            String packageName, ClassLoader classLoader, Collection<Class<? extends Annotation>> annotations)
+            throws IOException, URISyntaxException, ClassNotFoundException {
+        return findAnnotatedClasses(Collections.singletonList(packageName), classLoader, annotations)
+                .get(0);
+    }
+
+    /**
+     * Scans the classpath for classes under the specified packages that are
+     * directly annotated with one of the given annotations.
+     * <p>
+     * Every root returned by {@link ClassLoader#getResources(String)} is scanned,
+     * so a package split across several directories and jars is found in full.
+     * Jars nested inside other jars and multi-release jars are supported. The
+     * roots of all packages are scanned in parallel on the common fork/join pool,
+     * directories split per sub-directory and jars per batch of entries.
+     * <p>
+     * The annotations are read from the class-file bytes, so only the matching
+     * classes are loaded, and none of them is initialized. The result does not
+     * depend on the order or timing of the scan.
+     *
+     * @param packageNames
+     *            the base packages to scan
+     * @param classLoader
+     *            the class loader used to locate and load the classes
+     * @param annotations
+     *            the annotations to look for
+     * @return for each package, in the given order, the annotated classes found in
+     *         it, in class name order and without duplicates
+     * @throws IOException
+     *             if an I/O error occurs while reading from the classpath
+     * @throws URISyntaxException
+     *             if the resource URI syntax is invalid
+     * @throws ClassNotFoundException
+     *             if an annotated class cannot be loaded
+     */
+    public static List<List<Class<?>>> findAnnotatedClasses(
+            List<String> packageNames, ClassLoader classLoader, Collection<Class<? extends Annotation>> annotations)
+            throws IOException, URISyntaxException, ClassNotFoundException {
+        return findAnnotatedClasses(packageNames, classLoader, annotations, null);
+    }
+
+    /**
+     * Scans the classpath for classes under the specified packages that are
+     * directly annotated with one of the given annotations, reusing the results
+     * of a previous scan for every root whose content has not changed.
+     * <p>
+     * Behaves like {@link #findAnnotatedClasses(List, ClassLoader, Collection)},
+     * except that each root is first looked up in the cache and only scanned on
+     * a miss. The cache is updated but not saved.
+     *
+     * @param packageNames
+     *            the base packages to scan
+     * @param classLoader
+     *            the class loader used to locate and load the classes
+     * @param annotations
+     *            the annotations to look for
+     * @param cache
+     *            the scan results of previous runs, or {@code null} to scan
+     *            every root
+     * @return for each package, in the given order, the annotated classes found in
+     *         it, in class name order and without duplicates
+     * @throws IOException
+     *             if an I/O error occurs while reading from the classpath
+     * @throws URISyntaxException
+     *             if the resource URI syntax is invalid
+     * @throws ClassNotFoundException
+     *             if an annotated class cannot be loaded
+     */
+    public static List<List<Class<?>>> findAnnotatedClasses(
+            List<String> packageNames,
+            ClassLoader classLoader,
+            Collection<Class<? extends Annotation>> annotations,
+            ScanCache cache)
+            throws IOException, URISyntaxException, ClassNotFoundException {
+        return findAnnotatedClasses(packageNames, classLoader, annotations, cache, root -> false);
+    }
+
+    /**
+     * Scans the classpath for classes under the specified packages that are
+     * directly annotated with one of the given annotations, leaving out some
+     * classpath roots.
+     * <p>
+     * Behaves like {@link #findAnnotatedClasses(List, ClassLoader, Collection, ScanCache)},
+     * except that the package directories for which {@code skipped} returns
+     * true are not scanned, for example those of a root listed in a
+     * {@link ComponentIndex}.
+     *
+     * @param packageNames
+     *            the base packages to scan
+     * @param classLoader
+     *            the class loader used to locate and load the classes
+     * @param annotations
+     *            the annotations to look for
+     * @param cache
+     *            the scan results of previous runs, or {@code null} to scan
+     *            every root
+     * @param skipped
+     *            tells whether a package directory, as returned by
+     *            {@link ClassLoader#getResources(String)}, is left out
+     * @return for each package, in the given order, the annotated classes found in
+     *         it, in class name order and without duplicates
+     * @throws IOException
+     *             if an I/O error occurs while reading from the classpath
+     * @throws URISyntaxException
+     *             if the resource URI syntax is invalid
+     * @throws ClassNotFoundException
+     *             if an annotated class cannot be loaded
+     */
+    public static List<List<Class<?>>> findAnnotatedClasses(
+            List<String> packageNames,
+            ClassLoader classLoader,
+            Collection<Class<? extends Annotation>> annotations,
+            ScanCache cache,
+            Predicate<URL> skipped)
+            throws IOException, URISyntaxException, ClassNotFoundException {
+        Set<String> descriptors = new HashSet<>();
+        for (Class<? extends Annotation> annotation : annotations) {
+            descriptors.add(ClassFileReader.descriptor(annotation));
+        }
+
+        List<List<ForkJoinTask<Set<String>>>> scans = new ArrayList<>(packageNames.size());
+        for (String packageName : packageNames) {
+            String path = packageName.replace('.', '/');
+            List<ForkJoinTask<Set<String>>> rootScans = new ArrayList<>();
+            Enumeration<URL> resources = classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL root = resources.nextElement();
+                if (skipped.test(root)) {
+                    continue;
+                }
+                RootScan rootScan = rootScan(root, path, descriptors);
+                if (rootScan != null) {
+                    rootScans.add(ForkJoinPool.commonPool()
+                            .submit(cache == null ? rootScan : new CachedScan(rootScan, root.toString(), cache)));
+                }
+            }
+            scans.add(rootScans);
+        }
+
+        List<List<Class<?>>> result = new ArrayList<>(packageNames.size());
+        for (List<ForkJoinTask<Set<String>>> rootScans : scans) {
+            Set<String> classNames = new TreeSet<>();
+            for (ForkJoinTask<Set<String>> rootScan : rootScans) {
+                classNames.addAll(join(rootScan));
+            }
+            List<Class<?>> classes = new ArrayList<>(classNames.size());
+            for (String className : classNames) {
+                classes.add(Class.forName(className, false, classLoader));
+            }
+            result.add(classes);
+        }
+        return result;
+    }
+
+    /**
+     * Fingerprints the content of every classpath root of the specified
+     * packages, the way {@link ScanCache} does, without reading any class file.
+     *
+     * @param packageNames
+     *            the base packages
+     * @param classLoader
+     *            the class loader used to locate the roots
+     * @return a fingerprint that changes when a class is added to, removed from
+     *         or changed in one of the packages
+     * @throws IOException
+     *             if a root cannot be read
+     * @throws URISyntaxException
+     *             if the resource URI syntax is invalid
+     */
+    public static String fingerprint(List<String> packageNames, ClassLoader classLoader)
+            throws IOException, URISyntaxException {
+        List<String> values = new ArrayList<>();
+        for (String packageName : packageNames) {
+            String path = packageName.replace('.', '/');
+            values.add(path);
+            Enumeration<URL> resources = classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL root = resources.nextElement();
+                RootScan rootScan = rootScan(root, path, Collections.emptySet());
+                values.add(root + "=" + (rootScan == null ? "" : rootScan.fingerprint()));
+            }
+        }
+        return ScanCache.hash(values);
+    }
+
+    /**
+     * Creates the scan task of a single classpath root.
+     *
+     * @return the task, or {@code null} if the root cannot be scanned
+     */
+    private static RootScan rootScan(URL root, String path, Set<String> descriptors) throws URISyntaxException {
+        String spec = root.toString();
+        if (spec.startsWith("jar:")) {
+            // jar:file:/app.jar!/BOOT-INF/lib/lib.jar!/com/example
+            String[] parts = spec.substring("jar:".length()).split("!/");
+            List<String> nestedJars = Arrays.asList(parts).subList(1, parts.length - 1);
+            return new JarScan(new URI(parts[0]), nestedJars, path, descriptors);
+        }
+        try {
+            return new DirectoryScan(Path.of(root.toURI()), descriptors);
+        } catch (FileSystemNotFoundException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Set<String> join(ForkJoinTask<Set<String>> task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void collect(byte[] classFile, Set<String> descriptors, Set<String> classNames) {
+        try {
+            String className = ClassFileReader.annotatedClassName(classFile, descriptors);
+            if (className != null) {
+                classNames.add(className);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Scan of a classpath root that can fingerprint the content it scans. */
+    private abstract static class RootScan extends RecursiveTask<Set<String>> {
+        abstract String fingerprint() throws IOException;
+    }
+
+    /** Serves a root from the scan cache, scanning it only when its content changed. */
+    private static final class CachedScan extends RecursiveTask<Set<String>> {
+        private final RootScan scan;
+        private final String root;
+        private final ScanCache cache;
+
+        CachedScan(RootScan scan, String root, ScanCache cache) {
+            this.scan = scan;
+            this.root = root;
+            this.cache = cache;
+        }
+
+        @Override
+        protected Set<String> compute() {
+            try {
+                String fingerprint = scan.fingerprint();
+                Set<String> classNames = cache.get(root, fingerprint);
+                if (classNames == null) {
+                    classNames = scan.invoke();
+                    cache.put(root, fingerprint, classNames);
+                }
+                return classNames;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /** Scans a directory, forking one task per sub-directory. */
+    private static final class DirectoryScan extends RootScan {
+        private final Path directory;
+        private final Set<String> descriptors;
+
+        DirectoryScan(Path directory, Set<String> descriptors) {
+            this.directory = directory;
+            this.descriptors = descriptors;
+        }
+
+        @Override
+        String fingerprint() throws IOException {
+            return ScanCache.fingerprint(directory, descriptors);
+        }
+
+        @Override
+        protected Set<String> compute() {
+            Set<String> classNames = new HashSet<>();
+            List<DirectoryScan> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    if (Files.isDirectory(entry)) {
+                        DirectoryScan subdirectory = new DirectoryScan(entry, descriptors);
+                        subdirectory.fork();
+                        subdirectories.add(subdirectory);
+                    } else if (entry.toString().endsWith(".class")) {
+                        collect(Files.readAllBytes(entry), descriptors, classNames);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (DirectoryScan subdirectory : subdirectories) {
+                classNames.addAll(subdirectory.join());
+            }
+            return classNames;
+        }
+    }
+
+    /** Scans the entries of a jar under a package, in parallel batches. */
+    private static final class JarScan extends RootScan {
+        private static final int BATCH_SIZE = 256;
+
+        private final URI jar;
+        private final List<String> nestedJars;
+        private final String path;
+        private final Set<String> descriptors;
+
+        JarScan(URI jar, List<String> nestedJars, String path, Set<String> descriptors) {
+            this.jar = jar;
+            this.nestedJars = nestedJars;
+            this.path = path;
+            this.descriptors = descriptors;
+        }
+
+        @Override
+        String fingerprint() throws IOException {
+            return ScanCache.fingerprint(Path.of(jar), path + "/", nestedJars, descriptors);
+        }
+
+        @Override
+        protected Set<String> compute() {
+            try (JarFile jarFile = open()) {
+                String prefix = path + "/";
+                // versioned entries resolve to the best match for the running JVM
+                List<JarEntry> entries = jarFile.versionedStream()
+                        .filter(entry -> entry.getName().startsWith(prefix)
+                                && entry.getName().endsWith(".class"))
+                        .collect(Collectors.toList());
+                List<ForkJoinTask<Set<String>>> batches = new ArrayList<>();
+                for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+                    List<JarEntry> batch = entries.subList(from, Math.min(from + BATCH_SIZE, entries.size()));
+                    batches.add(ForkJoinTask.adapt(() -> scan(jarFile, batch)).fork());
+                }
+                Set<String> classNames = new HashSet<>();
+                for (ForkJoinTask<Set<String>> batch : batches) {
+                    classNames.addAll(batch.join());
+                }
+                return classNames;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Set<String> scan(JarFile jarFile, List<JarEntry> entries) {
+            Set<String> classNames = new HashSet<>();
+            for (JarEntry entry : entries) {
+                try (InputStream in = jarFile.getInputStream(entry)) {
+                    collect(in.readAllBytes(), descriptors, classNames);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return classNames;
+        }
+
+        /** Opens the jar, extracting each nested jar to a temporary file. */
+        private JarFile open() throws IOException {
+            JarFile jarFile = new JarFile(Path.of(jar).toFile(), true, ZipFile.OPEN_READ, Runtime.version());
+            for (String nestedJar : nestedJars) {
+                Path extracted = Files.createTempFile("reactifyx-nested", ".jar");
+                try (JarFile outer = jarFile;
+                        InputStream in = outer.getInputStream(outer.getEntry(nestedJar))) {
+                    Files.copy(in, extracted, StandardCopyOption.REPLACE_EXISTING);
+                }
+                jarFile = new JarFile(
+                        extracted.toFile(), true, ZipFile.OPEN_READ | ZipFile.OPEN_DELETE, Runtime.version());
+            }
+            return jarFile;
+        }
+    }
+
     /**
      * Recursively scans a directory to find all class files and load them.
      *
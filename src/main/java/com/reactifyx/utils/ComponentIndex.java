@@ -0,0 +1,230 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Read-only view of the component index generated at compile time by
+ * {@link com.reactifyx.processor.ComponentIndexProcessor}.
+ * <p>
+ * The index lists the {@code @Component} and {@code @Configuration} classes,
+ * the return types of {@code @Bean} methods and the type-level
+ * {@code @Qualifier} values of a module. Every index file found on the
+ * classpath is merged, so each jar can ship its own index.
+ * <p>
+ * An index is authoritative for the classpath root that contains it only:
+ * classes of that root that are not listed are not discovered, while roots
+ * without an index, such as a jar compiled without the annotation processor,
+ * are still scanned. Set the system property {@value #IGNORE_PROPERTY} to
+ * {@code true} to scan every root.
+ */
+public class ComponentIndex {
+
+    /** Classpath location of the index file. */
+    public static final String INDEX_LOCATION = "META-INF/reactifyx/components.idx";
+
+    /** System property that disables the use of the index. */
+    public static final String IGNORE_PROPERTY = "reactifyx.index.ignore";
+
+    /** Entry kind for {@code @Component} classes. */
+    public static final String COMPONENT = "component";
+
+    /** Entry kind for {@code @Configuration} classes. */
+    public static final String CONFIGURATION = "configuration";
+
+    /** Entry kind for {@code @Bean} methods. */
+    public static final String BEAN = "bean";
+
+    /** Entry kind for type-level {@code @Qualifier} values. */
+    public static final String QUALIFIER = "qualifier";
+
+    /** Separator between the columns of an index entry. */
+    public static final String SEPARATOR = "\t";
+
+    private final Set<String> componentClassNames = new TreeSet<>();
+    private final Set<String> configurationClassNames = new TreeSet<>();
+    private final Map<String, Set<String>> beanTypeNames = new HashMap<>();
+    private final Map<String, String> qualifiers = new HashMap<>();
+
+    /** The classpath roots that contain an index, such as {@code file:/app/classes/}. */
+    private final List<String> indexedRoots = new ArrayList<>();
+
+    private ComponentIndex() {}
+
+    /**
+     * Loads and merges every component index visible to the given class loader.
+     *
+     * @param classLoader
+     *            the class loader used to locate the index files
+     * @return the merged index, or {@code null} if no index is present or the
+     *         index has been disabled through {@value #IGNORE_PROPERTY}
+     * @throws IOException
+     *             if an index file cannot be read
+     */
+    public static ComponentIndex load(ClassLoader classLoader) throws IOException {
+        if (Boolean.getBoolean(IGNORE_PROPERTY)) {
+            return null;
+        }
+        Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+        if (!resources.hasMoreElements()) {
+            return null;
+        }
+        ComponentIndex index = new ComponentIndex();
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            String spec = resource.toString();
+            index.indexedRoots.add(spec.substring(0, spec.length() - INDEX_LOCATION.length()));
+            try (InputStream in = resource.openStream()) {
+                index.read(in);
+            }
+        }
+        return index;
+    }
+
+    private void read(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split(SEPARATOR);
+            switch (columns[0]) {
+                case COMPONENT:
+                    componentClassNames.add(columns[1]);
+                    break;
+                case CONFIGURATION:
+                    configurationClassNames.add(columns[1]);
+                    break;
+                case BEAN:
+                    beanTypeNames
+                            .computeIfAbsent(columns[1], k -> new TreeSet<>())
+                            .add(columns[3]);
+                    break;
+                case QUALIFIER:
+                    qualifiers.put(columns[1], columns[2]);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a resource, such as a package directory found through
+     * {@link ClassLoader#getResources(String)}, lies in a classpath root that
+     * contains an index.
+     *
+     * @param resource
+     *            the resource
+     * @return true if the classes of the resource are listed in this index
+     */
+    public boolean indexes(URL resource) {
+        String spec = resource.toString();
+        for (String root : indexedRoots) {
+            if (spec.startsWith(root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a class is listed as a {@code @Component} or
+     * {@code @Configuration}.
+     *
+     * @param clazz
+     *            the class
+     * @return true if the index lists the class
+     */
+    public boolean isIndexed(Class<?> clazz) {
+        String name = clazz.getName();
+        return componentClassNames.contains(name) || configurationClassNames.contains(name);
+    }
+
+    /**
+     * Loads the indexed {@code @Component} and {@code @Configuration} classes
+     * that belong to the given package or one of its sub-packages, without
+     * initializing them.
+     *
+     * @param packageName
+     *            the base package (e.g., "com.example.myapp")
+     * @param classLoader
+     *            the class loader used to load the classes
+     * @return the indexed classes, configurations first, each group in class name
+     *         order
+     * @throws ClassNotFoundException
+     *             if an indexed class is no longer on the classpath
+     */
+    public List<Class<?>> getClasses(String packageName, ClassLoader classLoader) throws ClassNotFoundException {
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : configurationClassNames) {
+            if (inPackage(className, packageName)) {
+                classes.add(Class.forName(className, false, classLoader));
+            }
+        }
+        for (String className : componentClassNames) {
+            if (inPackage(className, packageName) && !configurationClassNames.contains(className)) {
+                classes.add(Class.forName(className, false, classLoader));
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Returns the return types of the {@code @Bean} methods declared by the given
+     * configuration class.
+     *
+     * @param configurationClass
+     *            the {@code @Configuration} class
+     * @param classLoader
+     *            the class loader used to load the bean types
+     * @return the bean types, in class name order
+     * @throws ClassNotFoundException
+     *             if an indexed bean type is no longer on the classpath
+     */
+    public List<Class<?>> getBeanTypes(Class<?> configurationClass, ClassLoader classLoader)
+            throws ClassNotFoundException {
+        Set<String> names = beanTypeNames.getOrDefault(configurationClass.getName(), Collections.emptySet());
+        List<Class<?>> types = new ArrayList<>(names.size());
+        for (String name : names) {
+            types.add(Class.forName(name, false, classLoader));
+        }
+        return types;
+    }
+
+    /**
+     * Returns the type-level {@code @Qualifier} value recorded for a class.
+     *
+     * @param clazz
+     *            the annotated class
+     * @return the qualifier value, or {@code null} if none was recorded
+     */
+    public String getQualifier(Class<?> clazz) {
+        return qualifiers.get(clazz.getName());
+    }
+
+    private static boolean inPackage(String className, String packageName) {
+        return packageName.isEmpty() || className.startsWith(packageName + ".");
+    }
+}
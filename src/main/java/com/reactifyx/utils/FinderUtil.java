@@ -20,7 +20,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -67,7 +67,7 @@ public class FinderUtil {
      * @return a set of fields annotated with the given annotation
      */
     public static Set<Field> findFields(Class<?> clazz, Class<? extends Annotation> annotationClass) {
-        Set<Field> set = new HashSet<>();
+        Set<Field> set = new LinkedHashSet<>();
         while (clazz != null) {
             for (Field field : clazz.getDeclaredFields()) {
                 if (field.isAnnotationPresent(annotationClass)) {
@@ -94,7 +94,7 @@ public class FinderUtil {
      * @return a set of annotated methods found in the class hierarchy
      */
     public static Set<Method> findMethods(Class<?> clazz, Class<? extends Annotation> annotationClass) {
-        Set<Method> set = new HashSet<>();
+        Set<Method> set = new LinkedHashSet<>();
         while (clazz != null) {
             for (Method method : clazz.getDeclaredMethods()) {
                 if (method.isAnnotationPresent(annotationClass)) {
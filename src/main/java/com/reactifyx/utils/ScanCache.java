@@ -0,0 +1,326 @@
+/*
+ * Copyright 2024-2025 the original author Hoàng Anh Tiến.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.reactifyx.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Scan results of classpath roots persisted to a local file, so that a restart
+ * on an unchanged classpath does not read any class file.
+ * <p>
+ * Every root scanned by
+ * {@link ClassLoaderUtil#findAnnotatedClasses(List, ClassLoader, Collection, ScanCache)}
+ * is stored with the annotated class names found in it and a fingerprint of
+ * its content. A jar is fingerprinted by its size, modification time and the
+ * CRC-32 of its entries under the scanned package, which the jar records in
+ * its central directory; a directory by the path, size and modification time
+ * of each class file below it. Only the roots whose fingerprint changed are
+ * scanned again.
+ * <p>
+ * The file keeps the roots of the last scan only, so each application should
+ * use its own file. A missing or unreadable file is treated as an empty cache.
+ * Lookups and updates may run concurrently.
+ */
+public final class ScanCache {
+
+    private static final String HEADER = "# ReactifyX scan cache v1";
+
+    private static final String SEPARATOR = "\t";
+
+    private final Path file;
+
+    /** Entries read from the file, keyed by root. */
+    private final Map<String, Entry> loaded;
+
+    /** Entries of the roots looked up since the cache was loaded, keyed by root. */
+    private final Map<String, Entry> used = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private ScanCache(Path file, Map<String, Entry> loaded) {
+        this.file = file;
+        this.loaded = loaded;
+    }
+
+    /**
+     * Loads the cache stored in a file.
+     *
+     * @param file
+     *            the cache file, which need not exist
+     * @return the cache, empty if the file is missing, unreadable or written by
+     *         another version
+     */
+    public static ScanCache load(Path file) {
+        Map<String, Entry> entries = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (HEADER.equals(reader.readLine())) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] columns = line.split(SEPARATOR, -1);
+                    if (columns.length == 3) {
+                        Set<String> classNames = columns[2].isEmpty()
+                                ? Collections.emptySet()
+                                : new HashSet<>(Arrays.asList(columns[2].split(",")));
+                        entries.put(columns[0], new Entry(columns[1], classNames));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Scan every root again and overwrite the file
+            entries.clear();
+        }
+        return new ScanCache(file, entries);
+    }
+
+    /**
+     * Returns the class names cached for a root, if its content is unchanged.
+     *
+     * @param root
+     *            the URL of the scanned root
+     * @param fingerprint
+     *            the current fingerprint of the root
+     * @return the cached class names, or {@code null} if the root must be scanned
+     */
+    Set<String> get(String root, String fingerprint) {
+        Entry entry = loaded.get(root);
+        if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        used.put(root, entry);
+        return entry.classNames;
+    }
+
+    /**
+     * Stores the result of scanning a root.
+     *
+     * @param root
+     *            the URL of the scanned root
+     * @param fingerprint
+     *            the fingerprint of the root at the time of the scan
+     * @param classNames
+     *            the annotated classes found in the root
+     */
+    void put(String root, String fingerprint, Set<String> classNames) {
+        used.put(root, new Entry(fingerprint, classNames));
+    }
+
+    /**
+     * Returns how many roots were served from the cache.
+     *
+     * @return the number of cache hits since the cache was loaded
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many roots had to be scanned.
+     *
+     * @return the number of cache misses since the cache was loaded
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Writes the roots looked up since the cache was loaded back to the file,
+     * unless all of them were served unchanged from it. The file is replaced
+     * atomically where the file system supports it, so concurrent readers see
+     * either the old or the new cache.
+     *
+     * @throws IOException
+     *             if the file cannot be written
+     */
+    public void save() throws IOException {
+        if (used.equals(loaded)) {
+            return;
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.write('\n');
+                for (Map.Entry<String, Entry> entry : new TreeMap<>(used).entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write(SEPARATOR);
+                    writer.write(entry.getValue().fingerprint);
+                    writer.write(SEPARATOR);
+                    writer.write(String.join(",", new TreeSet<>(entry.getValue().classNames)));
+                    writer.write('\n');
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Fingerprints the class files below a directory.
+     *
+     * @param directory
+     *            the package directory of the root
+     * @param descriptors
+     *            the annotations scanned for, which invalidate the entry when
+     *            they change
+     * @return the fingerprint
+     * @throws IOException
+     *             if the directory cannot be listed
+     */
+    static String fingerprint(Path directory, Set<String> descriptors) throws IOException {
+        MessageDigest digest = digest(descriptors);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(path -> path.toString().endsWith(".class"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path path : files) {
+            update(digest, directory.relativize(path).toString());
+            update(
+                    digest,
+                    Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis());
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * Fingerprints the entries of a jar under a package, or the jars nested in it.
+     *
+     * @param jar
+     *            the jar file on disk
+     * @param prefix
+     *            the package path of the root, ending with a slash
+     * @param nestedJars
+     *            the entries of nested jars that contain the root, outermost
+     *            first
+     * @param descriptors
+     *            the annotations scanned for, which invalidate the entry when
+     *            they change
+     * @return the fingerprint
+     * @throws IOException
+     *             if the jar cannot be read
+     */
+    static String fingerprint(Path jar, String prefix, List<String> nestedJars, Set<String> descriptors)
+            throws IOException {
+        MessageDigest digest = digest(descriptors);
+        update(digest, Files.size(jar) + ":" + Files.getLastModifiedTime(jar).toMillis());
+        // A nested jar is stored as one entry, whose CRC covers the classes inside it
+        String selected = nestedJars.isEmpty() ? prefix : nestedJars.get(0);
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            List<? extends ZipEntry> entries = zipFile.stream()
+                    .filter(entry -> entry.getName().startsWith(selected)
+                            || (entry.getName().startsWith("META-INF/versions/")
+                                    && entry.getName().contains("/" + selected)))
+                    .sorted(Comparator.comparing(ZipEntry::getName))
+                    .collect(Collectors.toList());
+            for (ZipEntry entry : entries) {
+                update(digest, entry.getName() + ":" + entry.getSize() + ":" + entry.getCrc());
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * Combines fingerprints and other values into one fingerprint.
+     *
+     * @param values
+     *            the values, in a stable order
+     * @return the fingerprint
+     */
+    static String hash(List<String> values) {
+        MessageDigest digest = digest(Collections.emptySet());
+        for (String value : values) {
+            update(digest, value);
+        }
+        return hex(digest.digest());
+    }
+
+    private static MessageDigest digest(Set<String> descriptors) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String descriptor : new TreeSet<>(descriptors)) {
+                update(digest, descriptor);
+            }
+            return digest;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /** Fingerprint and scan result of one root. */
+    private static final class Entry {
+        private final String fingerprint;
+        private final Set<String> classNames;
+
+        Entry(String fingerprint, Set<String> classNames) {
+            this.fingerprint = fingerprint;
+            this.classNames = classNames;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry entry = (Entry) o;
+            return fingerprint.equals(entry.fingerprint) && classNames.equals(entry.classNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return fingerprint.hashCode();
+        }
+    }
+}
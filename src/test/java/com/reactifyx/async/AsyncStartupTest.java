@@ -0,0 +1,84 @@
+package com.reactifyx.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.async")
+public class AsyncStartupTest {
+    ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        SearchIndex.loaded = new CountDownLatch(1);
+        SearchIndex.fail = false;
+    }
+
+    @AfterEach
+    void tearDown() {
+        SearchIndex.loaded.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void testBeansAreServedBeforeTheWholeContextIsReady() {
+        ReactifyIoC reactifyIoC =
+                ReactifyIoC.initBeansAsync(new IoCOptions().executor(executor), AsyncStartupTest.class);
+
+        assertEquals("UP", reactifyIoC.getBean(Health.class).status());
+        assertNotNull(reactifyIoC.getBean(HealthCheck.class));
+        assertFalse(reactifyIoC.ready().isDone());
+
+        SearchIndex.loaded.countDown();
+        SearchEndpoint endpoint = reactifyIoC.getBean(SearchEndpoint.class);
+        assertSame(reactifyIoC.getBean(SearchIndex.class), endpoint.index);
+        assertSame(reactifyIoC, reactifyIoC.ready().join());
+    }
+
+    @Test
+    void testQualifiedLookupWaitsForTheSelectedImplementation() {
+        ReactifyIoC reactifyIoC =
+                ReactifyIoC.initBeansAsync(new IoCOptions().executor(executor), AsyncStartupTest.class);
+
+        assertSame(
+                reactifyIoC.getBean(MemoryIndex.class),
+                reactifyIoC.handle(Index.class, "memoryIndex").get());
+        assertFalse(reactifyIoC.ready().isDone());
+
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(SearchIndex.loaded::countDown);
+        Index index = reactifyIoC.handle(Index.class, "searchIndex").get();
+        assertSame(reactifyIoC.getBean(SearchIndex.class), index);
+        assertSame(reactifyIoC, reactifyIoC.ready().join());
+    }
+
+    @Test
+    void testLookupsFailWhenTheStartupFails() {
+        SearchIndex.fail = true;
+        ReactifyIoC reactifyIoC =
+                ReactifyIoC.initBeansAsync(new IoCOptions().executor(executor), AsyncStartupTest.class);
+        SearchIndex.loaded.countDown();
+
+        assertThrows(IoCException.class, () -> reactifyIoC.getBean(SearchEndpoint.class));
+        CompletionException e = assertThrows(
+                CompletionException.class, () -> reactifyIoC.ready().join());
+        assertTrue(e.getCause() instanceof IoCException);
+    }
+}
@@ -0,0 +1,5 @@
+package com.reactifyx.async;
+
+public interface Health {
+    String status();
+}
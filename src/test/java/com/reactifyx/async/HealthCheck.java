@@ -0,0 +1,11 @@
+package com.reactifyx.async;
+
+import com.reactifyx.Component;
+
+@Component
+public class HealthCheck implements Health {
+    @Override
+    public String status() {
+        return "UP";
+    }
+}
@@ -0,0 +1,3 @@
+package com.reactifyx.async;
+
+public interface Index {}
@@ -0,0 +1,6 @@
+package com.reactifyx.async;
+
+import com.reactifyx.Component;
+
+@Component
+public class MemoryIndex implements Index {}
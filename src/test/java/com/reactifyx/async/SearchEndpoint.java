@@ -0,0 +1,14 @@
+package com.reactifyx.async;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class SearchEndpoint {
+    final SearchIndex index;
+
+    @Autowired
+    public SearchEndpoint(SearchIndex index) {
+        this.index = index;
+    }
+}
@@ -0,0 +1,19 @@
+package com.reactifyx.async;
+
+import com.reactifyx.Component;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SearchIndex implements Index {
+    static volatile CountDownLatch loaded;
+    static volatile boolean fail;
+
+    public SearchIndex() throws InterruptedException {
+        // Stands in for an index that takes long to load
+        loaded.await(5, TimeUnit.SECONDS);
+        if (fail) {
+            throw new IllegalStateException("Index is corrupt");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.reactifyx.beanmissing;
+
+import com.reactifyx.Bean;
+import com.reactifyx.Configuration;
+
+@Configuration
+public class MailConfiguration {
+    @Bean
+    public Mailer mailer(Transport transport) {
+        return new Mailer(transport);
+    }
+}
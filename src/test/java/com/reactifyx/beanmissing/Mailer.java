@@ -0,0 +1,13 @@
+package com.reactifyx.beanmissing;
+
+public class Mailer {
+    private final Transport transport;
+
+    public Mailer(Transport transport) {
+        this.transport = transport;
+    }
+
+    public void send(String message) {
+        transport.send(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.reactifyx.beanmissing;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.beanmissing")
+public class MissingBeanTest {
+
+    @Test
+    void testUnresolvableBeanParameterFailsFast() {
+        IoCException e = assertThrows(IoCException.class, () -> ReactifyIoC.initBeans(MissingBeanTest.class));
+        assertTrue(e.getMessage().contains(Transport.class.getName()), e.getMessage());
+        assertTrue(e.getMessage().contains(Mailer.class.getName()), e.getMessage());
+    }
+}
@@ -0,0 +1,5 @@
+package com.reactifyx.beanmissing;
+
+public interface Transport {
+    void send(String message);
+}
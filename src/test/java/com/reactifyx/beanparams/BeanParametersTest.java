@@ -0,0 +1,31 @@
+package com.reactifyx.beanparams;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.beanparams")
+public class BeanParametersTest {
+    static ReactifyIoC reactifyIoC;
+
+    @BeforeAll
+    static void init() {
+        reactifyIoC = ReactifyIoC.initBeans(BeanParametersTest.class);
+    }
+
+    @Test
+    void testBeanMethodParametersAreInjected() {
+        assertEquals("https://example.org@42", reactifyIoC.getBean(Client.class).request());
+        assertSame(reactifyIoC.getBean(Settings.class), reactifyIoC.getBean(Settings.class));
+    }
+
+    @Test
+    void testConfigurationsAreInstantiatedOnce() {
+        assertEquals(1, ClientConfiguration.created.get());
+        assertEquals(1, EndpointConfiguration.created.get());
+    }
+}
@@ -0,0 +1,15 @@
+package com.reactifyx.beanparams;
+
+public class Client {
+    private final Endpoint endpoint;
+    private final Clock clock;
+
+    public Client(Endpoint endpoint, Clock clock) {
+        this.endpoint = endpoint;
+        this.clock = clock;
+    }
+
+    public String request() {
+        return endpoint.getUrl() + "@" + clock.now();
+    }
+}
@@ -0,0 +1,19 @@
+package com.reactifyx.beanparams;
+
+import com.reactifyx.Bean;
+import com.reactifyx.Configuration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ClientConfiguration {
+    static final AtomicInteger created = new AtomicInteger();
+
+    public ClientConfiguration() {
+        created.incrementAndGet();
+    }
+
+    @Bean
+    public Client client(Endpoint endpoint, Clock clock) {
+        return new Client(endpoint, clock);
+    }
+}
@@ -0,0 +1,10 @@
+package com.reactifyx.beanparams;
+
+import com.reactifyx.Component;
+
+@Component
+public class Clock {
+    public long now() {
+        return 42;
+    }
+}
@@ -0,0 +1,13 @@
+package com.reactifyx.beanparams;
+
+public class Endpoint {
+    private final String url;
+
+    public Endpoint(String url) {
+        this.url = url;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+}
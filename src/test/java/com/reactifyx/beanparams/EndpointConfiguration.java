@@ -0,0 +1,24 @@
+package com.reactifyx.beanparams;
+
+import com.reactifyx.Bean;
+import com.reactifyx.Configuration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class EndpointConfiguration {
+    static final AtomicInteger created = new AtomicInteger();
+
+    public EndpointConfiguration() {
+        created.incrementAndGet();
+    }
+
+    @Bean
+    public Endpoint endpoint(Settings settings) {
+        return new Endpoint("https://" + settings.getHost());
+    }
+
+    @Bean
+    public Settings settings() {
+        return new Settings("example.org");
+    }
+}
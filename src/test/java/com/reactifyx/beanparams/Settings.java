@@ -0,0 +1,13 @@
+package com.reactifyx.beanparams;
+
+public class Settings {
+    private final String host;
+
+    public Settings(String host) {
+        this.host = host;
+    }
+
+    public String getHost() {
+        return host;
+    }
+}
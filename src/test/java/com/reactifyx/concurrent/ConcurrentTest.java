@@ -0,0 +1,66 @@
+package com.reactifyx.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.concurrent")
+public class ConcurrentTest {
+    static ReactifyIoC reactifyIoC;
+    static ExecutorService threads;
+
+    @BeforeAll
+    static void init() {
+        reactifyIoC = ReactifyIoC.initBeans(ConcurrentTest.class);
+        threads = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterAll
+    static void shutdown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void testUnrelatedBeansAreCreatedInParallel() throws Exception {
+        // Each constructor waits for the other, and each bean injects the other
+        Future<Left> left = threads.submit(() -> reactifyIoC.getBean(Left.class));
+        Future<Right> right = threads.submit(() -> reactifyIoC.getBean(Right.class));
+
+        assertSame(right.get(10, TimeUnit.SECONDS), left.get(10, TimeUnit.SECONDS).getRight());
+        assertSame(left.get(), right.get().getLeft());
+        assertSame(left.get(), reactifyIoC.getBean(Left.class));
+    }
+
+    @Test
+    void testConcurrentLookupsPublishOneInstance() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Shared>> lookups = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Callable<Shared> lookup = () -> {
+                start.await();
+                return reactifyIoC.getBean(Shared.class);
+            };
+            lookups.add(threads.submit(lookup));
+        }
+        start.countDown();
+
+        Shared shared = reactifyIoC.getBean(Shared.class);
+        for (Future<Shared> lookup : lookups) {
+            assertSame(shared, lookup.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, Shared.created.get());
+    }
+}
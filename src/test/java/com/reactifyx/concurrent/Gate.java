@@ -0,0 +1,19 @@
+package com.reactifyx.concurrent;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+public final class Gate {
+    static final CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private Gate() {}
+
+    /** Waits until another constructor reaches the gate, which fails if creations are serialized. */
+    static void pass() {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Beans were not created concurrently", e);
+        }
+    }
+}
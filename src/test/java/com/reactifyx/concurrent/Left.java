@@ -0,0 +1,20 @@
+package com.reactifyx.concurrent;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.Lazy;
+
+@Lazy
+@Component
+public class Left {
+    @Autowired
+    Right right;
+
+    public Left() {
+        Gate.pass();
+    }
+
+    public Right getRight() {
+        return right;
+    }
+}
@@ -0,0 +1,20 @@
+package com.reactifyx.concurrent;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.Lazy;
+
+@Lazy
+@Component
+public class Right {
+    @Autowired
+    Left left;
+
+    public Right() {
+        Gate.pass();
+    }
+
+    public Left getLeft() {
+        return left;
+    }
+}
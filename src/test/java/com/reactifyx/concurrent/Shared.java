@@ -0,0 +1,16 @@
+package com.reactifyx.concurrent;
+
+import com.reactifyx.Component;
+import com.reactifyx.Lazy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Lazy
+@Component
+public class Shared {
+    static final AtomicInteger created = new AtomicInteger();
+
+    public Shared() throws InterruptedException {
+        created.incrementAndGet();
+        Thread.sleep(20);
+    }
+}
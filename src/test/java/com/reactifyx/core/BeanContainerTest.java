@@ -0,0 +1,35 @@
+package com.reactifyx.core;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.exception.IoCException;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class BeanContainerTest {
+
+    @Test
+    void testFrozenLookups() {
+        BeanContainer container = new BeanContainer();
+        StringBuilder builder = new StringBuilder();
+        Integer first = 1;
+        Integer second = 2;
+        container.putBean(StringBuilder.class, builder);
+        container.putBean(Integer.class, first, "first");
+        container.putBean(Integer.class, second, "second");
+        assertNull(container.findBean(StringBuilder.class));
+
+        container.freeze(Collections.singletonMap(CharSequence.class, StringBuilder.class));
+
+        assertSame(builder, container.findBean(StringBuilder.class));
+        assertSame(builder, container.findBean(CharSequence.class));
+        assertNull(container.findBean(Integer.class));
+        assertSame(second, container.getBean(Integer.class, "second"));
+        assertTrue(container.containsBean(Integer.class));
+        assertThrows(IoCException.class, () -> container.getBean(Integer.class));
+        assertThrows(IoCException.class, () -> container.putBean(String.class, "late"));
+    }
+}
@@ -0,0 +1,6 @@
+package com.reactifyx.implementations;
+
+import com.reactifyx.Component;
+
+@Component
+public class FileStore implements Store, Writer {}
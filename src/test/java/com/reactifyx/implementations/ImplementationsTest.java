@@ -0,0 +1,28 @@
+package com.reactifyx.implementations;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.implementations")
+public class ImplementationsTest {
+    static ReactifyIoC reactifyIoC;
+
+    @BeforeAll
+    static void init() {
+        reactifyIoC = ReactifyIoC.initBeans(ImplementationsTest.class);
+    }
+
+    @Test
+    void testEveryInterfaceResolvesToTheSameImplementation() {
+        FileStore fileStore = reactifyIoC.getBean(FileStore.class);
+        StoreClient client = reactifyIoC.getBean(StoreClient.class);
+        assertSame(fileStore, client.reader);
+        assertSame(fileStore, client.writer);
+        assertSame(fileStore, client.store);
+        assertSame(fileStore, reactifyIoC.getBean(Reader.class));
+    }
+}
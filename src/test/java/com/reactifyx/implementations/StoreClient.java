@@ -0,0 +1,16 @@
+package com.reactifyx.implementations;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class StoreClient {
+    @Autowired
+    Reader reader;
+
+    @Autowired
+    Writer writer;
+
+    @Autowired
+    Store store;
+}
@@ -0,0 +1,3 @@
+package com.reactifyx.implementations;
+
+public interface Writer {}
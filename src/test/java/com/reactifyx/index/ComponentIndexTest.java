@@ -0,0 +1,161 @@
+package com.reactifyx.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.configbean.configuration.DbConfiguration;
+import com.reactifyx.configbean.entity.DB;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.multiple.FlexLayout;
+import com.reactifyx.single.TestComponent;
+import com.reactifyx.utils.ComponentIndex;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.ToolProvider;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@ComponentScan("com.reactifyx.single")
+public class ComponentIndexTest {
+
+    @Test
+    void testIndexGeneratedAtCompileTime() throws Exception {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ComponentIndex index = ComponentIndex.load(classLoader);
+        assertNotNull(index);
+        assertEquals(
+                Collections.singletonList(TestComponent.class), index.getClasses("com.reactifyx.single", classLoader));
+        assertEquals(Collections.singletonList(DB.class), index.getBeanTypes(DbConfiguration.class, classLoader));
+        assertEquals("flex", index.getQualifier(FlexLayout.class));
+        assertNull(index.getQualifier(TestComponent.class));
+    }
+
+    @Test
+    void testScanWhenIndexIgnored() throws Exception {
+        System.setProperty(ComponentIndex.IGNORE_PROPERTY, "true");
+        try {
+            assertNull(ComponentIndex.load(Thread.currentThread().getContextClassLoader()));
+            ReactifyIoC reactifyIoC = ReactifyIoC.initBeans(ComponentIndexTest.class);
+            assertEquals("Test", reactifyIoC.getBean(TestComponent.class).getName());
+        } finally {
+            System.clearProperty(ComponentIndex.IGNORE_PROPERTY);
+        }
+    }
+
+    @Test
+    void testPartialRecompilationKeepsTheOtherEntries(@TempDir Path temp) throws Exception {
+        Path sources = Files.createDirectories(temp.resolve("src/com/reactifyx/incremental"));
+        Path classes = Files.createDirectories(temp.resolve("classes"));
+        Path a = write(sources, "A");
+        Path b = write(sources, "B");
+
+        compile(classes, a, b);
+        assertEquals(
+                Arrays.asList("component\tcom.reactifyx.incremental.A", "component\tcom.reactifyx.incremental.B"),
+                entries(classes));
+
+        compile(classes, b);
+        assertEquals(
+                Arrays.asList("component\tcom.reactifyx.incremental.A", "component\tcom.reactifyx.incremental.B"),
+                entries(classes));
+
+        // A type that is gone is dropped from the index
+        Files.delete(classes.resolve("com/reactifyx/incremental/A.class"));
+        compile(classes, b);
+        assertEquals(Collections.singletonList("component\tcom.reactifyx.incremental.B"), entries(classes));
+    }
+
+    @Test
+    void testRootWithoutIndexIsScanned(@TempDir Path temp) throws Exception {
+        // A package split between the indexed test classes and a root compiled without the processor
+        Path sources = Files.createDirectories(temp.resolve("src/com/reactifyx/single"));
+        Path classes = Files.createDirectories(temp.resolve("classes"));
+        Path plain = write(sources, "Plain", "com.reactifyx.single", "@com.reactifyx.Component");
+        Path main =
+                write(sources, "Main", "com.reactifyx.single", "@com.reactifyx.ComponentScan(\"com.reactifyx.single\")");
+        compile(classes, Collections.singletonList("-proc:none"), plain, main);
+        assertFalse(Files.exists(classes.resolve(ComponentIndex.INDEX_LOCATION)));
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        Path file = Files.createTempFile(temp, "reactifyx", ".jfr");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes.toUri().toURL()}, previous);
+                Recording recording = new Recording()) {
+            thread.setContextClassLoader(classLoader);
+            recording.enable("com.reactifyx.Scan");
+            recording.start();
+            ReactifyIoC reactifyIoC = ReactifyIoC.initBeans(classLoader.loadClass("com.reactifyx.single.Main"));
+            // Indexed components of the test classes and the scanned one of the plain root
+            assertEquals("Test", reactifyIoC.getBean(TestComponent.class).getName());
+            assertNotNull(reactifyIoC.getBean(classLoader.loadClass("com.reactifyx.single.Plain")));
+            recording.stop();
+            recording.dump(file);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        List<String> scanSources = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if (event.getEventType().getName().equals("com.reactifyx.Scan")) {
+                scanSources.add(event.getString("source"));
+            }
+        }
+        assertEquals(Collections.singletonList("index+classpath"), scanSources);
+    }
+
+    private static Path write(Path directory, String name) throws IOException {
+        return write(directory, name, "com.reactifyx.incremental", "@com.reactifyx.Component");
+    }
+
+    private static Path write(Path directory, String name, String packageName, String annotation)
+            throws IOException {
+        Path file = directory.resolve(name + ".java");
+        String source = "package " + packageName + ";\n\n" + annotation + "\npublic class " + name + " {}\n";
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /** Compiles sources into a directory that is also on the classpath, like an incremental build. */
+    private static void compile(Path classes, Path... files) {
+        compile(classes, Arrays.asList("-processor", "com.reactifyx.processor.ComponentIndexProcessor"), files);
+    }
+
+    private static void compile(Path classes, List<String> processing, Path... files) {
+        List<String> arguments = new ArrayList<>(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + classes));
+        arguments.addAll(processing);
+        arguments.add("-d");
+        arguments.add(classes.toString());
+        for (Path file : files) {
+            arguments.add(file.toString());
+        }
+        assertEquals(0, ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0])));
+    }
+
+    private static List<String> entries(Path classes) throws IOException {
+        Path index = classes.resolve(ComponentIndex.INDEX_LOCATION);
+        assertTrue(Files.exists(index));
+        List<String> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+            if (!line.startsWith("#")) {
+                entries.add(line);
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,124 @@
+package com.reactifyx.injector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reactifyx.beanparams.Endpoint;
+import com.reactifyx.beanparams.EndpointConfiguration;
+import com.reactifyx.beanparams.Settings;
+import com.reactifyx.configbean.ClientClass;
+import com.reactifyx.core.Injector;
+import com.reactifyx.core.Provider;
+import com.reactifyx.lazy.Dashboard;
+import com.reactifyx.lazy.ExpensiveModel;
+import com.reactifyx.lazy.ForcedCache;
+import com.reactifyx.lazy.Renderer;
+import com.reactifyx.multiple.Browser;
+import com.reactifyx.multiple.BrowserRenderer;
+import com.reactifyx.multiple.Engine;
+import com.reactifyx.rawcollection.RawRegistry;
+import com.reactifyx.single.TestComponent;
+import org.junit.jupiter.api.Test;
+
+public class InjectorTest {
+
+    @Test
+    void testInjectorGeneratedForAccessibleComponent() throws Exception {
+        Class<?> injectorClass = Class.forName(TestComponent.class.getName() + Injector.SUFFIX);
+        @SuppressWarnings("unchecked")
+        Injector<TestComponent> injector =
+                (Injector<TestComponent>) injectorClass.getConstructor().newInstance();
+        TestComponent component = injector.newInstance((type, name, qualifier, wrapper) -> {
+            throw new IllegalStateException("TestComponent has no dependency");
+        });
+        assertEquals("Test", component.getName());
+        assertEquals(
+                BrowserRenderer.class.getName() + Injector.SUFFIX,
+                Class.forName(BrowserRenderer.class.getName() + Injector.SUFFIX).getName());
+    }
+
+    @Test
+    void testInjectorDescribesInjectionPoints() throws Exception {
+        @SuppressWarnings("unchecked")
+        Injector<Browser> injector = (Injector<Browser>) Class.forName(Browser.class.getName() + Injector.SUFFIX)
+                .getConstructor()
+                .newInstance();
+        Injector.Point[] points = injector.constructorPoints();
+        assertEquals(2, points.length);
+        assertEquals(Engine.class, points[0].getType());
+        assertEquals(Engine.class.getName(), points[0].getName());
+        assertEquals("v8Engine", points[0].getQualifier());
+        assertEquals(BrowserRenderer.class, points[1].getType());
+        assertNull(points[1].getQualifier());
+        assertEquals(0, injector.fieldPoints().length);
+        assertEquals(0, injector.setterPoints().length);
+        assertEquals(0, injector.postConstructCount());
+    }
+
+    @Test
+    void testInjectorDescribesWrappedInjectionPoints() throws Exception {
+        @SuppressWarnings("unchecked")
+        Injector<Dashboard> injector = (Injector<Dashboard>) Class.forName(Dashboard.class.getName() + Injector.SUFFIX)
+                .getConstructor()
+                .newInstance();
+        Injector.Point[] constructorPoints = injector.constructorPoints();
+        assertEquals(ForcedCache.class, constructorPoints[0].getType());
+        assertNull(constructorPoints[0].getWrapper());
+        Injector.Point[] fieldPoints = injector.fieldPoints();
+        assertEquals(2, fieldPoints.length);
+        assertEquals(Renderer.class, fieldPoints[0].getType());
+        assertNull(fieldPoints[0].getWrapper());
+        assertEquals(ExpensiveModel.class, fieldPoints[1].getType());
+        assertEquals("model", fieldPoints[1].getName());
+        assertEquals(Provider.class, fieldPoints[1].getWrapper());
+    }
+
+    @Test
+    void testInjectorCallsPackagePrivateConstructor() throws Exception {
+        @SuppressWarnings("unchecked")
+        Injector<LocalClock> injector = (Injector<LocalClock>) Class.forName(LocalClock.class.getName() + Injector.SUFFIX)
+                .getConstructor()
+                .newInstance();
+        LocalClock clock = injector.newInstance((type, name, qualifier, wrapper) -> {
+            throw new IllegalStateException("LocalClock has no dependency");
+        });
+        assertEquals(42L, clock.now());
+    }
+
+    @Test
+    void testInjectorCallsBeanMethods() throws Exception {
+        @SuppressWarnings("unchecked")
+        Injector<EndpointConfiguration> injector = (Injector<EndpointConfiguration>)
+                Class.forName(EndpointConfiguration.class.getName() + Injector.SUFFIX)
+                        .getConstructor()
+                        .newInstance();
+        Injector.BeanMethod[] beanMethods = injector.beanMethods();
+        assertEquals(2, beanMethods.length);
+        int endpoint = beanMethods[0].getBeanType() == Endpoint.class ? 0 : 1;
+        assertEquals("endpoint", beanMethods[endpoint].getMethodName());
+        Injector.Point[] points = beanMethods[endpoint].getPoints();
+        assertEquals(1, points.length);
+        assertEquals(Settings.class, points[0].getType());
+        assertEquals(Settings.class.getName(), points[0].getName());
+
+        EndpointConfiguration configuration = injector.newInstance((type, name, qualifier, wrapper) -> {
+            throw new IllegalStateException("EndpointConfiguration has no dependency");
+        });
+        Settings settings = (Settings) injector.invokeBean(1 - endpoint, configuration, new Object[0]);
+        Endpoint created = (Endpoint) injector.invokeBean(endpoint, configuration, new Object[] {settings});
+        assertEquals("https://example.org", created.getUrl());
+        assertThrows(IndexOutOfBoundsException.class, () -> injector.invokeBean(2, configuration, new Object[0]));
+    }
+
+    @Test
+    void testNoInjectorForRawInjectionPoints() {
+        assertThrows(
+                ClassNotFoundException.class, () -> Class.forName(RawRegistry.class.getName() + Injector.SUFFIX));
+    }
+
+    @Test
+    void testNoInjectorForPrivateInjectionPoints() {
+        assertThrows(ClassNotFoundException.class, () -> Class.forName(ClientClass.class.getName() + Injector.SUFFIX));
+    }
+}
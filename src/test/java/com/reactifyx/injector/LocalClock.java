@@ -0,0 +1,10 @@
+package com.reactifyx.injector;
+
+import com.reactifyx.Component;
+
+@Component
+class LocalClock {
+    long now() {
+        return 42L;
+    }
+}
@@ -0,0 +1,6 @@
+package com.reactifyx.jfr;
+
+import com.reactifyx.Component;
+
+@Component
+public class Engine {}
@@ -0,0 +1,61 @@
+package com.reactifyx.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.jfr")
+public class FlightRecorderTest {
+
+    @Test
+    void testContainerEmitsFlightRecorderEvents() throws Exception {
+        Path file = Files.createTempFile("reactifyx", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {"Scan", "BeanCreation", "BeanMethod", "Lookup"}) {
+                recording.enable("com.reactifyx." + name);
+            }
+            recording.start();
+            ReactifyIoC reactifyIoC =
+                    ReactifyIoC.initBeans(new IoCOptions().lookupEvents(1), FlightRecorderTest.class);
+            reactifyIoC.getBean(Engine.class);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        RecordedEvent scan = only(events, "com.reactifyx.Scan");
+        assertEquals("com.reactifyx.jfr", scan.getString("packageName"));
+        assertEquals(2, scan.getInt("classCount"));
+        assertTrue(events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.reactifyx.BeanCreation"))
+                .anyMatch(e -> e.getClass("beanClass").getName().equals(Engine.class.getName())
+                        && e.getString("phase").equals("construct")));
+        RecordedEvent beanMethod = only(events, "com.reactifyx.BeanMethod");
+        assertEquals("fuel", beanMethod.getString("method"));
+        assertEquals(Fuel.class.getName(), beanMethod.getClass("beanClass").getName());
+        RecordedEvent lookup = only(events, "com.reactifyx.Lookup");
+        assertEquals(Engine.class.getName(), lookup.getClass("beanClass").getName());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,3 @@
+package com.reactifyx.jfr;
+
+public class Fuel {}
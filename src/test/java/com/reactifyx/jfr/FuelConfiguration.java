@@ -0,0 +1,12 @@
+package com.reactifyx.jfr;
+
+import com.reactifyx.Bean;
+import com.reactifyx.Configuration;
+
+@Configuration
+public class FuelConfiguration {
+    @Bean
+    public Fuel fuel() {
+        return new Fuel();
+    }
+}
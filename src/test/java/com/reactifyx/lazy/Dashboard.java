@@ -0,0 +1,25 @@
+package com.reactifyx.lazy;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.core.Provider;
+
+@Component
+public class Dashboard {
+    @Autowired
+    Renderer renderer;
+
+    @Autowired
+    Provider<ExpensiveModel> model;
+
+    private final ForcedCache cache;
+
+    @Autowired
+    public Dashboard(ForcedCache cache) {
+        this.cache = cache;
+    }
+
+    public ForcedCache getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,15 @@
+package com.reactifyx.lazy;
+
+import com.reactifyx.Component;
+import com.reactifyx.Lazy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Lazy
+@Component
+public class ForcedCache {
+    static final AtomicInteger created = new AtomicInteger();
+
+    public ForcedCache() {
+        created.incrementAndGet();
+    }
+}
@@ -0,0 +1,49 @@
+package com.reactifyx.lazy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.lazy")
+public class LazyTest {
+    static ReactifyIoC reactifyIoC;
+
+    @BeforeAll
+    static void init() {
+        reactifyIoC = ReactifyIoC.initBeans(LazyTest.class);
+    }
+
+    @Test
+    void testLazyBeansAreCreatedOnFirstUse() {
+        Dashboard dashboard = reactifyIoC.getBean(Dashboard.class);
+        assertEquals(1, ForcedCache.created.get());
+        assertNotNull(dashboard.getCache());
+        assertEquals(0, ReportRenderer.created.get());
+        assertEquals(0, ExpensiveModel.created.get());
+
+        Set<Renderer> renderers = new HashSet<>();
+        renderers.add(dashboard.renderer);
+        assertTrue(renderers.contains(dashboard.renderer));
+        assertEquals(dashboard.renderer, dashboard.renderer);
+        assertTrue(dashboard.renderer.toString().startsWith(Renderer.class.getName()));
+        assertEquals(0, ReportRenderer.created.get());
+
+        assertEquals("<report>", dashboard.renderer.render("report"));
+        assertEquals(1, ReportRenderer.created.get());
+        assertSame(reactifyIoC.getBean(ReportRenderer.class), reactifyIoC.getBean(Renderer.class));
+
+        ExpensiveModel model = dashboard.model.get();
+        assertEquals(1, ExpensiveModel.created.get());
+        assertSame(model, dashboard.model.get());
+        assertSame(model, reactifyIoC.getBean(ExpensiveModel.class));
+        assertEquals(1, ExpensiveModel.created.get());
+    }
+}
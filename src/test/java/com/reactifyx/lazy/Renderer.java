@@ -0,0 +1,5 @@
+package com.reactifyx.lazy;
+
+public interface Renderer {
+    String render(String text);
+}
@@ -0,0 +1,20 @@
+package com.reactifyx.lazy;
+
+import com.reactifyx.Component;
+import com.reactifyx.Lazy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Lazy
+@Component
+public class ReportRenderer implements Renderer {
+    static final AtomicInteger created = new AtomicInteger();
+
+    public ReportRenderer() {
+        created.incrementAndGet();
+    }
+
+    @Override
+    public String render(String text) {
+        return "<" + text + ">";
+    }
+}
@@ -0,0 +1,12 @@
+package com.reactifyx.lazyinvalid;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.Lazy;
+
+@Lazy
+@Component
+public class Broken {
+    @Autowired
+    Missing missing;
+}
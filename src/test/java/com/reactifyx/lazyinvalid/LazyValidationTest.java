@@ -0,0 +1,17 @@
+package com.reactifyx.lazyinvalid;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.lazyinvalid")
+public class LazyValidationTest {
+
+    @Test
+    void testLazyBeansAreValidatedAtStartup() {
+        assertThrows(IoCException.class, () -> ReactifyIoC.initBeans(LazyValidationTest.class));
+    }
+}
@@ -0,0 +1,3 @@
+package com.reactifyx.lazyinvalid;
+
+public interface Missing {}
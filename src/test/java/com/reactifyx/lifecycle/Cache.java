@@ -0,0 +1,22 @@
+package com.reactifyx.lifecycle;
+
+import com.reactifyx.Component;
+import com.reactifyx.PostConstruct;
+import com.reactifyx.PreDestroy;
+import java.util.concurrent.CountDownLatch;
+
+@Component
+public class Cache {
+    static volatile CountDownLatch warming;
+
+    @PostConstruct
+    public void warmUp() {
+        warming.countDown();
+        Events.record("cache ready");
+    }
+
+    @PreDestroy
+    public void clear() {
+        Events.record("cache closed");
+    }
+}
@@ -0,0 +1,33 @@
+package com.reactifyx.lifecycle;
+
+import com.reactifyx.Component;
+import com.reactifyx.PostConstruct;
+import com.reactifyx.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class Database {
+    volatile boolean ready;
+    volatile boolean warmedConcurrently;
+
+    @PostConstruct
+    public CompletableFuture<Void> connect() {
+        // Completes only once the independent cache has started warming up
+        return CompletableFuture.runAsync(() -> {
+            try {
+                warmedConcurrently = Cache.warming.await(5, TimeUnit.SECONDS);
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ready = true;
+            Events.record("database ready");
+        });
+    }
+
+    @PreDestroy
+    public CompletableFuture<Void> disconnect() {
+        return CompletableFuture.runAsync(() -> Events.record("database closed"));
+    }
+}
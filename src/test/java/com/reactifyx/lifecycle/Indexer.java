@@ -0,0 +1,16 @@
+package com.reactifyx.lifecycle;
+
+import com.reactifyx.Component;
+import com.reactifyx.PreDestroy;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class Indexer {
+    static volatile long shutdownMillis;
+
+    @PreDestroy(timeoutMillis = 100)
+    public void stop() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(shutdownMillis);
+        Events.record("indexer closed");
+    }
+}
@@ -0,0 +1,70 @@
+package com.reactifyx.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.lifecycle")
+public class LifecycleTest {
+
+    @BeforeEach
+    void reset() {
+        Events.LOG.clear();
+        Cache.warming = new CountDownLatch(1);
+        Indexer.shutdownMillis = 0;
+    }
+
+    @Test
+    void testBeansAreInitializedAfterTheirDependencies() {
+        ReactifyIoC reactifyIoC = ReactifyIoC.initBeans(LifecycleTest.class);
+
+        Database database = reactifyIoC.getBean(Database.class);
+        assertTrue(database.ready);
+        assertTrue(database.warmedConcurrently);
+        assertTrue(reactifyIoC.getBean(Repository.class).databaseReadyOnConstruction);
+        assertTrue(reactifyIoC.getBean(Repository.class).databaseReadyOnInit);
+        assertTrue(reactifyIoC.getBean(Monitor.class).databaseReadyOnInjection);
+        assertTrue(Events.LOG.indexOf("database ready") < Events.LOG.indexOf("repository ready"));
+        assertFalse(Events.LOG.contains("reports ready"));
+        reactifyIoC.close();
+    }
+
+    @Test
+    void testCloseShutsDependentsDownFirst() {
+        ReactifyIoC reactifyIoC = ReactifyIoC.initBeans(LifecycleTest.class);
+        reactifyIoC.getBean(ReportService.class);
+        assertTrue(Events.LOG.contains("reports ready"));
+        Events.LOG.clear();
+
+        reactifyIoC.close();
+        assertEquals(5, Events.LOG.size());
+        assertEquals("reports closed", Events.LOG.get(0));
+        assertTrue(Events.LOG.indexOf("repository closed") < Events.LOG.indexOf("database closed"));
+        assertTrue(Events.LOG.contains("cache closed"));
+        assertTrue(Events.LOG.contains("indexer closed"));
+
+        reactifyIoC.close();
+        assertEquals(5, Events.LOG.size());
+    }
+
+    @Test
+    void testSlowBeanTimesOutWithoutBlockingTheOthers() {
+        ReactifyIoC reactifyIoC = ReactifyIoC.initBeans(LifecycleTest.class);
+        Indexer.shutdownMillis = 2000;
+
+        long start = System.nanoTime();
+        IoCException e = assertThrows(IoCException.class, reactifyIoC::close);
+        assertTrue(System.nanoTime() - start < 1_500_000_000L);
+        assertTrue(e.getCause().getMessage().contains(Indexer.class.getName() + " did not shut down within 100 ms"));
+        assertTrue(Events.LOG.contains("database closed"));
+        assertFalse(Events.LOG.contains("indexer closed"));
+    }
+}
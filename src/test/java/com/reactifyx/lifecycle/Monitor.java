@@ -0,0 +1,14 @@
+package com.reactifyx.lifecycle;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class Monitor {
+    boolean databaseReadyOnInjection;
+
+    @Autowired
+    public void setDatabase(Database database) {
+        databaseReadyOnInjection = database.ready;
+    }
+}
@@ -0,0 +1,24 @@
+package com.reactifyx.lifecycle;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.Lazy;
+import com.reactifyx.PostConstruct;
+import com.reactifyx.PreDestroy;
+
+@Lazy
+@Component
+public class ReportService {
+    @Autowired
+    Repository repository;
+
+    @PostConstruct
+    public void init() {
+        Events.record("reports ready");
+    }
+
+    @PreDestroy
+    public void stop() {
+        Events.record("reports closed");
+    }
+}
@@ -0,0 +1,30 @@
+package com.reactifyx.lifecycle;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.PostConstruct;
+import com.reactifyx.PreDestroy;
+
+@Component
+public class Repository {
+    final Database database;
+    final boolean databaseReadyOnConstruction;
+    boolean databaseReadyOnInit;
+
+    @Autowired
+    public Repository(Database database) {
+        this.database = database;
+        this.databaseReadyOnConstruction = database.ready;
+    }
+
+    @PostConstruct
+    void init() {
+        databaseReadyOnInit = database.ready;
+        Events.record("repository ready");
+    }
+
+    @PreDestroy
+    void flush() {
+        Events.record("repository closed");
+    }
+}
@@ -0,0 +1,13 @@
+package com.reactifyx.lifecyclefailure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class Events {
+    static final List<String> LOG = Collections.synchronizedList(new ArrayList<>());
+
+    static void record(String event) {
+        LOG.add(event);
+    }
+}
@@ -0,0 +1,18 @@
+package com.reactifyx.lifecyclefailure;
+
+import com.reactifyx.Component;
+import com.reactifyx.PostConstruct;
+import com.reactifyx.PreDestroy;
+
+@Component
+public class Ledger {
+    @PostConstruct
+    public void open() {
+        Events.record("ledger ready");
+    }
+
+    @PreDestroy
+    public void close() {
+        Events.record("ledger closed");
+    }
+}
@@ -0,0 +1,38 @@
+package com.reactifyx.lifecyclefailure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.lifecyclefailure")
+public class LifecycleFailureTest {
+
+    @BeforeEach
+    void reset() {
+        Events.LOG.clear();
+    }
+
+    @Test
+    void testFailedStartShutsDownInitializedBeans() {
+        IoCException e = assertThrows(IoCException.class, () -> ReactifyIoC.initBeans(LifecycleFailureTest.class));
+        assertTrue(e.getMessage().contains(Payments.class.getName()));
+        assertEquals(Arrays.asList("ledger ready", "ledger closed"), Events.LOG);
+    }
+
+    @Test
+    void testCloseAfterFailedAsyncStartShutsDownInitializedBeans() {
+        ReactifyIoC reactifyIoC = ReactifyIoC.initBeansAsync(LifecycleFailureTest.class);
+        assertThrows(CompletionException.class, () -> reactifyIoC.ready().join());
+
+        reactifyIoC.close();
+        assertEquals(Arrays.asList("ledger ready", "ledger closed"), Events.LOG);
+    }
+}
@@ -0,0 +1,26 @@
+package com.reactifyx.lifecyclefailure;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.PostConstruct;
+import com.reactifyx.PreDestroy;
+
+@Component
+public class Payments {
+    final Ledger ledger;
+
+    @Autowired
+    public Payments(Ledger ledger) {
+        this.ledger = ledger;
+    }
+
+    @PostConstruct
+    public void connect() {
+        throw new IllegalStateException("Gateway unreachable");
+    }
+
+    @PreDestroy
+    public void disconnect() {
+        Events.record("payments closed");
+    }
+}
@@ -0,0 +1,6 @@
+package com.reactifyx.metrics;
+
+import com.reactifyx.Component;
+
+@Component
+public class Helper {}
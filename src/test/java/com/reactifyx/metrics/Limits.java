@@ -0,0 +1,9 @@
+package com.reactifyx.metrics;
+
+public class Limits {
+    final int max;
+
+    public Limits(int max) {
+        this.max = max;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reactifyx.metrics;
+
+import com.reactifyx.Bean;
+import com.reactifyx.Configuration;
+
+@Configuration
+public class LimitsConfiguration {
+    @Bean
+    public Limits limits() {
+        return new Limits(10);
+    }
+}
@@ -0,0 +1,18 @@
+package com.reactifyx.metrics;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class ReportService {
+    private final SlowRepository repository;
+
+    @Autowired
+    public ReportService(SlowRepository repository) {
+        this.repository = repository;
+    }
+
+    public SlowRepository getRepository() {
+        return repository;
+    }
+}
@@ -0,0 +1,10 @@
+package com.reactifyx.metrics;
+
+import com.reactifyx.Component;
+
+@Component
+public class SlowRepository {
+    public SlowRepository() throws InterruptedException {
+        Thread.sleep(50);
+    }
+}
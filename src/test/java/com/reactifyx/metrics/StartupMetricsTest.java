@@ -0,0 +1,45 @@
+package com.reactifyx.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.core.StartupMetrics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.metrics")
+public class StartupMetricsTest {
+    static StartupMetrics metrics;
+
+    @BeforeAll
+    static void init() {
+        metrics = ReactifyIoC.initBeans(StartupMetricsTest.class).getStartupMetrics();
+    }
+
+    @Test
+    void testBeansAreTimed() {
+        StartupMetrics.BeanMetrics slowest = metrics.getSlowest(1).get(0);
+        assertEquals(SlowRepository.class, slowest.getType());
+        assertEquals(StartupMetrics.Kind.COMPONENT, slowest.getKind());
+        assertTrue(slowest.getConstructNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(StartupMetrics.Kind.BEAN_METHOD, metrics.getBean(Limits.class).getKind());
+        assertEquals(StartupMetrics.Kind.CONFIGURATION, metrics.getBean(LimitsConfiguration.class).getKind());
+        assertNotNull(metrics.getBean(Helper.class));
+        assertTrue(metrics.getTotalNanos() >= slowest.getTotalNanos());
+        assertTrue(metrics.getPackageNanos().containsKey("com.reactifyx.metrics"));
+    }
+
+    @Test
+    void testCriticalPathFollowsTheSlowestChain() {
+        List<StartupMetrics.BeanMetrics> path = metrics.getCriticalPath();
+        assertEquals(2, path.size());
+        assertEquals(SlowRepository.class, path.get(0).getType());
+        assertEquals(ReportService.class, path.get(1).getType());
+        assertTrue(metrics.toString().contains("Critical path"));
+    }
+}
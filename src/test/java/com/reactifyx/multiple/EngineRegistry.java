@@ -0,0 +1,26 @@
+package com.reactifyx.multiple;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class EngineRegistry {
+    final List<Engine> engines;
+
+    @Autowired
+    Engine[] engineArray;
+
+    Map<String, Engine> enginesByName;
+
+    @Autowired
+    public EngineRegistry(List<Engine> engines) {
+        this.engines = engines;
+    }
+
+    @Autowired
+    public void setEnginesByName(Map<String, Engine> enginesByName) {
+        this.enginesByName = enginesByName;
+    }
+}
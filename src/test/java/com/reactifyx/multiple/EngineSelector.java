@@ -0,0 +1,10 @@
+package com.reactifyx.multiple;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class EngineSelector {
+    @Autowired
+    Engine[] engines;
+}
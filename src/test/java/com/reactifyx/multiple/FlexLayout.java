@@ -0,0 +1,12 @@
+package com.reactifyx.multiple;
+
+import com.reactifyx.Component;
+import com.reactifyx.Qualifier;
+
+@Component
+@Qualifier("flex")
+public class FlexLayout implements Layout {
+    public String getName() {
+        return "Flex";
+    }
+}
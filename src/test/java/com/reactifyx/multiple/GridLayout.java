@@ -0,0 +1,10 @@
+package com.reactifyx.multiple;
+
+import com.reactifyx.Component;
+
+@Component
+public class GridLayout implements Layout {
+    public String getName() {
+        return "Grid";
+    }
+}
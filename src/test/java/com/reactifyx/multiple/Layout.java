@@ -0,0 +1,5 @@
+package com.reactifyx.multiple;
+
+public interface Layout {
+    String getName();
+}
@@ -1,9 +1,16 @@
 package com.reactifyx.multiple;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.reactifyx.ComponentScan;
+import com.reactifyx.core.BeanHandle;
 import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -22,4 +29,35 @@ class MultipleTest {
         String text = browser.run();
         assertEquals("This browser run on V8 and CircularDependencyOfV8Engine", text);
     }
+
+    @Test
+    void testHandles() {
+        BeanHandle<Engine> engine = reactifyIoC.handle(Engine.class, "v8Engine");
+        assertSame(reactifyIoC.getBean(V8Engine.class), engine.get());
+        assertSame(engine.get(), engine.get());
+        assertSame(
+                reactifyIoC.getBean(Browser.class),
+                reactifyIoC.handle(Browser.class).get());
+        assertThrows(IoCException.class, () -> reactifyIoC.handle(Engine.class));
+    }
+
+    @Test
+    void testTypeLevelQualifierSelectsImplementation() {
+        assertSame(reactifyIoC.getBean(FlexLayout.class), reactifyIoC.handle(Layout.class, "flex").get());
+        assertSame(reactifyIoC.getBean(FlexLayout.class), reactifyIoC.handle(Layout.class, "flexLayout").get());
+        assertSame(reactifyIoC.getBean(GridLayout.class), reactifyIoC.handle(Layout.class, "gridLayout").get());
+    }
+
+    @Test
+    void testAllImplementationsAreInjected() {
+        EngineRegistry registry = reactifyIoC.getBean(EngineRegistry.class);
+        assertEquals(
+                Arrays.asList(reactifyIoC.getBean(SpiderMonkeyEngine.class), reactifyIoC.getBean(V8Engine.class)),
+                new ArrayList<>(registry.enginesByName.values()));
+        assertEquals(Arrays.asList("spiderMonkeyEngine", "v8Engine"), new ArrayList<>(registry.enginesByName.keySet()));
+        assertEquals(new ArrayList<>(registry.enginesByName.values()), registry.engines);
+        assertArrayEquals(registry.engines.toArray(), registry.engineArray);
+        assertArrayEquals(registry.engineArray, reactifyIoC.getBean(EngineSelector.class).engines);
+        assertThrows(UnsupportedOperationException.class, () -> registry.engines.add(new SpiderMonkeyEngine()));
+    }
 }
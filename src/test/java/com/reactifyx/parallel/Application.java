@@ -0,0 +1,24 @@
+package com.reactifyx.parallel;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class Application {
+    private final ConnectionPool connectionPool;
+    private final CachePool cachePool;
+
+    @Autowired
+    public Application(ConnectionPool connectionPool, CachePool cachePool) {
+        this.connectionPool = connectionPool;
+        this.cachePool = cachePool;
+    }
+
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public CachePool getCachePool() {
+        return cachePool;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reactifyx.parallel;
+
+import com.reactifyx.Component;
+
+@Component
+public class CachePool {
+    private final boolean overlapped = Warmup.awaitOther();
+
+    public boolean isOverlapped() {
+        return overlapped;
+    }
+}
@@ -0,0 +1,42 @@
+package com.reactifyx.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.parallel")
+public class ParallelTest {
+    private static final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private static ReactifyIoC reactifyIoC;
+
+    @BeforeAll
+    public static void init() {
+        reactifyIoC = ReactifyIoC.initBeans(new IoCOptions().executor(executor), ParallelTest.class);
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void independentBeansAreCreatedConcurrently() {
+        assertTrue(reactifyIoC.getBean(ConnectionPool.class).isOverlapped());
+        assertTrue(reactifyIoC.getBean(CachePool.class).isOverlapped());
+    }
+
+    @Test
+    void dependentBeanReceivesInitializedDependencies() {
+        Application application = reactifyIoC.getBean(Application.class);
+        assertSame(reactifyIoC.getBean(ConnectionPool.class), application.getConnectionPool());
+        assertSame(reactifyIoC.getBean(CachePool.class), application.getCachePool());
+    }
+}
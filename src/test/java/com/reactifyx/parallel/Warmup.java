@@ -0,0 +1,21 @@
+package com.reactifyx.parallel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class Warmup {
+    private static final CountDownLatch STARTED = new CountDownLatch(2);
+
+    private Warmup() {}
+
+    /** Returns true only if the other pool started while this one was still warming up. */
+    static boolean awaitOther() {
+        STARTED.countDown();
+        try {
+            return STARTED.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
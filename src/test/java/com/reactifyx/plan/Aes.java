@@ -0,0 +1,11 @@
+package com.reactifyx.plan;
+
+import com.reactifyx.Component;
+
+@Component
+public class Aes implements Cipher {
+    @Override
+    public String encrypt(String text) {
+        return "aes(" + text + ")";
+    }
+}
@@ -0,0 +1,5 @@
+package com.reactifyx.plan;
+
+public interface Cipher {
+    String encrypt(String text);
+}
@@ -0,0 +1,12 @@
+package com.reactifyx.plan;
+
+import com.reactifyx.Bean;
+import com.reactifyx.Configuration;
+
+@Configuration
+public class KeyConfiguration {
+    @Bean
+    public KeyStore keyStore() {
+        return new KeyStore();
+    }
+}
@@ -0,0 +1,3 @@
+package com.reactifyx.plan;
+
+public class KeyStore {}
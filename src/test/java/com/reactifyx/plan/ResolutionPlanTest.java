@@ -0,0 +1,87 @@
+package com.reactifyx.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.utils.ComponentIndex;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@ComponentScan("com.reactifyx.plan")
+public class ResolutionPlanTest {
+
+    @Test
+    void testPlanIsReplayedOnTheSameClasspath(@TempDir Path temp) throws Exception {
+        Path plan = temp.resolve("context.plan");
+
+        assertEquals("index", start(new IoCOptions().resolutionPlan(plan), temp));
+        assertTrue(Files.size(plan) > 0);
+
+        assertEquals("plan", start(new IoCOptions().resolutionPlan(plan), temp));
+
+        // Another option invalidates the plan, which is recorded again
+        assertEquals("index", start(new IoCOptions().resolutionPlan(plan).lazy(true), temp));
+        assertEquals("plan", start(new IoCOptions().resolutionPlan(plan).lazy(true), temp));
+    }
+
+    @Test
+    void testUnreadablePlanIsRecordedAgain(@TempDir Path temp) throws Exception {
+        Path plan = temp.resolve("context.plan");
+        Files.write(plan, new byte[] {1, 2, 3});
+
+        assertEquals("index", start(new IoCOptions().resolutionPlan(plan), temp));
+        assertEquals("plan", start(new IoCOptions().resolutionPlan(plan), temp));
+    }
+
+    @Test
+    void testPlanIsReplayedWithAnIndexPresent(@TempDir Path temp) throws Exception {
+        // The test classes are compiled with the index processor
+        assertNotNull(ComponentIndex.load(Thread.currentThread().getContextClassLoader()));
+        Path plan = temp.resolve("context.plan");
+
+        RecordedEvent recorded = scan(new IoCOptions().resolutionPlan(plan), temp);
+        assertEquals("index", recorded.getString("source"));
+        RecordedEvent replayed = scan(new IoCOptions().resolutionPlan(plan), temp);
+        assertEquals("plan", replayed.getString("source"));
+        assertEquals("com.reactifyx.plan", replayed.getString("packageName"));
+        assertEquals(recorded.getInt("classCount"), replayed.getInt("classCount"));
+    }
+
+    /** Starts a context, checks its wiring and returns where its classes came from. */
+    private static String start(IoCOptions options, Path temp) throws Exception {
+        return scan(options, temp).getString("source");
+    }
+
+    /** Starts a context, checks its wiring and returns its only scan event. */
+    private static RecordedEvent scan(IoCOptions options, Path temp) throws Exception {
+        Path file = Files.createTempFile(temp, "reactifyx", ".jfr");
+        List<RecordedEvent> scans;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.reactifyx.Scan");
+            recording.start();
+            ReactifyIoC reactifyIoC = ReactifyIoC.initBeans(options, ResolutionPlanTest.class);
+            Vault vault = reactifyIoC.getBean(Vault.class);
+            assertEquals("rot13(secret)", vault.cipher.encrypt("secret"));
+            assertSame(reactifyIoC.getBean(KeyStore.class), vault.keys);
+            recording.stop();
+            recording.dump(file);
+            scans = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("com.reactifyx.Scan"))
+                    .collect(Collectors.toList());
+        }
+        assertEquals(1, scans.size());
+        return scans.get(0);
+    }
+}
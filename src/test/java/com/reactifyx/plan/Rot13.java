@@ -0,0 +1,11 @@
+package com.reactifyx.plan;
+
+import com.reactifyx.Component;
+
+@Component
+public class Rot13 implements Cipher {
+    @Override
+    public String encrypt(String text) {
+        return "rot13(" + text + ")";
+    }
+}
@@ -0,0 +1,19 @@
+package com.reactifyx.plan;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.Qualifier;
+
+@Component
+public class Vault {
+    final KeyStore keys;
+
+    @Autowired
+    @Qualifier("rot13")
+    Cipher cipher;
+
+    @Autowired
+    public Vault(KeyStore keys) {
+        this.keys = keys;
+    }
+}
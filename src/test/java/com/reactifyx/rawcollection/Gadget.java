@@ -0,0 +1,6 @@
+package com.reactifyx.rawcollection;
+
+import com.reactifyx.Component;
+
+@Component
+public class Gadget {}
@@ -0,0 +1,21 @@
+package com.reactifyx.rawcollection;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.rawcollection")
+class RawCollectionTest {
+
+    @Test
+    void testRawListIsRejected() {
+        IoCException e = assertThrows(IoCException.class, () -> ReactifyIoC.initBeans(RawCollectionTest.class));
+        assertTrue(
+                String.valueOf(e.getMessage()).contains("RawRegistry.gadgets"),
+                () -> "Unexpected message: " + e.getMessage());
+    }
+}
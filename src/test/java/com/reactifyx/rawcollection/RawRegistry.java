@@ -0,0 +1,12 @@
+package com.reactifyx.rawcollection;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import java.util.List;
+
+@Component
+@SuppressWarnings("rawtypes")
+public class RawRegistry {
+    @Autowired
+    List gadgets;
+}
@@ -0,0 +1,18 @@
+package com.reactifyx.readiness;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import java.util.concurrent.CountDownLatch;
+
+@Component
+public class Catalog {
+    static volatile CountDownLatch injected;
+
+    Pricing pricing;
+
+    @Autowired
+    public void setPricing(Pricing pricing) {
+        this.pricing = pricing;
+        injected.countDown();
+    }
+}
@@ -0,0 +1,13 @@
+package com.reactifyx.readiness;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class Pricing {
+    @Autowired
+    Catalog catalog;
+
+    @Autowired
+    Rates rates;
+}
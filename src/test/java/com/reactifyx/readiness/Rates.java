@@ -0,0 +1,15 @@
+package com.reactifyx.readiness;
+
+import com.reactifyx.Component;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class Rates {
+    static volatile CountDownLatch loaded;
+
+    public Rates() throws InterruptedException {
+        // Stands in for rates that take long to load
+        loaded.await(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,51 @@
+package com.reactifyx.readiness;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.readiness")
+public class ReadinessTest {
+    ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        Catalog.injected = new CountDownLatch(1);
+        Rates.loaded = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Rates.loaded.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void testBeanIsServedOnlyWithItsWholeGraph() throws Exception {
+        ReactifyIoC reactifyIoC = ReactifyIoC.initBeansAsync(new IoCOptions().executor(executor), ReadinessTest.class);
+        assertTrue(Catalog.injected.await(5, TimeUnit.SECONDS));
+
+        // The catalog is injected, but the pricing it holds still waits for its rates
+        CompletableFuture<Boolean> complete =
+                CompletableFuture.supplyAsync(() -> reactifyIoC.getBean(Catalog.class).pricing.rates != null, executor);
+        assertThrows(TimeoutException.class, () -> complete.get(100, TimeUnit.MILLISECONDS));
+
+        Rates.loaded.countDown();
+        assertTrue(complete.get(5, TimeUnit.SECONDS));
+        assertSame(reactifyIoC.getBean(Pricing.class), reactifyIoC.getBean(Catalog.class).pricing);
+    }
+}
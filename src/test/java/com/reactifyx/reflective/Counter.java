@@ -0,0 +1,13 @@
+package com.reactifyx.reflective;
+
+public class Counter {
+    private final int start;
+
+    public Counter(int start) {
+        this.start = start;
+    }
+
+    public int getStart() {
+        return start;
+    }
+}
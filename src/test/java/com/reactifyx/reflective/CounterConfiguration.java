@@ -0,0 +1,12 @@
+package com.reactifyx.reflective;
+
+import com.reactifyx.Bean;
+import com.reactifyx.Configuration;
+
+@Configuration
+public class CounterConfiguration {
+    @Bean
+    private Counter counter() {
+        return new Counter(42);
+    }
+}
@@ -0,0 +1,24 @@
+package com.reactifyx.reflective;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.reflective")
+public class ReflectiveTest {
+    static ReactifyIoC reactifyIoC;
+
+    @BeforeAll
+    static void init() {
+        reactifyIoC = ReactifyIoC.initBeans(ReflectiveTest.class);
+    }
+
+    @Test
+    void testPrivateMembersInjected() {
+        Service service = reactifyIoC.getBean(Service.class);
+        assertEquals("Repository42 from 42", service.describe());
+    }
+}
@@ -0,0 +1,18 @@
+package com.reactifyx.reflective;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class Repository {
+    private final Counter counter;
+
+    @Autowired
+    private Repository(Counter counter) {
+        this.counter = counter;
+    }
+
+    public String getName() {
+        return "Repository" + counter.getStart();
+    }
+}
@@ -0,0 +1,21 @@
+package com.reactifyx.reflective;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class Service {
+    @Autowired
+    private Counter counter;
+
+    private Repository repository;
+
+    @Autowired
+    private void setRepository(Repository repository) {
+        this.repository = repository;
+    }
+
+    public String describe() {
+        return repository.getName() + " from " + counter.getStart();
+    }
+}
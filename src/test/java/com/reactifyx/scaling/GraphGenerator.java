@@ -0,0 +1,125 @@
+package com.reactifyx.scaling;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates and compiles packages of components for scaling tests. A graph of
+ * size {@code n} contains, in one package:
+ *
+ * <ul>
+ *   <li>a deep chain of {@code n} components, each taking the previous one as a
+ *       constructor parameter;
+ *   <li>{@code n} leaves injected into hubs of {@value #FAN_OUT} fields each;
+ *   <li>{@code n / 8} interfaces with {@value #IMPLEMENTATIONS} implementations
+ *       each, injected by {@code @Qualifier} and by field name;
+ *   <li>{@code n / 8} configurations whose {@code @Bean} method takes a chain
+ *       component as a parameter.
+ * </ul>
+ */
+final class GraphGenerator {
+
+    static final int FAN_OUT = 16;
+    static final int IMPLEMENTATIONS = 4;
+
+    private final Path sources;
+    private final Path classes;
+    private final List<String> files = new ArrayList<>();
+
+    GraphGenerator(Path directory) throws IOException {
+        this.sources = Files.createDirectories(directory.resolve("src"));
+        this.classes = Files.createDirectories(directory.resolve("classes"));
+    }
+
+    /** Adds the sources of a graph of the given size in its own package, and returns its main class name. */
+    String add(String packageName, int size) throws IOException {
+        write(packageName, "Main", "@com.reactifyx.ComponentScan(\"" + packageName + "\")\npublic class Main {}\n");
+        for (int i = 0; i < size; i++) {
+            write(
+                    packageName,
+                    "Chain" + i,
+                    i == 0
+                            ? "@com.reactifyx.Component\npublic class Chain0 {}\n"
+                            : "@com.reactifyx.Component\npublic class Chain" + i + " {\n"
+                                    + "    final Chain" + (i - 1) + " previous;\n\n"
+                                    + "    @com.reactifyx.Autowired\n"
+                                    + "    public Chain" + i + "(Chain" + (i - 1) + " previous) {\n"
+                                    + "        this.previous = previous;\n"
+                                    + "    }\n}\n");
+            write(packageName, "Leaf" + i, "@com.reactifyx.Component\npublic class Leaf" + i + " {}\n");
+        }
+        for (int h = 0; h * FAN_OUT < size; h++) {
+            StringBuilder hub = new StringBuilder("@com.reactifyx.Component\npublic class Hub" + h + " {\n");
+            for (int i = h * FAN_OUT; i < Math.min(size, (h + 1) * FAN_OUT); i++) {
+                hub.append("    @com.reactifyx.Autowired\n    Leaf")
+                        .append(i)
+                        .append(" leaf")
+                        .append(i)
+                        .append(";\n");
+            }
+            write(packageName, "Hub" + h, hub.append("}\n").toString());
+        }
+        for (int k = 0; k < size / 8; k++) {
+            write(packageName, "Port" + k, "public interface Port" + k + " {}\n");
+            for (int j = 0; j < IMPLEMENTATIONS; j++) {
+                write(
+                        packageName,
+                        "Port" + k + "Impl" + j,
+                        "@com.reactifyx.Component\npublic class Port" + k + "Impl" + j + " implements Port" + k
+                                + " {}\n");
+            }
+            write(
+                    packageName,
+                    "Client" + k,
+                    "@com.reactifyx.Component\npublic class Client" + k + " {\n"
+                            + "    @com.reactifyx.Autowired\n    @com.reactifyx.Qualifier(\"port" + k + "Impl2\")\n"
+                            + "    Port" + k + " qualified;\n\n"
+                            + "    @com.reactifyx.Autowired\n    Port" + k + " port" + k + "Impl1;\n}\n");
+            write(packageName, "Value" + k, "public class Value" + k + " {}\n");
+            write(
+                    packageName,
+                    "Config" + k,
+                    "@com.reactifyx.Configuration\npublic class Config" + k + " {\n"
+                            + "    @com.reactifyx.Bean\n    public Value" + k + " value(Chain" + k + " chain) {\n"
+                            + "        return new Value" + k + "();\n    }\n}\n");
+        }
+        return packageName + ".Main";
+    }
+
+    /** Compiles every added graph with the container's annotation processors. */
+    void compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(Arrays.asList(
+                "-classpath",
+                System.getProperty("java.class.path"),
+                "-processor",
+                "com.reactifyx.processor.ComponentIndexProcessor,com.reactifyx.processor.InjectorProcessor",
+                "-d",
+                classes.toString()));
+        arguments.addAll(files);
+        if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IOException("Generated graph does not compile");
+        }
+    }
+
+    /** Creates a class loader on which none of the generated classes has been loaded yet. */
+    ClassLoader newClassLoader() throws IOException {
+        return new URLClassLoader(new URL[] {classes.toUri().toURL()}, GraphGenerator.class.getClassLoader());
+    }
+
+    private void write(String packageName, String name, String body) throws IOException {
+        Path directory = Files.createDirectories(sources.resolve(packageName.replace('.', '/')));
+        Path file = directory.resolve(name + ".java");
+        Files.write(file, ("package " + packageName + ";\n\n" + body).getBytes(StandardCharsets.UTF_8));
+        files.add(file.toString());
+    }
+}
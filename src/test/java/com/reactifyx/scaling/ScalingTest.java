@@ -0,0 +1,106 @@
+package com.reactifyx.scaling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Startup of generated graphs must grow roughly linearly: a graph eight times
+ * larger may take at most three times longer per bean, which still fails
+ * clearly for an O(n^2) path. Measuring time and allocation is sensitive to
+ * the machine, so the test only runs with the {@code scaling} Maven profile.
+ */
+@Tag("scaling")
+public class ScalingTest {
+    static final int SMALL = 100;
+    static final int LARGE = SMALL * 8;
+    static final int RUNS = 3;
+    static final double TOLERANCE = 3;
+
+    @TempDir
+    static Path directory;
+
+    static GraphGenerator generator;
+    static String smallMain;
+    static String largeMain;
+
+    @BeforeAll
+    static void generate() throws Exception {
+        generator = new GraphGenerator(directory);
+        smallMain = generator.add("com.reactifyx.generated.small", SMALL);
+        largeMain = generator.add("com.reactifyx.generated.large", LARGE);
+        generator.compile();
+    }
+
+    @Test
+    void testGeneratedGraphIsWired() throws Exception {
+        ReactifyIoC reactifyIoC = start(largeMain).ioc;
+        int expected = LARGE * 2
+                + (LARGE + GraphGenerator.FAN_OUT - 1) / GraphGenerator.FAN_OUT
+                + LARGE / 8 * (GraphGenerator.IMPLEMENTATIONS + 3);
+        assertEquals(expected, reactifyIoC.getStartupMetrics().getBeans().size());
+    }
+
+    @Test
+    void testStartupGrowsLinearly() throws Exception {
+        Startup small = best(smallMain);
+        Startup large = best(largeMain);
+        double growth = (double) LARGE / SMALL * TOLERANCE;
+        assertTrue(
+                large.nanos < small.nanos * growth,
+                "Startup took " + large.nanos + " ns for " + LARGE + " and " + small.nanos + " ns for " + SMALL);
+        assertTrue(
+                large.bytes < small.bytes * growth,
+                "Startup allocated " + large.bytes + " bytes for " + LARGE + " and " + small.bytes + " for " + SMALL);
+    }
+
+    /** Starts a graph several times, each on a fresh class loader, and keeps the fastest and smallest run. */
+    private static Startup best(String mainClass) throws Exception {
+        Startup best = null;
+        for (int i = 0; i < RUNS; i++) {
+            Startup startup = start(mainClass);
+            if (best == null) {
+                best = startup;
+            } else {
+                best.nanos = Math.min(best.nanos, startup.nanos);
+                best.bytes = Math.min(best.bytes, startup.bytes);
+            }
+        }
+        return best;
+    }
+
+    /** Starts a graph on the calling thread, so that its allocations can be measured. */
+    private static Startup start(String mainClass) throws Exception {
+        ClassLoader classLoader = generator.newClassLoader();
+        Class<?> main = Class.forName(mainClass, false, classLoader);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            Startup startup = new Startup();
+            long bytes = threads.getThreadAllocatedBytes(thread.getId());
+            long start = System.nanoTime();
+            startup.ioc = ReactifyIoC.initBeans(new IoCOptions().executor(Runnable::run), main);
+            startup.nanos = System.nanoTime() - start;
+            startup.bytes = threads.getThreadAllocatedBytes(thread.getId()) - bytes;
+            return startup;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    static final class Startup {
+        ReactifyIoC ioc;
+        long nanos;
+        long bytes;
+    }
+}
@@ -0,0 +1,178 @@
+package com.reactifyx.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.reactifyx.Component;
+import com.reactifyx.Configuration;
+import com.reactifyx.configbean.AnotherClientClass;
+import com.reactifyx.configbean.ClientClass;
+import com.reactifyx.configbean.configuration.AppConfiguration;
+import com.reactifyx.configbean.configuration.DbConfiguration;
+import com.reactifyx.multiple.Engine;
+import com.reactifyx.utils.ClassFileReader;
+import com.reactifyx.utils.ClassLoaderUtil;
+import com.reactifyx.utils.ScanCache;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClassPathScanTest {
+
+    private static final Set<String> STEREOTYPES = new HashSet<>(Arrays.asList(
+            ClassFileReader.descriptor(Component.class), ClassFileReader.descriptor(Configuration.class)));
+
+    @Test
+    void testReadAnnotationsFromBytes() throws IOException {
+        assertEquals(
+                ClientClass.class.getName(), ClassFileReader.annotatedClassName(bytes(ClientClass.class), STEREOTYPES));
+        assertNull(ClassFileReader.annotatedClassName(bytes(Engine.class), STEREOTYPES));
+        assertNull(ClassFileReader.annotatedClassName(
+                bytes(ClientClass.class), Collections.singleton(ClassFileReader.descriptor(Configuration.class))));
+    }
+
+    @Test
+    void testFindAnnotatedClasses() throws Exception {
+        List<Class<?>> classes = ClassLoaderUtil.findAnnotatedClasses(
+                "com.reactifyx.configbean",
+                Thread.currentThread().getContextClassLoader(),
+                Arrays.asList(Component.class, Configuration.class));
+        assertEquals(
+                new HashSet<>(Arrays.asList(
+                        AnotherClientClass.class, ClientClass.class, AppConfiguration.class, DbConfiguration.class)),
+                new HashSet<>(classes));
+    }
+
+    @Test
+    void testScanAllRootsOfSplitPackage(@TempDir Path temp) throws Exception {
+        Path directory = temp.resolve("classes");
+        Path file = directory.resolve(entryName(AnotherClientClass.class));
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes(AnotherClientClass.class));
+
+        Path plainJar = temp.resolve("plain.jar");
+        writeJar(plainJar, null, entryName(AppConfiguration.class), bytes(AppConfiguration.class));
+
+        Path innerJar = temp.resolve("inner.jar");
+        writeJar(innerJar, null, entryName(DbConfiguration.class), bytes(DbConfiguration.class));
+        Path outerJar = temp.resolve("outer.jar");
+        writeJar(outerJar, null, "BOOT-INF/lib/inner.jar", Files.readAllBytes(innerJar));
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(new Attributes.Name("Multi-Release"), "true");
+        Path multiReleaseJar = temp.resolve("multi-release.jar");
+        writeJar(
+                multiReleaseJar,
+                manifest,
+                "META-INF/versions/9/" + entryName(ClientClass.class),
+                bytes(ClientClass.class));
+
+        String path = "com/reactifyx/configbean";
+        List<URL> roots = Arrays.asList(
+                directory.resolve(path).toUri().toURL(),
+                new URL("jar:" + plainJar.toUri() + "!/" + path),
+                new URL("jar:" + outerJar.toUri() + "!/BOOT-INF/lib/inner.jar!/" + path),
+                new URL("jar:" + multiReleaseJar.toUri() + "!/" + path));
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) {
+                return Collections.enumeration(name.equals(path) ? roots : Collections.emptyList());
+            }
+        };
+
+        List<List<Class<?>>> classes = ClassLoaderUtil.findAnnotatedClasses(
+                Arrays.asList("com.reactifyx.configbean", "com.reactifyx.single"),
+                classLoader,
+                Arrays.asList(Component.class, Configuration.class));
+        assertEquals(
+                Arrays.asList(
+                        Arrays.asList(
+                                AnotherClientClass.class,
+                                ClientClass.class,
+                                AppConfiguration.class,
+                                DbConfiguration.class),
+                        Collections.emptyList()),
+                classes);
+    }
+
+    @Test
+    void testScanCacheRescansChangedRootsOnly(@TempDir Path temp) throws Exception {
+        Path directory = temp.resolve("classes");
+        Path file = directory.resolve(entryName(AnotherClientClass.class));
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes(AnotherClientClass.class));
+        Path jar = temp.resolve("app.jar");
+        writeJar(jar, null, entryName(AppConfiguration.class), bytes(AppConfiguration.class));
+
+        String path = "com/reactifyx/configbean";
+        List<URL> roots =
+                Arrays.asList(directory.resolve(path).toUri().toURL(), new URL("jar:" + jar.toUri() + "!/" + path));
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) {
+                return Collections.enumeration(name.equals(path) ? roots : Collections.emptyList());
+            }
+        };
+        Path cacheFile = temp.resolve("scan.cache");
+
+        ScanCache cache = ScanCache.load(cacheFile);
+        assertEquals(Arrays.asList(AnotherClientClass.class, AppConfiguration.class), scan(classLoader, cache));
+        assertEquals(2, cache.getMisses());
+        cache.save();
+
+        cache = ScanCache.load(cacheFile);
+        assertEquals(Arrays.asList(AnotherClientClass.class, AppConfiguration.class), scan(classLoader, cache));
+        assertEquals(2, cache.getHits());
+        assertEquals(0, cache.getMisses());
+
+        writeJar(jar, null, entryName(DbConfiguration.class), bytes(DbConfiguration.class));
+        cache = ScanCache.load(cacheFile);
+        assertEquals(Arrays.asList(AnotherClientClass.class, DbConfiguration.class), scan(classLoader, cache));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    private static List<Class<?>> scan(ClassLoader classLoader, ScanCache cache) throws Exception {
+        return ClassLoaderUtil.findAnnotatedClasses(
+                        Collections.singletonList("com.reactifyx.configbean"),
+                        classLoader,
+                        Arrays.asList(Component.class, Configuration.class),
+                        cache)
+                .get(0);
+    }
+
+    private static String entryName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    private static void writeJar(Path jar, Manifest manifest, String entryName, byte[] content) throws IOException {
+        try (JarOutputStream out = manifest == null
+                ? new JarOutputStream(Files.newOutputStream(jar))
+                : new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+            out.putNextEntry(new JarEntry(entryName));
+            out.write(content);
+            out.closeEntry();
+        }
+    }
+
+    private static byte[] bytes(Class<?> clazz) throws IOException {
+        try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            return in.readAllBytes();
+        }
+    }
+}
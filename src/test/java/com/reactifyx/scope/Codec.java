@@ -0,0 +1,8 @@
+package com.reactifyx.scope;
+
+import com.reactifyx.Component;
+import com.reactifyx.Pooled;
+
+@Pooled(max = 2, initial = 1)
+@Component
+public class Codec {}
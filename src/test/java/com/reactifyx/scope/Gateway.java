@@ -0,0 +1,17 @@
+package com.reactifyx.scope;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.core.BeanPool;
+
+@Component
+public class Gateway {
+    @Autowired
+    RequestParser first;
+
+    @Autowired
+    RequestParser second;
+
+    @Autowired
+    BeanPool<Codec> codecs;
+}
@@ -0,0 +1,8 @@
+package com.reactifyx.scope;
+
+import com.reactifyx.Component;
+import com.reactifyx.Scope;
+
+@Scope(Scope.PROTOTYPE)
+@Component
+public class RequestParser {}
@@ -0,0 +1,58 @@
+package com.reactifyx.scope;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.BeanHandle;
+import com.reactifyx.core.BeanPool;
+import com.reactifyx.core.ReactifyIoC;
+import com.reactifyx.exception.IoCException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.scope")
+public class ScopeTest {
+    static ReactifyIoC reactifyIoC;
+
+    @BeforeAll
+    static void init() {
+        reactifyIoC = ReactifyIoC.initBeans(ScopeTest.class);
+    }
+
+    @Test
+    void testPrototypeCreatesAnInstancePerLookup() {
+        Gateway gateway = reactifyIoC.getBean(Gateway.class);
+        assertNotNull(gateway.first);
+        assertNotSame(gateway.first, gateway.second);
+        assertNotSame(reactifyIoC.getBean(RequestParser.class), reactifyIoC.getBean(RequestParser.class));
+        BeanHandle<RequestParser> handle = reactifyIoC.handle(RequestParser.class);
+        assertNotSame(handle.get(), handle.get());
+    }
+
+    @Test
+    void testPoolReusesInstancesAndReportsStatistics() {
+        BeanPool<Codec> pool = reactifyIoC.getPool(Codec.class);
+        assertSame(pool, reactifyIoC.getBean(Gateway.class).codecs);
+        assertEquals(1, pool.getIdleCount());
+        assertThrows(IoCException.class, () -> reactifyIoC.getBean(Codec.class));
+
+        Codec first = pool.borrow();
+        Codec second = pool.borrow();
+        Codec third = pool.borrow();
+        assertEquals(3, pool.getActiveCount());
+        assertEquals(1, pool.getExhaustedCount());
+        assertEquals(3, pool.getCreatedCount());
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        assertEquals(2, pool.getSize());
+        assertEquals(3, pool.getBorrowCount());
+        assertNotNull(pool.borrow());
+        assertEquals(3, pool.getCreatedCount());
+    }
+}
@@ -0,0 +1,11 @@
+package com.reactifyx.shared;
+
+import com.reactifyx.Component;
+
+@Component
+public class FriendlyGreeter implements Greeter {
+    @Override
+    public String greet(String name) {
+        return "Hello, " + name;
+    }
+}
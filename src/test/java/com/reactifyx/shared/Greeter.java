@@ -0,0 +1,5 @@
+package com.reactifyx.shared;
+
+public interface Greeter {
+    String greet(String name);
+}
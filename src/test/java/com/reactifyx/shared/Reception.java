@@ -0,0 +1,10 @@
+package com.reactifyx.shared;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+
+@Component
+public class Reception {
+    @Autowired
+    Greeter greeter;
+}
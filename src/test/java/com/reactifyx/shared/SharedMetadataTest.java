@@ -0,0 +1,88 @@
+package com.reactifyx.shared;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.IoCOptions;
+import com.reactifyx.core.ReactifyIoC;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.shared")
+public class SharedMetadataTest {
+
+    @Test
+    void testContextsShareResolutionButNotBeans() throws Exception {
+        List<ReactifyIoC> contexts = new ArrayList<>();
+        List<String> sources = record(() -> {
+            for (int i = 0; i < 3; i++) {
+                contexts.add(ReactifyIoC.initBeans(shared(), SharedMetadataTest.class));
+            }
+            // Predefined beans change the resolution, so they are resolved apart
+            contexts.add(ReactifyIoC.initBeans(shared(), SharedMetadataTest.class, new Visitor()));
+            contexts.add(ReactifyIoC.initBeans(shared(), SharedMetadataTest.class, new Visitor()));
+            // Without the option every context resolves on its own
+            contexts.add(ReactifyIoC.initBeans(SharedMetadataTest.class));
+        });
+        assertEquals(6, sources.size());
+        assertEquals("shared", sources.get(1));
+        assertEquals("shared", sources.get(2));
+        assertEquals("shared", sources.get(4));
+        assertEquals("index", sources.get(5));
+
+        for (ReactifyIoC context : contexts) {
+            Reception reception = context.getBean(Reception.class);
+            assertSame(context.getBean(Greeter.class), reception.greeter);
+            assertEquals("Hello, Ann", reception.greeter.greet("Ann"));
+        }
+        assertNotSame(contexts.get(0).getBean(Reception.class), contexts.get(1).getBean(Reception.class));
+        assertNotSame(contexts.get(3).getBean(Visitor.class), contexts.get(4).getBean(Visitor.class));
+    }
+
+    @Test
+    void testOverrideReplacesBeanWithoutResolvingAgain() throws Exception {
+        ReactifyIoC.initBeans(shared(), SharedMetadataTest.class);
+        Greeter formal = name -> "Good day, " + name;
+        List<ReactifyIoC> contexts = new ArrayList<>();
+        List<String> sources = record(() -> contexts.add(
+                ReactifyIoC.initBeans(shared().override(Greeter.class, formal), SharedMetadataTest.class)));
+        assertEquals(Collections.singletonList("shared"), sources);
+        Reception reception = contexts.get(0).getBean(Reception.class);
+        assertSame(formal, reception.greeter);
+        assertSame(formal, contexts.get(0).getBean(Greeter.class));
+    }
+
+    private static IoCOptions shared() {
+        return new IoCOptions().sharedMetadata(true);
+    }
+
+    /** Runs the starts and returns where the classes of each came from. */
+    private static List<String> record(Runnable starts) throws Exception {
+        Path file = Files.createTempFile("reactifyx", ".jfr");
+        List<String> sources = new ArrayList<>();
+        try (Recording recording = new Recording()) {
+            recording.enable("com.reactifyx.Scan");
+            recording.start();
+            starts.run();
+            recording.stop();
+            recording.dump(file);
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals("com.reactifyx.Scan")) {
+                    sources.add(event.getString("source"));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        return sources;
+    }
+}
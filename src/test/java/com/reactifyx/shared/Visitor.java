@@ -0,0 +1,3 @@
+package com.reactifyx.shared;
+
+public class Visitor {}
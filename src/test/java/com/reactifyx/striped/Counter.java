@@ -0,0 +1,7 @@
+package com.reactifyx.striped;
+
+public interface Counter {
+    void increment();
+
+    long getCount();
+}
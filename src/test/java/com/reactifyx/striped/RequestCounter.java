@@ -0,0 +1,21 @@
+package com.reactifyx.striped;
+
+import com.reactifyx.Component;
+import com.reactifyx.Striped;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Striped(stripes = 4)
+@Component
+public class RequestCounter implements Counter {
+    private final AtomicLong count = new AtomicLong();
+
+    @Override
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    @Override
+    public long getCount() {
+        return count.get();
+    }
+}
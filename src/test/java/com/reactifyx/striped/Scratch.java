@@ -0,0 +1,5 @@
+package com.reactifyx.striped;
+
+public interface Scratch {
+    StringBuilder builder();
+}
@@ -0,0 +1,17 @@
+package com.reactifyx.striped;
+
+import com.reactifyx.Autowired;
+import com.reactifyx.Component;
+import com.reactifyx.core.StripedBean;
+
+@Component
+public class Service {
+    @Autowired
+    Counter counter;
+
+    @Autowired
+    StripedBean<RequestCounter> counters;
+
+    @Autowired
+    Scratch scratch;
+}
@@ -0,0 +1,59 @@
+package com.reactifyx.striped;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.reactifyx.ComponentScan;
+import com.reactifyx.core.ReactifyIoC;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@ComponentScan("com.reactifyx.striped")
+public class StripedTest {
+    static ReactifyIoC reactifyIoC;
+
+    @BeforeAll
+    static void init() {
+        reactifyIoC = ReactifyIoC.initBeans(StripedTest.class);
+    }
+
+    @Test
+    void testStripedCountersAggregate() throws InterruptedException {
+        Service service = reactifyIoC.getBean(Service.class);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    service.counter.increment();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4, service.counters.size());
+        assertSame(service.counters, reactifyIoC.getStriped(RequestCounter.class));
+        assertEquals(8000, service.counters.sum(RequestCounter::getCount));
+        assertEquals(8000L, service.counters.aggregate(RequestCounter::getCount, Long::sum));
+    }
+
+    @Test
+    void testThreadScopedBeanPerThread() throws InterruptedException {
+        Service service = reactifyIoC.getBean(Service.class);
+        StringBuilder mine = service.scratch.builder();
+        assertSame(mine, service.scratch.builder());
+        assertSame(mine, reactifyIoC.getBean(Scratch.class).builder());
+
+        AtomicReference<StringBuilder> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(service.scratch.builder()));
+        thread.start();
+        thread.join();
+        assertNotSame(mine, other.get());
+    }
+}
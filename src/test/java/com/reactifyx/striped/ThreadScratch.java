@@ -0,0 +1,15 @@
+package com.reactifyx.striped;
+
+import com.reactifyx.Component;
+import com.reactifyx.ThreadScoped;
+
+@ThreadScoped
+@Component
+public class ThreadScratch implements Scratch {
+    private final StringBuilder builder = new StringBuilder();
+
+    @Override
+    public StringBuilder builder() {
+        return builder;
+    }
+}